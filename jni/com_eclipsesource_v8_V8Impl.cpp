@@ -15,9 +15,24 @@
 #include <string.h>
 #include <v8-debug.h>
 #include <map>
+#include <set>
+#include <vector>
+#include <mutex>
 #include <cstdlib>
 #include "com_eclipsesource_v8_V8Impl.h"
 
+#if defined(_MSC_VER)
+  #define WIN32_LEAN_AND_MEAN
+  #define NOMINMAX
+  #include <windows.h>
+#else
+  #include <sys/mman.h>
+  #include <sys/stat.h>
+  #include <fcntl.h>
+  #include <unistd.h>
+  #include <pthread.h>
+#endif
+
 #ifdef NODE_COMPATIBLE
   #include <deps/uv/include/uv.h>
   #include <node.h>
@@ -38,6 +53,22 @@ public:
   jlong v8RuntimePtr;
 };
 
+class ExternalArrayBuffer {
+public:
+  ExternalArrayBuffer() : byteBuffer(NULL), data(NULL), v8RuntimePtr(0), byteLength(0), mappedBase(NULL), mappedLength(0) {
+  }
+
+  jobject byteBuffer;
+  void* data;
+  jlong v8RuntimePtr;
+  size_t byteLength;
+  void* mappedBase;
+  size_t mappedLength;
+  Persistent<Object> handle;
+};
+
+class PooledArrayBufferAllocator;
+
 class V8Runtime {
 public:
   Isolate* isolate;
@@ -46,6 +77,17 @@ public:
   Persistent<Object>* globalObject;
   jobject v8;
   jthrowable pendingException;
+  double heapLimitThreshold;
+  bool nearHeapLimitNotified;
+  bool nearHeapLimitCallbackAdded;
+  bool gcCallbacksEnabled;
+  bool gcCallbacksAdded;
+  double gcStartTime[4];
+  std::multimap<void*, ExternalArrayBuffer*> externalArrayBuffers;
+  int callDepth;
+  std::vector<Persistent<Object>*> pendingReleases;
+  PooledArrayBufferAllocator* arrayBufferAllocator;
+  Persistent<Function> jsonStringify;
 
 #ifdef NODE_COMPATIBLE
   node::Environment* nodeEnvironment;
@@ -55,6 +97,21 @@ public:
 
 };
 
+// Counts the native calls in progress on a runtime, handles are not deleted while an outer call may still use them
+class CallDepthScope {
+public:
+  explicit CallDepthScope(V8Runtime* runtime) : runtime(runtime) {
+    runtime->callDepth++;
+  }
+
+  ~CallDepthScope() {
+    runtime->callDepth--;
+  }
+
+private:
+  V8Runtime* runtime;
+};
+
 v8::Platform* v8Platform;
 
 const char* ToCString(const String::Utf8Value& value) {
@@ -67,6 +124,7 @@ jclass v8ObjectCls = NULL;
 jclass v8ArrayCls = NULL;
 jclass v8TypedArrayCls = NULL;
 jclass v8ArrayBufferCls = NULL;
+jclass v8SharedArrayBufferCls = NULL;
 jclass v8FunctionCls = NULL;
 jclass undefinedV8ObjectCls = NULL;
 jclass undefinedV8ArrayCls = NULL;
@@ -75,19 +133,26 @@ jclass v8ScriptCompilationCls = NULL;
 jclass v8ScriptExecutionException = NULL;
 jclass v8RuntimeExceptionCls = NULL;
 jclass throwableCls = NULL;
+jclass objectCls = NULL;
 jclass stringCls = NULL;
 jclass integerCls = NULL;
 jclass doubleCls = NULL;
 jclass booleanCls = NULL;
 jclass errorCls = NULL;
 jclass unsupportedOperationExceptionCls = NULL;
+jclass illegalArgumentExceptionCls = NULL;
+jclass ioExceptionCls = NULL;
+jclass byteBufferCls = NULL;
 jmethodID v8ArrayInitMethodID = NULL;
 jmethodID v8TypedArrayInitMethodID = NULL;
 jmethodID v8ArrayBufferInitMethodID = NULL;
+jmethodID v8SharedArrayBufferInitMethodID = NULL;
 jmethodID v8ArrayGetHandleMethodID = NULL;
 jmethodID v8CallVoidMethodID = NULL;
 jmethodID v8ObjectReleaseMethodID = NULL;
 jmethodID v8DisposeMethodID = NULL;
+jmethodID v8NotifyNearHeapLimitMethodID = NULL;
+jmethodID v8NotifyGCCompletedMethodID = NULL;
 jmethodID v8ArrayReleaseMethodID = NULL;
 jmethodID v8ObjectIsUndefinedMethodID = NULL;
 jmethodID v8ObjectGetHandleMethodID = NULL;
@@ -106,10 +171,13 @@ jmethodID booleanInitMethodID = NULL;
 jmethodID v8FunctionInitMethodID = NULL;
 jmethodID v8ObjectInitMethodID = NULL;
 jmethodID v8RuntimeExceptionInitMethodID = NULL;
+jmethodID byteBufferAllocateDirectMethodID = NULL;
+jmethodID bufferPositionMethodID = NULL;
 
 void throwParseException(JNIEnv *env, Isolate* isolate, TryCatch* tryCatch);
 void throwExecutionException(JNIEnv *env, Isolate* isolate, TryCatch* tryCatch, jlong v8RuntimePtr);
 void throwError(JNIEnv *env, const char *message);
+void throwIOException(JNIEnv *env, const char *message);
 void throwV8RuntimeException(JNIEnv *env,  String::Value *message);
 void throwResultUndefinedException(JNIEnv *env, const char *message);
 Isolate* getIsolate(JNIEnv *env, jlong handle);
@@ -122,6 +190,7 @@ jobject getResult(JNIEnv *env, jobject &v8, jlong v8RuntimePtr, Handle<Value> &r
                                 }\
     V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);\
     Locker locker(isolate);\
+    CallDepthScope callDepthScope(runtime);\
     Isolate::Scope isolateScope(isolate);\
     HandleScope handle_scope(isolate);\
     Local<Context> context = Local<Context>::New(isolate,runtime->context_);\
@@ -202,19 +271,215 @@ void getJNIEnv(JNIEnv*& env) {
   }
 }
 
+// External string resources that read the characters of a direct ByteBuffer in place.
+// The ByteBuffer is kept alive until V8 disposes the string.
+class ByteBufferOneByteStringResource : public String::ExternalOneByteStringResource {
+public:
+  ByteBufferOneByteStringResource(jobject byteBuffer, const char* data, size_t length)
+    : byteBuffer(byteBuffer), data_(data), length_(length) {
+  }
+
+  virtual const char* data() const {
+    return data_;
+  }
+
+  virtual size_t length() const {
+    return length_;
+  }
+
+  virtual void Dispose() {
+    JNIEnv * env;
+    getJNIEnv(env);
+    env->DeleteGlobalRef(byteBuffer);
+    delete this;
+  }
+
+private:
+  jobject byteBuffer;
+  const char* data_;
+  size_t length_;
+};
+
+class ByteBufferTwoByteStringResource : public String::ExternalStringResource {
+public:
+  ByteBufferTwoByteStringResource(jobject byteBuffer, const uint16_t* data, size_t length)
+    : byteBuffer(byteBuffer), data_(data), length_(length) {
+  }
+
+  virtual const uint16_t* data() const {
+    return data_;
+  }
+
+  virtual size_t length() const {
+    return length_;
+  }
+
+  virtual void Dispose() {
+    JNIEnv * env;
+    getJNIEnv(env);
+    env->DeleteGlobalRef(byteBuffer);
+    delete this;
+  }
+
+private:
+  jobject byteBuffer;
+  const uint16_t* data_;
+  size_t length_;
+};
+
+// Returns an empty handle and throws if the string cannot be created
+MaybeLocal<String> createExternalV8String(JNIEnv *env, Isolate *isolate, jobject &byteBuffer, jboolean oneByte, jint length) {
+  void* data = env->GetDirectBufferAddress(byteBuffer);
+  if (data == NULL) {
+    throwError(env, "ByteBuffer is not a direct buffer.");
+    return MaybeLocal<String>();
+  }
+  if (length == 0) {
+    return String::Empty(isolate);
+  }
+  MaybeLocal<String> result;
+  if (oneByte) {
+    ByteBufferOneByteStringResource* resource = new ByteBufferOneByteStringResource(env->NewGlobalRef(byteBuffer), static_cast<const char*>(data), length);
+    result = String::NewExternalOneByte(isolate, resource);
+    if (result.IsEmpty()) {
+      resource->Dispose();
+    }
+  } else {
+    ByteBufferTwoByteStringResource* resource = new ByteBufferTwoByteStringResource(env->NewGlobalRef(byteBuffer), static_cast<const uint16_t*>(data), length);
+    result = String::NewExternalTwoByte(isolate, resource);
+    if (result.IsEmpty()) {
+      resource->Dispose();
+    }
+  }
+  if (result.IsEmpty()) {
+    throwError(env, "String is too long.");
+  }
+  return result;
+}
+
 static void jsWindowObjectAccessor(Local<String> property,
   const PropertyCallbackInfo<Value>& info) {
   info.GetReturnValue().Set(info.GetIsolate()->GetCurrentContext()->Global());
 }
 
-class ShellArrayBufferAllocator : public v8::ArrayBuffer::Allocator {
+// An ArrayBuffer allocator that is owned by a single isolate. Small allocations are
+// rounded up to a power of two and recycled through per size class free lists, so
+// workloads that churn short-lived typed arrays avoid most calls to malloc and free.
+// Memory is only zeroed when V8 asks for initialized memory.
+class PooledArrayBufferAllocator : public v8::ArrayBuffer::Allocator {
  public:
+  explicit PooledArrayBufferAllocator(jlong limit) : limit(limit), liveBytes(0), pooledBytes(0),
+    totalAllocatedBytes(0), allocationCount(0), pooledAllocationCount(0), failedAllocationCount(0) {
+  }
+
+  virtual ~PooledArrayBufferAllocator() {
+    for (int i = 0; i < kSizeClassCount; i++) {
+      for (std::vector<void*>::iterator it = pools[i].begin(); it != pools[i].end(); ++it) {
+        free(*it);
+      }
+    }
+  }
+
   virtual void* Allocate(size_t length) {
     void* data = AllocateUninitialized(length);
     return data == NULL ? data : memset(data, 0, length);
   }
-  virtual void* AllocateUninitialized(size_t length) { return malloc(length); }
-  virtual void Free(void* data, size_t) { free(data); }
+
+  virtual void* AllocateUninitialized(size_t length) {
+    int sizeClass = getSizeClass(length);
+    {
+      std::lock_guard<std::mutex> lock(mutex);
+      if (limit > 0 && liveBytes + static_cast<jlong>(length) > limit) {
+        failedAllocationCount++;
+        return NULL;
+      }
+      liveBytes += length;
+      totalAllocatedBytes += length;
+      allocationCount++;
+      if (sizeClass >= 0 && !pools[sizeClass].empty()) {
+        void* data = pools[sizeClass].back();
+        pools[sizeClass].pop_back();
+        pooledBytes -= getSizeClassBytes(sizeClass);
+        pooledAllocationCount++;
+        return data;
+      }
+    }
+    void* data = malloc(sizeClass >= 0 ? getSizeClassBytes(sizeClass) : length);
+    if (data == NULL) {
+      std::lock_guard<std::mutex> lock(mutex);
+      liveBytes -= length;
+      failedAllocationCount++;
+    }
+    return data;
+  }
+
+  virtual void Free(void* data, size_t length) {
+    if (data == NULL) {
+      return;
+    }
+    int sizeClass = getSizeClass(length);
+    {
+      std::lock_guard<std::mutex> lock(mutex);
+      liveBytes -= length;
+      if (sizeClass >= 0 && pooledBytes + static_cast<jlong>(getSizeClassBytes(sizeClass)) <= kMaxPooledBytes) {
+        pools[sizeClass].push_back(data);
+        pooledBytes += getSizeClassBytes(sizeClass);
+        return;
+      }
+    }
+    free(data);
+  }
+
+  // Gives up an allocation whose ArrayBuffer was externalized, the memory must be freed with free()
+  void release(size_t length) {
+    std::lock_guard<std::mutex> lock(mutex);
+    liveBytes -= length;
+  }
+
+  void getStatistics(jlong* values) {
+    std::lock_guard<std::mutex> lock(mutex);
+    values[0] = liveBytes;
+    values[1] = pooledBytes;
+    values[2] = totalAllocatedBytes;
+    values[3] = allocationCount;
+    values[4] = pooledAllocationCount;
+    values[5] = failedAllocationCount;
+    values[6] = limit;
+  }
+
+ private:
+  static const int kMinSizeClassShift = 6;
+  static const int kSizeClassCount = 11;
+  static const jlong kMaxPooledBytes = 1024 * 1024;
+
+  // Returns the size class for the given length, or -1 if allocations of this length are not pooled
+  static int getSizeClass(size_t length) {
+#ifdef NODE_COMPATIBLE
+    // Node.js hands buffers allocated with malloc to V8, which frees them through this allocator
+    return -1;
+#else
+    for (int i = 0; i < kSizeClassCount; i++) {
+      if (length <= getSizeClassBytes(i)) {
+        return i;
+      }
+    }
+    return -1;
+#endif
+  }
+
+  static size_t getSizeClassBytes(int sizeClass) {
+    return static_cast<size_t>(1) << (sizeClass + kMinSizeClassShift);
+  }
+
+  std::mutex mutex;
+  std::vector<void*> pools[kSizeClassCount];
+  jlong limit;
+  jlong liveBytes;
+  jlong pooledBytes;
+  jlong totalAllocatedBytes;
+  jlong allocationCount;
+  jlong pooledAllocationCount;
+  jlong failedAllocationCount;
 };
 
 JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
@@ -238,9 +503,11 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     v8ArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Array"));
     v8TypedArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8TypedArray"));
     v8ArrayBufferCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8ArrayBuffer"));
+    v8SharedArrayBufferCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8SharedArrayBuffer"));
     v8FunctionCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Function"));
     undefinedV8ObjectCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Object$Undefined"));
     undefinedV8ArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Array$Undefined"));
+    objectCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Object"));
     stringCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/String"));
     integerCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Integer"));
     doubleCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Double"));
@@ -252,11 +519,15 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     v8RuntimeExceptionCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8RuntimeException"));
     errorCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Error"));
     unsupportedOperationExceptionCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/UnsupportedOperationException"));
+    illegalArgumentExceptionCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/IllegalArgumentException"));
+    ioExceptionCls = (jclass)env->NewGlobalRef((env)->FindClass("java/io/IOException"));
+    byteBufferCls = (jclass)env->NewGlobalRef((env)->FindClass("java/nio/ByteBuffer"));
 
     // Get all method IDs
     v8ArrayInitMethodID = env->GetMethodID(v8ArrayCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
 	v8TypedArrayInitMethodID = env->GetMethodID(v8TypedArrayCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
-    v8ArrayBufferInitMethodID = env->GetMethodID(v8ArrayBufferCls, "<init>", "(Lcom/eclipsesource/v8/V8;Ljava/nio/ByteBuffer;)V");
+    v8ArrayBufferInitMethodID = env->GetMethodID(v8ArrayBufferCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
+    v8SharedArrayBufferInitMethodID = env->GetMethodID(v8SharedArrayBufferCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
     v8ArrayGetHandleMethodID = env->GetMethodID(v8ArrayCls, "getHandle", "()J");
     v8CallVoidMethodID = (env)->GetMethodID(v8cls, "callVoidJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)V");
     v8ObjectReleaseMethodID = env->GetMethodID(v8ObjectCls, "release", "()V");
@@ -269,6 +540,8 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     doubleDoubleValueMethodID = env->GetMethodID(doubleCls, "doubleValue", "()D");
     v8CallObjectJavaMethodMethodID = (env)->GetMethodID(v8cls, "callObjectJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)Ljava/lang/Object;");
     v8DisposeMethodID = (env)->GetMethodID(v8cls, "disposeMethodID", "(J)V");
+    v8NotifyNearHeapLimitMethodID = (env)->GetMethodID(v8cls, "notifyNearHeapLimit", "(JJ)V");
+    v8NotifyGCCompletedMethodID = (env)->GetMethodID(v8cls, "notifyGCCompleted", "(IJ)V");
     v8ScriptCompilationInitMethodID = env->GetMethodID(v8ScriptCompilationCls, "<init>", "(Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;II)V");
     v8ScriptExecutionExceptionInitMethodID = env->GetMethodID(v8ScriptExecutionException, "<init>", "(Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;IILjava/lang/String;Ljava/lang/Throwable;)V");
     undefinedV8ArrayInitMethodID = env->GetMethodID(undefinedV8ArrayCls, "<init>", "()V");
@@ -279,6 +552,8 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     booleanInitMethodID = env->GetMethodID(booleanCls, "<init>", "(Z)V");
     v8FunctionInitMethodID = env->GetMethodID(v8FunctionCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
     v8ObjectInitMethodID = env->GetMethodID(v8ObjectCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
+    byteBufferAllocateDirectMethodID = env->GetStaticMethodID(byteBufferCls, "allocateDirect", "(I)Ljava/nio/ByteBuffer;");
+    bufferPositionMethodID = env->GetMethodID(env->FindClass("java/nio/Buffer"), "position", "(I)Ljava/nio/Buffer;");
 
     return JNI_VERSION_1_6;
 }
@@ -293,8 +568,6 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setFlags
     v8::V8::Initialize();
 }
 
-ShellArrayBufferAllocator array_buffer_allocator;
-
 #ifdef NODE_COMPATIBLE
 extern "C" {
 	void _register_async_wrap(void);
@@ -418,16 +691,256 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isRunning
  #endif
 }
 
+void nearHeapLimitCallback(Isolate* isolate, GCType type, GCCallbackFlags flags) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(isolate->GetData(0));
+  if (runtime == NULL || runtime->heapLimitThreshold <= 0) {
+    return;
+  }
+  HeapStatistics heapStatistics;
+  isolate->GetHeapStatistics(&heapStatistics);
+  double threshold = heapStatistics.heap_size_limit() * runtime->heapLimitThreshold;
+  if (heapStatistics.used_heap_size() < threshold) {
+    runtime->nearHeapLimitNotified = false;
+    return;
+  }
+  if (runtime->nearHeapLimitNotified) {
+    return;
+  }
+  JNIEnv * env;
+  getJNIEnv(env);
+  if (env->ExceptionCheck()) {
+    return;
+  }
+  runtime->nearHeapLimitNotified = true;
+  env->CallVoidMethod(runtime->v8, v8NotifyNearHeapLimitMethodID, static_cast<jlong>(heapStatistics.used_heap_size()), static_cast<jlong>(heapStatistics.heap_size_limit()));
+  if (env->ExceptionCheck()) {
+    // The GC cannot propagate Java exceptions, handlers are documented not to throw.
+    env->ExceptionClear();
+  }
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setNearHeapLimitThreshold
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jdouble threshold) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  // The callback stays registered and checks the threshold, the handler may change it while V8 iterates its callbacks
+  if (!runtime->nearHeapLimitCallbackAdded && threshold > 0) {
+    isolate->AddGCEpilogueCallback(nearHeapLimitCallback);
+    runtime->nearHeapLimitCallbackAdded = true;
+  }
+  runtime->heapLimitThreshold = threshold;
+  runtime->nearHeapLimitNotified = false;
+}
+
+int getGCTypeIndex(GCType type) {
+  switch (type) {
+    case kGCTypeScavenge: return 0;
+    case kGCTypeMarkSweepCompact: return 1;
+    case kGCTypeIncrementalMarking: return 2;
+    default: return 3;
+  }
+}
+
+void gcPrologueCallback(Isolate* isolate, GCType type, GCCallbackFlags flags) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(isolate->GetData(0));
+  if (!runtime->gcCallbacksEnabled) {
+    return;
+  }
+  runtime->gcStartTime[getGCTypeIndex(type)] = v8Platform->MonotonicallyIncreasingTime();
+}
+
+void gcEpilogueCallback(Isolate* isolate, GCType type, GCCallbackFlags flags) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(isolate->GetData(0));
+  if (!runtime->gcCallbacksEnabled) {
+    return;
+  }
+  double pauseTime = v8Platform->MonotonicallyIncreasingTime() - runtime->gcStartTime[getGCTypeIndex(type)];
+  JNIEnv * env;
+  getJNIEnv(env);
+  if (env->ExceptionCheck()) {
+    return;
+  }
+  env->CallVoidMethod(runtime->v8, v8NotifyGCCompletedMethodID, static_cast<jint>(type), static_cast<jlong>(pauseTime * 1000000000));
+  if (env->ExceptionCheck()) {
+    // The GC cannot propagate Java exceptions, handlers are documented not to throw.
+    env->ExceptionClear();
+  }
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setGCCallbacksEnabled
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jboolean enabled) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  if (isolate == NULL) {
+    return;
+  }
+  Locker locker(isolate);
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  // Handlers may be removed from within gcCompleted, V8 must not see its callback list change while it iterates it.
+  // The callbacks are added once and only check the flag afterwards.
+  if (enabled && !runtime->gcCallbacksAdded) {
+    isolate->AddGCPrologueCallback(gcPrologueCallback);
+    isolate->AddGCEpilogueCallback(gcEpilogueCallback);
+    runtime->gcCallbacksAdded = true;
+  }
+  runtime->gcCallbacksEnabled = enabled;
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1adjustExternalMemory
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong delta) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  if (isolate == NULL) {
+    return 0;
+  }
+  Locker locker(isolate);
+  return isolate->AdjustAmountOfExternalAllocatedMemory(delta);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferAllocatorStatistics
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray values) {
+  if (getIsolate(env, v8RuntimePtr) == NULL) {
+    return;
+  }
+  jlong fill[7];
+  reinterpret_cast<V8Runtime*>(v8RuntimePtr)->arrayBufferAllocator->getStatistics(fill);
+  env->SetLongArrayRegion(values, 0, 7, fill);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapStatistics
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray values) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  if (isolate == NULL) {
+    return;
+  }
+  Locker locker(isolate);
+  HeapStatistics heapStatistics;
+  isolate->GetHeapStatistics(&heapStatistics);
+  jlong fill[7];
+  fill[0] = heapStatistics.total_heap_size();
+  fill[1] = heapStatistics.total_heap_size_executable();
+  fill[2] = heapStatistics.total_physical_size();
+  fill[3] = heapStatistics.total_available_size();
+  fill[4] = heapStatistics.used_heap_size();
+  fill[5] = heapStatistics.heap_size_limit();
+  fill[6] = isolate->AdjustAmountOfExternalAllocatedMemory(0);
+  env->SetLongArrayRegion(values, 0, 7, fill);
+}
+
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1getHeapSpaceNames
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  if (isolate == NULL) {
+    return NULL;
+  }
+  Locker locker(isolate);
+  int size = static_cast<int>(isolate->NumberOfHeapSpaces());
+  jobjectArray result = env->NewObjectArray(size, stringCls, NULL);
+  for (int i = 0; i < size; i++) {
+    HeapSpaceStatistics heapSpaceStatistics;
+    isolate->GetHeapSpaceStatistics(&heapSpaceStatistics, i);
+    jstring name = env->NewStringUTF(heapSpaceStatistics.space_name());
+    env->SetObjectArrayElement(result, i, name);
+    env->DeleteLocalRef(name);
+  }
+  return result;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapSpaceStatistics
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray values) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  if (isolate == NULL) {
+    return;
+  }
+  Locker locker(isolate);
+  int size = static_cast<int>(isolate->NumberOfHeapSpaces());
+  int length = env->GetArrayLength(values) / 4;
+  if (length < size) {
+    size = length;
+  }
+  jlong* fill = new jlong[size * 4];
+  for (int i = 0; i < size; i++) {
+    HeapSpaceStatistics heapSpaceStatistics;
+    isolate->GetHeapSpaceStatistics(&heapSpaceStatistics, i);
+    fill[i * 4] = heapSpaceStatistics.space_size();
+    fill[i * 4 + 1] = heapSpaceStatistics.space_used_size();
+    fill[i * 4 + 2] = heapSpaceStatistics.space_available_size();
+    fill[i * 4 + 3] = heapSpaceStatistics.physical_space_size();
+  }
+  env->SetLongArrayRegion(values, 0, size * 4, fill);
+  delete[] fill;
+}
+
+// Space kept free at the end of the thread's stack for the guard pages and native frames below the JavaScript limit
+const uintptr_t kStackLimitMargin = 64 * 1024;
+
+// Returns the lowest address of the current thread's stack, or 0 if it cannot be determined
+uintptr_t getStackBottom() {
+#if defined(_MSC_VER)
+  MEMORY_BASIC_INFORMATION info;
+  if (VirtualQuery(&info, &info, sizeof(info)) == 0) {
+    return 0;
+  }
+  return reinterpret_cast<uintptr_t>(info.AllocationBase);
+#elif defined(__APPLE__)
+  pthread_t thread = pthread_self();
+  return reinterpret_cast<uintptr_t>(pthread_get_stackaddr_np(thread)) - pthread_get_stacksize_np(thread);
+#elif defined(__linux__)
+  pthread_attr_t attr;
+  if (pthread_getattr_np(pthread_self(), &attr) != 0) {
+    return 0;
+  }
+  void* address = NULL;
+  size_t size = 0;
+  int result = pthread_attr_getstack(&attr, &address, &size);
+  pthread_attr_destroy(&attr);
+  return result == 0 ? reinterpret_cast<uintptr_t>(address) : 0;
+#else
+  return 0;
+#endif
+}
+
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
- (JNIEnv *env, jobject v8, jstring globalAlias) {
+ (JNIEnv *env, jobject v8, jstring globalAlias, jint maxSemiSpaceSize, jint maxOldSpaceSize,
+  jint maxExecutableSize, jint codeRangeSize, jint stackSize, jint maxArrayBufferMemory) {
   V8Runtime* runtime = new V8Runtime();
+  runtime->callDepth = 0;
   v8::Isolate::CreateParams create_params;
-  create_params.array_buffer_allocator = &array_buffer_allocator;
+  runtime->arrayBufferAllocator = new PooledArrayBufferAllocator(static_cast<jlong>(maxArrayBufferMemory) * 1024 * 1024);
+  create_params.array_buffer_allocator = runtime->arrayBufferAllocator;
+  if (maxSemiSpaceSize > 0) {
+    create_params.constraints.set_max_semi_space_size(maxSemiSpaceSize);
+  }
+  if (maxOldSpaceSize > 0) {
+    create_params.constraints.set_max_old_space_size(maxOldSpaceSize);
+  }
+  if (maxExecutableSize > 0) {
+    create_params.constraints.set_max_executable_size(maxExecutableSize);
+  }
+  if (codeRangeSize > 0) {
+    create_params.constraints.set_code_range_size(codeRangeSize);
+  }
+  if (stackSize > 0) {
+    // The stack grows down, the limit is relative to the current position on the creating thread
+    uint32_t stackPosition;
+    uintptr_t position = reinterpret_cast<uintptr_t>(&stackPosition);
+    uintptr_t size = static_cast<uintptr_t>(stackSize) * 1024;
+    // A limit beyond the end of the thread's stack would turn a stack overflow into a crash
+    uintptr_t stackBottom = getStackBottom();
+    if ((stackBottom != 0) && (position > stackBottom + kStackLimitMargin) && (size > position - stackBottom - kStackLimitMargin)) {
+      size = position - stackBottom - kStackLimitMargin;
+    }
+    uintptr_t stackLimit = size < position ? position - size : 0;
+    create_params.constraints.set_stack_limit(reinterpret_cast<uint32_t*>(stackLimit));
+  }
   runtime->isolate = v8::Isolate::New(create_params);
+  runtime->isolate->SetData(0, runtime);
   Locker locker(runtime->isolate);
   runtime->isolate_scope = new Isolate::Scope(runtime->isolate);
   runtime->v8 = env->NewGlobalRef(v8);
   runtime->pendingException = NULL;
+  runtime->heapLimitThreshold = 0;
+  runtime->nearHeapLimitNotified = false;
+  runtime->nearHeapLimitCallbackAdded = false;
+  runtime->gcCallbacksEnabled = false;
+  runtime->gcCallbacksAdded = false;
   HandleScope handle_scope(runtime->isolate);
   Handle<ObjectTemplate> globalObject = ObjectTemplate::New();
   if (globalAlias == NULL) {
@@ -444,6 +957,13 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
     runtime->globalObject = new Persistent<Object>;
     runtime->globalObject->Reset(runtime->isolate, context->Global()->GetPrototype()->ToObject());
   }
+  {
+    // Keep the original JSON.stringify, scripts may replace the global JSON object
+    Local<Context> context = Local<Context>::New(runtime->isolate, runtime->context_);
+    Context::Scope context_scope(context);
+    Local<Object> json = context->Global()->Get(String::NewFromUtf8(runtime->isolate, "JSON"))->ToObject();
+    runtime->jsonStringify.Reset(runtime->isolate, Local<Function>::Cast(json->Get(String::NewFromUtf8(runtime->isolate, "stringify"))));
+  }
   return reinterpret_cast<jlong>(runtime);
 }
 
@@ -479,11 +999,19 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Array
   return reinterpret_cast<jlong>(container);
 }
 
+template <typename T>
+Local<T> newTypedArray(Isolate* isolate, jlong bufferHandle, jint offset, jint length) {
+  Handle<Object> buffer = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(bufferHandle));
+  if (buffer->IsSharedArrayBuffer()) {
+    return T::New(Handle<SharedArrayBuffer>::Cast(buffer), offset, length);
+  }
+  return T::New(Handle<ArrayBuffer>::Cast(buffer), offset, length);
+}
+
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int8Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Int8Array> array = Int8Array::New(arrayBuffer, offset, length);
+  Local<Int8Array> array = newTypedArray<Int8Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -492,8 +1020,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int8Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Uint8Array> array = Uint8Array::New(arrayBuffer, offset, length);
+  Local<Uint8Array> array = newTypedArray<Uint8Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -502,8 +1029,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8ClampedArray
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Uint8ClampedArray> array = Uint8ClampedArray::New(arrayBuffer, offset, length);
+  Local<Uint8ClampedArray> array = newTypedArray<Uint8ClampedArray>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -512,8 +1038,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8ClampedArra
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int32Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Int32Array> array = Int32Array::New(arrayBuffer, offset, length);
+  Local<Int32Array> array = newTypedArray<Int32Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -522,8 +1047,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int32Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt32Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Uint32Array> array = Uint32Array::New(arrayBuffer, offset, length);
+  Local<Uint32Array> array = newTypedArray<Uint32Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -532,8 +1056,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt32Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt16Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Uint16Array> array = Uint16Array::New(arrayBuffer, offset, length);
+  Local<Uint16Array> array = newTypedArray<Uint16Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -542,8 +1065,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt16Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int16Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Int16Array> array = Int16Array::New(arrayBuffer, offset, length);
+  Local<Int16Array> array = newTypedArray<Int16Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -552,8 +1074,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int16Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Float32Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Float32Array> array = Float32Array::New(arrayBuffer, offset, length);
+  Local<Float32Array> array = newTypedArray<Float32Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -562,8 +1083,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Float32Array
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Float64Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint offset, jint length) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
-  Local<Float64Array> array = Float64Array::New(arrayBuffer, offset, length);
+  Local<Float64Array> array = newTypedArray<Float64Array>(isolate, bufferHandle, offset, length);
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
@@ -573,20 +1093,257 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ArrayBuffer
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jint capacity) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
   Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, capacity);
+  if (capacity > 0 && arrayBuffer->GetContents().Data() == NULL) {
+    // The allocator refused the memory, V8 hands out an ArrayBuffer without a backing store
+    Local<String> string = String::NewFromUtf8(isolate, "Array buffer allocation failed.");
+    v8::String::Value strValue(string);
+    throwV8RuntimeException(env, &strValue);
+    return 0;
+  }
   Persistent<Object>* container = new Persistent<Object>;
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, arrayBuffer);
   return reinterpret_cast<jlong>(container);
 }
 
+// Maps a region of a file copy-on-write. The file is only opened for reading, pages are
+// loaded on demand and shared with the page cache until they are written to.
+void* mapFileRegion(JNIEnv* env, jstring fileName, jlong position, jint size, void*& mappedBase, size_t& mappedLength) {
+#if defined(_MSC_VER)
+  SYSTEM_INFO systemInfo;
+  GetSystemInfo(&systemInfo);
+  jlong offset = position - (position % systemInfo.dwAllocationGranularity);
+  mappedLength = static_cast<size_t>(position - offset) + size;
+  jsize length = env->GetStringLength(fileName);
+  std::vector<wchar_t> path(length + 1, 0);
+  env->GetStringRegion(fileName, 0, length, reinterpret_cast<jchar*>(&path[0]));
+  HANDLE file = CreateFileW(&path[0], GENERIC_READ, FILE_SHARE_READ | FILE_SHARE_WRITE | FILE_SHARE_DELETE, NULL, OPEN_EXISTING, FILE_ATTRIBUTE_NORMAL, NULL);
+  if (file == INVALID_HANDLE_VALUE) {
+    throwIOException(env, "Cannot open file.");
+    return NULL;
+  }
+  LARGE_INTEGER fileSize;
+  if (!GetFileSizeEx(file, &fileSize) || (position + size > fileSize.QuadPart)) {
+    CloseHandle(file);
+    throwIOException(env, "Region exceeds the end of the file.");
+    return NULL;
+  }
+  HANDLE mapping = CreateFileMappingW(file, NULL, PAGE_WRITECOPY, 0, 0, NULL);
+  CloseHandle(file);
+  if (mapping == NULL) {
+    throwIOException(env, "Cannot map file.");
+    return NULL;
+  }
+  mappedBase = MapViewOfFile(mapping, FILE_MAP_COPY, static_cast<DWORD>(offset >> 32), static_cast<DWORD>(offset & 0xFFFFFFFF), mappedLength);
+  CloseHandle(mapping);
+  if (mappedBase == NULL) {
+    throwIOException(env, "Cannot map file.");
+    return NULL;
+  }
+#else
+  jlong offset = position - (position % sysconf(_SC_PAGESIZE));
+  mappedLength = static_cast<size_t>(position - offset) + size;
+  const char* path = env->GetStringUTFChars(fileName, NULL);
+  int fd = open(path, O_RDONLY);
+  env->ReleaseStringUTFChars(fileName, path);
+  if (fd < 0) {
+    throwIOException(env, "Cannot open file.");
+    return NULL;
+  }
+  struct stat fileStat;
+  if ((fstat(fd, &fileStat) != 0) || (position + size > fileStat.st_size)) {
+    close(fd);
+    throwIOException(env, "Region exceeds the end of the file.");
+    return NULL;
+  }
+  mappedBase = mmap(NULL, mappedLength, PROT_READ | PROT_WRITE, MAP_PRIVATE, fd, static_cast<off_t>(offset));
+  close(fd);
+  if (mappedBase == MAP_FAILED) {
+    mappedBase = NULL;
+    throwIOException(env, "Cannot map file.");
+    return NULL;
+  }
+#endif
+  return static_cast<char*>(mappedBase) + (position - offset);
+}
+
+void unmapFileRegion(void* mappedBase, size_t mappedLength) {
+#if defined(_MSC_VER)
+  UnmapViewOfFile(mappedBase);
+#else
+  munmap(mappedBase, mappedLength);
+#endif
+}
+
+void releaseExternalArrayBuffer(JNIEnv* env, ExternalArrayBuffer* externalArrayBuffer) {
+  if (externalArrayBuffer->mappedBase != NULL) {
+    unmapFileRegion(externalArrayBuffer->mappedBase, externalArrayBuffer->mappedLength);
+  } else if (externalArrayBuffer->byteBuffer != NULL) {
+    env->DeleteGlobalRef(externalArrayBuffer->byteBuffer);
+  } else {
+    free(externalArrayBuffer->data);
+  }
+  delete(externalArrayBuffer);
+}
+
+// Buffers are keyed by their backing store, the same memory can be wrapped more than once
+void eraseExternalArrayBuffer(jlong v8RuntimePtr, ExternalArrayBuffer* externalArrayBuffer) {
+  std::multimap<void*, ExternalArrayBuffer*>& externalArrayBuffers = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->externalArrayBuffers;
+  std::pair<std::multimap<void*, ExternalArrayBuffer*>::iterator, std::multimap<void*, ExternalArrayBuffer*>::iterator> range = externalArrayBuffers.equal_range(externalArrayBuffer->data);
+  for (std::multimap<void*, ExternalArrayBuffer*>::iterator it = range.first; it != range.second; ++it) {
+    if (it->second == externalArrayBuffer) {
+      externalArrayBuffers.erase(it);
+      return;
+    }
+  }
+}
+
+// The buffer does not own the memory, keep it alive until the buffer is collected
+void trackExternalArrayBuffer(Isolate* isolate, jlong v8RuntimePtr, ExternalArrayBuffer* externalArrayBuffer, Local<Object> buffer) {
+  externalArrayBuffer->v8RuntimePtr = v8RuntimePtr;
+  externalArrayBuffer->handle.Reset(isolate, buffer);
+  externalArrayBuffer->handle.SetWeak(externalArrayBuffer, [](v8::WeakCallbackInfo<ExternalArrayBuffer> const& data) {
+    ExternalArrayBuffer* externalArrayBuffer = data.GetParameter();
+    externalArrayBuffer->handle.Reset();
+    eraseExternalArrayBuffer(externalArrayBuffer->v8RuntimePtr, externalArrayBuffer);
+    data.GetIsolate()->AdjustAmountOfExternalAllocatedMemory(-static_cast<int64_t>(externalArrayBuffer->byteLength));
+    JNIEnv * env;
+    getJNIEnv(env);
+    releaseExternalArrayBuffer(env, externalArrayBuffer);
+  }, WeakCallbackType::kParameter);
+  reinterpret_cast<V8Runtime*>(v8RuntimePtr)->externalArrayBuffers.insert(std::make_pair(externalArrayBuffer->data, externalArrayBuffer));
+  isolate->AdjustAmountOfExternalAllocatedMemory(externalArrayBuffer->byteLength);
+}
+
+void untrackExternalArrayBuffer(Isolate* isolate, jlong v8RuntimePtr, ExternalArrayBuffer* externalArrayBuffer) {
+  externalArrayBuffer->handle.Reset();
+  eraseExternalArrayBuffer(v8RuntimePtr, externalArrayBuffer);
+  isolate->AdjustAmountOfExternalAllocatedMemory(-static_cast<int64_t>(externalArrayBuffer->byteLength));
+}
+
+ExternalArrayBuffer* findExternalArrayBuffer(jlong v8RuntimePtr, Handle<ArrayBuffer> buffer) {
+  std::multimap<void*, ExternalArrayBuffer*>& externalArrayBuffers = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->externalArrayBuffers;
+  std::pair<std::multimap<void*, ExternalArrayBuffer*>::iterator, std::multimap<void*, ExternalArrayBuffer*>::iterator> range = externalArrayBuffers.equal_range(buffer->GetContents().Data());
+  for (std::multimap<void*, ExternalArrayBuffer*>::iterator it = range.first; it != range.second; ++it) {
+    if (it->second->handle == buffer) {
+      return it->second;
+    }
+  }
+  return NULL;
+}
+
+jlong createExternalArrayBufferHandle(JNIEnv *env, Isolate* isolate, jlong v8RuntimePtr, Local<Object> buffer, jobject byteBuffer, void* data, jint capacity) {
+  ExternalArrayBuffer* externalArrayBuffer = new ExternalArrayBuffer();
+  externalArrayBuffer->byteBuffer = env->NewGlobalRef(byteBuffer);
+  externalArrayBuffer->data = data;
+  externalArrayBuffer->byteLength = capacity;
+  trackExternalArrayBuffer(isolate, v8RuntimePtr, externalArrayBuffer, buffer);
+  Persistent<Object>* container = new Persistent<Object>;
+  container->Reset(isolate, buffer);
+  return reinterpret_cast<jlong>(container);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ExternalArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jobject byteBuffer, jint capacity) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  void* data = env->GetDirectBufferAddress(byteBuffer);
+  if (data == NULL) {
+    throwError(env, "ByteBuffer is not a direct buffer.");
+    return 0;
+  }
+  Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, data, capacity, ArrayBufferCreationMode::kExternalized);
+  return createExternalArrayBufferHandle(env, isolate, v8RuntimePtr, arrayBuffer, byteBuffer, data, capacity);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8SharedArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jobject byteBuffer, jint capacity) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  void* data = env->GetDirectBufferAddress(byteBuffer);
+  if (data == NULL) {
+    throwError(env, "ByteBuffer is not a direct buffer.");
+    return 0;
+  }
+  Local<SharedArrayBuffer> sharedArrayBuffer = SharedArrayBuffer::New(isolate, data, capacity, ArrayBufferCreationMode::kExternalized);
+  return createExternalArrayBufferHandle(env, isolate, v8RuntimePtr, sharedArrayBuffer, byteBuffer, data, capacity);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8MappedArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jstring fileName, jlong position, jint size) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  void* mappedBase = NULL;
+  size_t mappedLength = 0;
+  void* data = mapFileRegion(env, fileName, position, size, mappedBase, mappedLength);
+  if (data == NULL) {
+    return 0;
+  }
+  Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, data, size, ArrayBufferCreationMode::kExternalized);
+  ExternalArrayBuffer* externalArrayBuffer = new ExternalArrayBuffer();
+  externalArrayBuffer->data = data;
+  externalArrayBuffer->byteLength = size;
+  externalArrayBuffer->mappedBase = mappedBase;
+  externalArrayBuffer->mappedLength = mappedLength;
+  trackExternalArrayBuffer(isolate, v8RuntimePtr, externalArrayBuffer, arrayBuffer);
+  Persistent<Object>* container = new Persistent<Object>;
+  container->Reset(isolate, arrayBuffer);
+  return reinterpret_cast<jlong>(container);
+}
+
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1createV8ArrayBufferBackingStore
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jint capacity) {
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(objectHandle));
-  void* dataPtr = arrayBuffer->GetContents().Data();
-  jobject byteBuffer = env->NewDirectByteBuffer(arrayBuffer->GetContents().Data(), capacity);
+  Handle<Value> buffer = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  if (buffer->IsSharedArrayBuffer()) {
+    Handle<SharedArrayBuffer> sharedArrayBuffer = Handle<SharedArrayBuffer>::Cast(buffer);
+    return env->NewDirectByteBuffer(sharedArrayBuffer->GetContents().Data(), sharedArrayBuffer->ByteLength());
+  }
+  Handle<ArrayBuffer> arrayBuffer = Handle<ArrayBuffer>::Cast(buffer);
+  jobject byteBuffer = env->NewDirectByteBuffer(arrayBuffer->GetContents().Data(), arrayBuffer->ByteLength());
   return byteBuffer;
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1transferArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong targetRuntimePtr, jlong targetHandle) {
+  ExternalArrayBuffer* externalArrayBuffer = NULL;
+  void* data = NULL;
+  size_t byteLength = 0;
+  {
+    Isolate* isolate = SETUP(env, v8RuntimePtr, );
+    Handle<Value> buffer = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+    if (buffer->IsSharedArrayBuffer() || !buffer->IsArrayBuffer()) {
+      throwError(env, "Only ArrayBuffers can be transferred.");
+      return;
+    }
+    Handle<ArrayBuffer> arrayBuffer = Handle<ArrayBuffer>::Cast(buffer);
+    if (!arrayBuffer->IsNeuterable()) {
+      throwError(env, "ArrayBuffer cannot be detached.");
+      return;
+    }
+    if (arrayBuffer->IsExternal()) {
+      // Only memory owned by this runtime can be handed over, the tracking moves with it
+      externalArrayBuffer = findExternalArrayBuffer(v8RuntimePtr, arrayBuffer);
+      if (externalArrayBuffer == NULL) {
+        throwError(env, "ArrayBuffer memory is not owned by this runtime.");
+        return;
+      }
+      untrackExternalArrayBuffer(isolate, v8RuntimePtr, externalArrayBuffer);
+    } else {
+      byteLength = arrayBuffer->ByteLength();
+      data = arrayBuffer->Externalize().Data();
+      runtime->arrayBufferAllocator->release(byteLength);
+    }
+    arrayBuffer->Neuter();
+  }
+  Isolate* isolate = SETUP(env, targetRuntimePtr, );
+  if (externalArrayBuffer == NULL) {
+    externalArrayBuffer = new ExternalArrayBuffer();
+    externalArrayBuffer->byteBuffer = NULL;
+    externalArrayBuffer->data = data;
+    externalArrayBuffer->byteLength = byteLength;
+  }
+  Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, externalArrayBuffer->data, externalArrayBuffer->byteLength, ArrayBufferCreationMode::kExternalized);
+  trackExternalArrayBuffer(isolate, targetRuntimePtr, externalArrayBuffer, arrayBuffer);
+  reinterpret_cast<Persistent<Object>*>(targetHandle)->Reset(isolate, arrayBuffer);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
   if (v8RuntimePtr == 0) {
@@ -599,6 +1356,31 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
   delete(reinterpret_cast<Persistent<Object>*>(objectHandle));
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseHandles
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray jobjectHandles, jint length) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HandleScope handle_scope(isolate);
+  std::vector<jlong> objectHandles(length + 1);
+  env->GetLongArrayRegion(jobjectHandles, 0, length, objectHandles.data());
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  for (int i = 0; i < length; i++) {
+    runtime->pendingReleases.push_back(reinterpret_cast<Persistent<Object>*>(objectHandles[i]));
+  }
+  // Called from a callback or while a result is created, an outer native call may still use the handles
+  if (runtime->callDepth > 0) {
+    return;
+  }
+  for (std::vector<Persistent<Object>*>::iterator it = runtime->pendingReleases.begin(); it != runtime->pendingReleases.end(); ++it) {
+    (*it)->Reset();
+    delete(*it);
+  }
+  runtime->pendingReleases.clear();
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
   (JNIEnv * env, jobject, jlong v8RuntimePtr) {
 	if (v8RuntimePtr == 0) {
@@ -609,6 +1391,19 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
 	return;
 }
 
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1idleNotificationDeadline
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong deadlineInMillis) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  double deadlineInSeconds = v8Platform->MonotonicallyIncreasingTime() + (static_cast<double>(deadlineInMillis) / 1000);
+  return isolate->IdleNotificationDeadline(deadlineInSeconds);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1lowMemoryNotification
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  isolate->LowMemoryNotification();
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   if (v8RuntimePtr == 0) {
@@ -616,9 +1411,27 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
   }
   Isolate* isolate = getIsolate(env, v8RuntimePtr);
   //HandleScope handle_scope(isolate);
+  {
+    // Weak callbacks are not invoked when the isolate is disposed, release the remaining ByteBuffers and transferred memory
+    Locker locker(isolate);
+    std::multimap<void*, ExternalArrayBuffer*>& externalArrayBuffers = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->externalArrayBuffers;
+    for (std::multimap<void*, ExternalArrayBuffer*>::iterator it = externalArrayBuffers.begin(); it != externalArrayBuffers.end(); ++it) {
+      it->second->handle.Reset();
+      releaseExternalArrayBuffer(env, it->second);
+    }
+    externalArrayBuffers.clear();
+    std::vector<Persistent<Object>*>& pendingReleases = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->pendingReleases;
+    for (std::vector<Persistent<Object>*>::iterator it = pendingReleases.begin(); it != pendingReleases.end(); ++it) {
+      (*it)->Reset();
+      delete(*it);
+    }
+    pendingReleases.clear();
+  }
+  reinterpret_cast<V8Runtime*>(v8RuntimePtr)->jsonStringify.Reset();
   reinterpret_cast<V8Runtime*>(v8RuntimePtr)->context_.Reset();
   delete(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate_scope);
   reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate->Dispose();
+  delete(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->arrayBufferAllocator);
   env->DeleteGlobalRef(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->v8);
   V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
   delete(reinterpret_cast<V8Runtime*>(v8RuntimePtr));
@@ -653,8 +1466,7 @@ ScriptOrigin* createScriptOrigin(JNIEnv * env, Isolate* isolate, jstring &jscrip
   return new ScriptOrigin(scriptName, Integer::New(isolate, jlineNumber));
 }
 
-bool compileScript(Isolate *isolate, jstring &jscript, JNIEnv *env, jstring jscriptName, jint &jlineNumber, Local<Script> &script, TryCatch* tryCatch) {
-  Local<String> source = createV8String(env, isolate, jscript);
+bool compileScript(Isolate *isolate, Local<String> source, JNIEnv *env, jstring jscriptName, jint &jlineNumber, Local<Script> &script, TryCatch* tryCatch) {
   ScriptOrigin* scriptOriginPtr = NULL;
   if (jscriptName != NULL) {
     scriptOriginPtr = createScriptOrigin(env, isolate, jscriptName, jlineNumber);
@@ -670,6 +1482,11 @@ bool compileScript(Isolate *isolate, jstring &jscript, JNIEnv *env, jstring jscr
   return true;
 }
 
+bool compileScript(Isolate *isolate, jstring &jscript, JNIEnv *env, jstring jscriptName, jint &jlineNumber, Local<Script> &script, TryCatch* tryCatch) {
+  Local<String> source = createV8String(env, isolate, jscript);
+  return compileScript(isolate, source, env, jscriptName, jlineNumber, script, tryCatch);
+}
+
 bool runScript(Isolate* isolate, JNIEnv *env, Local<Script> *script, TryCatch* tryCatch, jlong v8RuntimePtr) {
   (*script)->Run();
   if (tryCatch->HasCaught()) {
@@ -688,6 +1505,24 @@ bool runScript(Isolate* isolate, JNIEnv *env, Local<Script> *script, TryCatch* t
   return true;
 }
 
+// Writes the string as UTF-8 at the position of the buffer, or into a new buffer if it does not fit
+jobject writeUtf8(JNIEnv *env, Local<String> string, jobject output, jint position, jint limit) {
+  int length = string->Utf8Length();
+  if ((output == NULL) || (length > limit - position)) {
+    jint capacity = output == NULL ? 0 : static_cast<jint>(env->GetDirectBufferCapacity(output));
+    jint newCapacity = ((capacity > 0x3FFFFFFF) || (length > capacity * 2)) ? length : capacity * 2;
+    output = env->CallStaticObjectMethod(byteBufferCls, byteBufferAllocateDirectMethodID, newCapacity);
+    if (output == NULL) {
+      return NULL;
+    }
+    position = 0;
+  }
+  char* data = static_cast<char*>(env->GetDirectBufferAddress(output));
+  string->WriteUtf8(data + position, length, NULL, String::NO_NULL_TERMINATION | String::REPLACE_INVALID_UTF8);
+  env->DeleteLocalRef(env->CallObjectMethod(output, bufferPositionMethodID, position + length));
+  return output;
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
 (JNIEnv * env, jobject v8, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName = NULL, jint jlineNumber = 0) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
@@ -741,6 +1576,20 @@ JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringScript
   return env->NewString(*unicodeString, unicodeString.length());
 }
 
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeUtf8Script
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName, jint jlineNumber, jobject output, jint position, jint limit) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  TryCatch tryCatch;
+  Local<Script> script;
+  Local<Value> result;
+  if (!compileScript(isolate, jjstring, env, jscriptName, jlineNumber, script, &tryCatch))
+    return NULL;
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr))
+    return NULL;
+  ASSERT_IS_STRING(result);
+  return writeUtf8(env, result->ToString(), output, position, limit);
+}
+
 JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1executeIntegerScript
 (JNIEnv * env, jobject v8, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName = NULL, jint jlineNumber = 0) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
@@ -766,6 +1615,94 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeScript
   return getResult(env, v8, v8RuntimePtr, result, expectedType);
 }
 
+// Removes the pending Java exception, so it can be reported as the result of a batch item
+jobject takeException(JNIEnv *env) {
+  jthrowable exception = env->ExceptionOccurred();
+  env->ExceptionClear();
+  return exception;
+}
+
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1executeScripts
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jobjectArray jscripts, jobjectArray jscriptNames, jintArray jlineNumbers) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  jsize size = env->GetArrayLength(jscripts);
+  std::vector<jint> lineNumbers(size + 1);
+  env->GetIntArrayRegion(jlineNumbers, 0, size, lineNumbers.data());
+  jobjectArray results = env->NewObjectArray(size, objectCls, NULL);
+  jobject failure = NULL;
+  for (jsize i = 0; i < size; i++) {
+    jobject item = failure;
+    if (item == NULL) {
+      HandleScope itemScope(isolate);
+      jstring jscript = (jstring) env->GetObjectArrayElement(jscripts, i);
+      jstring jscriptName = (jstring) env->GetObjectArrayElement(jscriptNames, i);
+      TryCatch tryCatch;
+      Local<Script> script;
+      Local<Value> result;
+      if (compileScript(isolate, jscript, env, jscriptName, lineNumbers[i], script, &tryCatch)
+          && runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr)) {
+        item = getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+      } else {
+        item = takeException(env);
+        if (!tryCatch.CanContinue()) {
+          failure = item;
+        }
+      }
+      env->DeleteLocalRef(jscript);
+      env->DeleteLocalRef(jscriptName);
+    }
+    env->SetObjectArrayElement(results, i, item);
+    if (item != failure) {
+      env->DeleteLocalRef(item);
+    }
+  }
+  return results;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeExternalScript
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jobject jscript, jboolean oneByte, jint length, jstring jscriptName, jint jlineNumber) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Local<String> source;
+  if (!createExternalV8String(env, isolate, jscript, oneByte, length).ToLocal(&source)) { return NULL; }
+  TryCatch tryCatch;
+  Local<Script> script;
+  Local<Value> result;
+  if (!compileScript(isolate, source, env, jscriptName, jlineNumber, script, &tryCatch)) { return NULL; }
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr)) { return NULL; }
+  return getResult(env, v8, v8RuntimePtr, result, expectedType);
+}
+
+bool parseJSON(JNIEnv *env, Isolate* isolate, Local<String> json, Local<Value> &result, jlong v8RuntimePtr) {
+  TryCatch tryCatch;
+  if (!JSON::Parse(isolate, json).ToLocal(&result)) {
+    throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
+    return false;
+  }
+  return true;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseJSON
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jstring jjson) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Local<Value> result;
+  if (!parseJSON(env, isolate, createV8String(env, isolate, jjson), result, v8RuntimePtr)) { return NULL; }
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseUtf8JSON
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jobject jjson, jint position, jint limit) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  const char* data = static_cast<const char*>(env->GetDirectBufferAddress(jjson));
+  Local<String> json;
+  if (!String::NewFromUtf8(isolate, data + position, NewStringType::kNormal, limit - position).ToLocal(&json)) {
+    throwError(env, "JSON text is too long.");
+    return NULL;
+  }
+  Local<Value> result;
+  if (!parseJSON(env, isolate, json, result, v8RuntimePtr)) { return NULL; }
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
 bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &receiverHandle, jlong &functionHandle, jlong &parameterHandle, Handle<Value> &result) {
   int size = 0;
   Handle<Value>* args = NULL;
@@ -819,13 +1756,238 @@ bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &o
   return true;
 }
 
-JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JJJJ
-  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
-    Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JJJJ
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
+    Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result))
+    return NULL;
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1callIntegerFunction
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->Int32Value();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1callDoubleFunction
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->NumberValue();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1callBooleanFunction
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result))
+    return false;
+  ASSERT_IS_BOOLEAN(result);
+  return result->BooleanValue();
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1callStringFunction
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result))
+    return NULL;
+  ASSERT_IS_STRING(result);
+  String::Value unicodeString(result->ToString());
+  return env->NewString(*unicodeString, unicodeString.length());
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1callVoidFunction
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Value> result;
+  invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result);
+}
+
+Handle<Value>* createArguments(JNIEnv *env, Isolate* isolate, jint size, jbyteArray &jtypes, jlongArray &jvalues, jobjectArray &jobjects) {
+  if (size == 0) {
+    return NULL;
+  }
+  std::vector<jbyte> types(size);
+  std::vector<jlong> values(size);
+  env->GetByteArrayRegion(jtypes, 0, size, types.data());
+  env->GetLongArrayRegion(jvalues, 0, size, values.data());
+  Handle<Value>* args = new Handle<Value>[size];
+  for (int i = 0; i < size; i++) {
+    switch (types[i]) {
+      case com_eclipsesource_v8_V8_INTEGER:
+        args[i] = Int32::New(isolate, static_cast<int32_t>(values[i]));
+        break;
+      case com_eclipsesource_v8_V8_DOUBLE: {
+        double value;
+        memcpy(&value, &values[i], sizeof(value));
+        args[i] = Number::New(isolate, value);
+        break;
+      }
+      case com_eclipsesource_v8_V8_BOOLEAN:
+        args[i] = Boolean::New(isolate, values[i] != 0);
+        break;
+      case com_eclipsesource_v8_V8_STRING: {
+        jstring string = (jstring) env->GetObjectArrayElement(jobjects, i);
+        args[i] = createV8String(env, isolate, string);
+        env->DeleteLocalRef(string);
+        break;
+      }
+      case com_eclipsesource_v8_V8_V8_OBJECT:
+        args[i] = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(values[i]));
+        break;
+      case com_eclipsesource_v8_V8_UNDEFINED:
+        args[i] = Undefined(isolate);
+        break;
+      default:
+        args[i] = Null(isolate);
+        break;
+    }
+  }
+  return args;
+}
+
+bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, Handle<Object> receiver, Handle<Value> function, jint size, jbyteArray &types, jlongArray &values, jobjectArray &objects, Handle<Value> &result) {
+  Handle<Value>* args = createArguments(env, isolate, size, types, values, objects);
+  Handle<Function> func = Handle<Function>::Cast(function);
+  TryCatch tryCatch;
+  result = func->Call(receiver, size, args);
+  if (args != NULL) {
+    delete[] args;
+  }
+  if (tryCatch.HasCaught()) {
+    throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
+    return false;
+  }
+  return true;
+}
+
+bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &receiverHandle, jlong &functionHandle, jint size, jbyteArray &types, jlongArray &values, jobjectArray &objects, Handle<Value> &result) {
+  Handle<Object> function = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(functionHandle));
+  Handle<Object> receiver = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(receiverHandle));
+  return invokeFunction(env, isolate, v8RuntimePtr, receiver, function, size, types, values, objects, result);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Object> parentObject = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  Handle<Value> function = parentObject->Get(createV8String(env, isolate, jfunctionName));
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, parentObject, function, size, types, values, objects, result))
+    return NULL;
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1callFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, types, values, objects, result))
+    return NULL;
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1callIntegerFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, types, values, objects, result))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->Int32Value();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1callDoubleFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, types, values, objects, result))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->NumberValue();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1callBooleanFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, types, values, objects, result))
+    return false;
+  ASSERT_IS_BOOLEAN(result);
+  return result->BooleanValue();
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1callStringFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, types, values, objects, result))
+    return NULL;
+  ASSERT_IS_STRING(result);
+  String::Value unicodeString(result->ToString());
+  return env->NewString(*unicodeString, unicodeString.length());
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1callVoidFunctionWithArguments
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jint size, jbyteArray types, jlongArray values, jobjectArray objects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
   Handle<Value> result;
-  if (!invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, parameterHandle, result))
-    return NULL;
-  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+  invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, types, values, objects, result);
+}
+
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1callFunctionBatch
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jintArray jsizes, jobjectArray jtypes, jobjectArray jvalues, jobjectArray jobjects) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  jsize size = env->GetArrayLength(jsizes);
+  std::vector<jint> sizes(size + 1);
+  env->GetIntArrayRegion(jsizes, 0, size, sizes.data());
+  Handle<Object> function = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(functionHandle));
+  Handle<Object> receiver = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(receiverHandle));
+  Handle<Function> func = Handle<Function>::Cast(function);
+  jobjectArray results = env->NewObjectArray(size, objectCls, NULL);
+  jobject failure = NULL;
+  for (jsize i = 0; i < size; i++) {
+    jobject item = failure;
+    if (item == NULL) {
+      HandleScope itemScope(isolate);
+      jbyteArray types = (jbyteArray) env->GetObjectArrayElement(jtypes, i);
+      jlongArray values = (jlongArray) env->GetObjectArrayElement(jvalues, i);
+      jobjectArray objects = (jobjectArray) env->GetObjectArrayElement(jobjects, i);
+      Handle<Value>* args = createArguments(env, isolate, sizes[i], types, values, objects);
+      TryCatch tryCatch;
+      Handle<Value> result = func->Call(receiver, sizes[i], args);
+      if (args != NULL) {
+        delete[] args;
+      }
+      if (tryCatch.HasCaught()) {
+        throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
+        item = takeException(env);
+        if (!tryCatch.CanContinue()) {
+          failure = item;
+        }
+      } else {
+        item = getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+      }
+      env->DeleteLocalRef(types);
+      env->DeleteLocalRef(values);
+      env->DeleteLocalRef(objects);
+    }
+    env->SetObjectArrayElement(results, i, item);
+    if (item != failure) {
+      env->DeleteLocalRef(item);
+    }
+  }
+  return results;
 }
 
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JIJLjava_lang_String_2J
@@ -878,6 +2040,16 @@ JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringFunction
   return env->NewString(*unicodeString, unicodeString.length());
 }
 
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeUtf8Function
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle, jobject output, jint position, jint limit) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+    return NULL;
+  ASSERT_IS_STRING(result);
+  return writeUtf8(env, result->ToString(), output, position, limit);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidFunction
 (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
@@ -916,6 +2088,16 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2
   addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, v8Value);
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addExternalString
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jobject value, jboolean oneByte, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Local<String> v8Value;
+  if (!createExternalV8String(env, isolate, value, oneByte, length).ToLocal(&v8Value)) {
+    return;
+  }
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, v8Value);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2Z
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jboolean value) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
@@ -1343,6 +2525,24 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayStringItem
   array->Set(index, v8Value);
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayExternalStringItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jobject value, jboolean oneByte, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  if ( array->IsTypedArray() ) {
+     Local<String> string = String::NewFromUtf8(isolate, "Cannot push to a Typed Array.");
+     v8::String::Value strValue(string);
+     throwV8RuntimeException(env, &strValue);
+     return;
+  }
+  Local<String> v8Value;
+  if (!createExternalV8String(env, isolate, value, oneByte, length).ToLocal(&v8Value)) {
+    return;
+  }
+  int index = Array::Cast(*array)->Length();
+  array->Set(index, v8Value);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayObjectItem
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jlong valueHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
@@ -1358,6 +2558,66 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayObjectItem
   array->Set(index, v8Value);
 }
 
+void setArrayItem(Isolate* isolate, jlong &arrayHandle, jint &index, Local<Value> value) {
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  array->Set(static_cast<uint32_t>(index), value);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayNullItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, Null(isolate));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayUndefinedItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, Undefined(isolate));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayIntItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jint value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, Int32::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayDoubleItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jdouble value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, Number::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayBooleanItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jboolean value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, Boolean::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayStringItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jstring value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, createV8String(env, isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayObjectItem
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jlong valueHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  setArrayItem(isolate, arrayHandle, index, Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(valueHandle)));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayLength
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  if ( array->IsTypedArray() ) {
+     Local<String> string = String::NewFromUtf8(isolate, "Cannot change the length of a Typed Array.");
+     v8::String::Value strValue(string);
+     throwV8RuntimeException(env, &strValue);
+     return;
+  }
+  array->Set(String::NewFromUtf8(isolate, "length"), Integer::New(isolate, length));
+}
+
 int getType(Handle<Value> v8Value) {
   if (v8Value.IsEmpty() || v8Value->IsUndefined()) {
     return com_eclipsesource_v8_V8_UNDEFINED;
@@ -1380,6 +2640,9 @@ int getType(Handle<Value> v8Value) {
   else if (v8Value->IsFunction()) {
     return com_eclipsesource_v8_V8_V8_FUNCTION;
   }
+  else if (v8Value->IsSharedArrayBuffer()) {
+    return com_eclipsesource_v8_V8_V8_SHARED_ARRAY_BUFFER;
+  }
   else if (v8Value->IsArrayBuffer()) {
     return com_eclipsesource_v8_V8_V8_ARRAY_BUFFER;
   }
@@ -1608,7 +2871,6 @@ JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Function
   MethodDescriptor* md = new MethodDescriptor();
   Local<External> ext = External::New(isolate, md);
   Persistent<External> pext(isolate, ext);
-  isolate->IdleNotification(1000);
   pext.SetWeak(md, [](v8::WeakCallbackInfo<MethodDescriptor> const& data) {
     MethodDescriptor* md = data.GetParameter();
     jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
@@ -1642,7 +2904,6 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
   }
   Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
   Local<String> v8FunctionName = createV8String(env, isolate, functionName);
-  isolate->IdleNotification(1000);
   MethodDescriptor* md= new MethodDescriptor();
   Local<External> ext =  External::New(isolate, md);
   Persistent<External> pext(isolate, ext);
@@ -1697,6 +2958,626 @@ JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1toString
   return env->NewString(*unicodeString, unicodeString.length());
 }
 
+bool stringifyJSON(JNIEnv *env, Isolate* isolate, V8Runtime* runtime, jlong v8RuntimePtr, jlong objectHandle, Local<Value> &result) {
+  Local<Value> args[] = { Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle)) };
+  Local<Function> stringify = Local<Function>::New(isolate, runtime->jsonStringify);
+  TryCatch tryCatch;
+  result = stringify->Call(isolate->GetCurrentContext()->Global(), 1, args);
+  if (tryCatch.HasCaught()) {
+    throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
+    return false;
+  }
+  return true;
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1toJSON
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Local<Value> result;
+  if (!stringifyJSON(env, isolate, runtime, v8RuntimePtr, objectHandle, result) || !result->IsString()) {
+    return NULL;
+  }
+  String::Value unicodeString(result);
+  return env->NewString(*unicodeString, unicodeString.length());
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1toUtf8JSON
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jobject output, jint position, jint limit) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Local<Value> result;
+  if (!stringifyJSON(env, isolate, runtime, v8RuntimePtr, objectHandle, result) || !result->IsString()) {
+    return NULL;
+  }
+  return writeUtf8(env, result->ToString(), output, position, limit);
+}
+
+// Binary value format, shared with com.eclipsesource.v8.utils.V8ValueCodec. Numbers are written in
+// the byte order of the platform, which is little-endian on all supported platforms.
+#define SERIALIZATION_MAGIC 0xFF
+#define SERIALIZATION_VERSION 1
+#define MAX_SERIALIZATION_DEPTH 1000
+
+enum SerializationTag {
+  kUndefinedTag = '_',
+  kNullTag = '0',
+  kTrueTag = 'T',
+  kFalseTag = 'F',
+  kInt32Tag = 'I',
+  kDoubleTag = 'N',
+  kOneByteStringTag = 'L',
+  kTwoByteStringTag = 'S',
+  kDateTag = 'D',
+  kObjectTag = 'o',
+  kArrayTag = 'A',
+  kArrayBufferTag = 'B',
+  kTypedArrayTag = 'V',
+  kReferenceTag = 'R'
+};
+
+class ValueSerializer {
+public:
+  std::vector<char> data;
+  // Set if a value cannot be serialized, NULL if a getter threw an exception
+  const char* error;
+
+  ValueSerializer() : error(NULL), nextId(0) {
+    writeByte(SERIALIZATION_MAGIC);
+    writeByte(SERIALIZATION_VERSION);
+  }
+
+  bool writeValue(Local<Value> value, int depth) {
+    if (depth > MAX_SERIALIZATION_DEPTH) {
+      error = "Object graph is nested too deeply.";
+      return false;
+    }
+    if (value->IsUndefined()) {
+      writeByte(kUndefinedTag);
+    } else if (value->IsNull()) {
+      writeByte(kNullTag);
+    } else if (value->IsTrue()) {
+      writeByte(kTrueTag);
+    } else if (value->IsFalse()) {
+      writeByte(kFalseTag);
+    } else if (value->IsInt32()) {
+      writeByte(kInt32Tag);
+      writeInt32(value->Int32Value());
+    } else if (value->IsNumber()) {
+      writeByte(kDoubleTag);
+      writeDouble(value->NumberValue());
+    } else if (value->IsString()) {
+      writeString(value.As<String>());
+    } else if (value->IsObject()) {
+      return writeObject(value.As<Object>(), depth);
+    } else {
+      error = "Symbols cannot be serialized.";
+      return false;
+    }
+    return true;
+  }
+
+private:
+  typedef std::multimap<int, std::pair<Local<Object>, int> > ReferenceMap;
+
+  ReferenceMap references;
+  int nextId;
+
+  bool writeObject(Local<Object> object, int depth) {
+    ReferenceMap::iterator it;
+    std::pair<ReferenceMap::iterator, ReferenceMap::iterator> range = references.equal_range(object->GetIdentityHash());
+    for (it = range.first; it != range.second; ++it) {
+      if (it->second.first == object) {
+        writeByte(kReferenceTag);
+        writeInt32(it->second.second);
+        return true;
+      }
+    }
+    if (object->IsFunction()) {
+      error = "Functions cannot be serialized.";
+      return false;
+    }
+    if (object->IsArrayBufferView() && !object->IsTypedArray()) {
+      error = "DataViews cannot be serialized.";
+      return false;
+    }
+    references.insert(std::make_pair(object->GetIdentityHash(), std::make_pair(object, nextId++)));
+    if (object->IsTypedArray()) {
+      return writeTypedArray(object.As<TypedArray>(), depth);
+    } else if (object->IsArrayBuffer()) {
+      ArrayBuffer::Contents contents = object.As<ArrayBuffer>()->GetContents();
+      return writeArrayBuffer(contents.Data(), contents.ByteLength());
+    } else if (object->IsSharedArrayBuffer()) {
+      SharedArrayBuffer::Contents contents = object.As<SharedArrayBuffer>()->GetContents();
+      return writeArrayBuffer(contents.Data(), contents.ByteLength());
+    } else if (object->IsDate()) {
+      writeByte(kDateTag);
+      writeDouble(object.As<Date>()->ValueOf());
+      return true;
+    } else if (object->IsArray()) {
+      return writeArray(object.As<Array>(), depth);
+    }
+    Local<Array> keys = object->GetOwnPropertyNames();
+    uint32_t count = keys->Length();
+    writeByte(kObjectTag);
+    writeInt32(count);
+    for (uint32_t i = 0; i < count; i++) {
+      Local<Value> key = keys->Get(i);
+      Local<Value> value = object->Get(key);
+      if (value.IsEmpty()) {
+        return false;
+      }
+      writeString(key->ToString());
+      if (!writeValue(value, depth + 1)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  bool writeArray(Local<Array> array, int depth) {
+    uint32_t length = array->Length();
+    if (length > INT32_MAX) {
+      error = "Array is too large to be serialized.";
+      return false;
+    }
+    writeByte(kArrayTag);
+    writeInt32(length);
+    for (uint32_t i = 0; i < length; i++) {
+      Local<Value> element = array->Get(i);
+      if (element.IsEmpty() || !writeValue(element, depth + 1)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  bool writeArrayBuffer(void* contents, size_t byteLength) {
+    if (byteLength > INT32_MAX) {
+      error = "ArrayBuffer is too large to be serialized.";
+      return false;
+    }
+    writeByte(kArrayBufferTag);
+    writeInt32(static_cast<int32_t>(byteLength));
+    if (byteLength > 0) {
+      memcpy(grow(byteLength), contents, byteLength);
+    }
+    return true;
+  }
+
+  bool writeTypedArray(Local<TypedArray> array, int depth) {
+    writeByte(kTypedArrayTag);
+    if (array->IsInt8Array()) {
+      writeByte(com_eclipsesource_v8_V8_INT_8_ARRAY);
+    } else if (array->IsUint8Array()) {
+      writeByte(com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY);
+    } else if (array->IsUint8ClampedArray()) {
+      writeByte(com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY);
+    } else if (array->IsInt16Array()) {
+      writeByte(com_eclipsesource_v8_V8_INT_16_ARRAY);
+    } else if (array->IsUint16Array()) {
+      writeByte(com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY);
+    } else if (array->IsInt32Array()) {
+      writeByte(com_eclipsesource_v8_V8_INT_32_ARRAY);
+    } else if (array->IsUint32Array()) {
+      writeByte(com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY);
+    } else if (array->IsFloat32Array()) {
+      writeByte(com_eclipsesource_v8_V8_FLOAT_32_ARRAY);
+    } else {
+      writeByte(com_eclipsesource_v8_V8_FLOAT_64_ARRAY);
+    }
+    if (!writeObject(array->Buffer(), depth + 1)) {
+      return false;
+    }
+    writeInt32(static_cast<int32_t>(array->ByteOffset()));
+    writeInt32(static_cast<int32_t>(array->Length()));
+    return true;
+  }
+
+  void writeString(Local<String> string) {
+    int length = string->Length();
+    if (string->ContainsOnlyOneByte()) {
+      writeByte(kOneByteStringTag);
+      writeInt32(length);
+      string->WriteOneByte(reinterpret_cast<uint8_t*>(grow(length)), 0, length, String::NO_NULL_TERMINATION);
+    } else {
+      String::Value value(string);
+      writeByte(kTwoByteStringTag);
+      writeInt32(length);
+      memcpy(grow(length * 2), *value, length * 2);
+    }
+  }
+
+  void writeByte(unsigned char value) {
+    data.push_back(static_cast<char>(value));
+  }
+
+  void writeInt32(int32_t value) {
+    memcpy(grow(sizeof(value)), &value, sizeof(value));
+  }
+
+  void writeDouble(double value) {
+    memcpy(grow(sizeof(value)), &value, sizeof(value));
+  }
+
+  char* grow(size_t length) {
+    size_t offset = data.size();
+    data.resize(offset + length);
+    return data.data() + offset;
+  }
+};
+
+class ValueDeserializer {
+public:
+  const char* error;
+  bool allocationFailed;
+
+  ValueDeserializer(Isolate* isolate, const char* data, size_t length) : error(NULL), allocationFailed(false), isolate(isolate), position(data), end(data + length) {
+  }
+
+  bool readHeader() {
+    unsigned char magic, version;
+    if (!readByte(magic) || !readByte(version) || (magic != SERIALIZATION_MAGIC) || (version != SERIALIZATION_VERSION)) {
+      return invalid();
+    }
+    return true;
+  }
+
+  bool readValue(Local<Value>& value, int depth) {
+    unsigned char tag;
+    if ((depth > MAX_SERIALIZATION_DEPTH) || !readByte(tag)) {
+      return invalid();
+    }
+    switch (tag) {
+      case kUndefinedTag:
+        value = Undefined(isolate);
+        return true;
+      case kNullTag:
+        value = Null(isolate);
+        return true;
+      case kTrueTag:
+        value = True(isolate);
+        return true;
+      case kFalseTag:
+        value = False(isolate);
+        return true;
+      case kInt32Tag: {
+        int32_t result;
+        if (!readInt32(result)) {
+          return invalid();
+        }
+        value = Integer::New(isolate, result);
+        return true;
+      }
+      case kDoubleTag: {
+        double result;
+        if (!readDouble(result)) {
+          return invalid();
+        }
+        value = Number::New(isolate, result);
+        return true;
+      }
+      case kOneByteStringTag:
+      case kTwoByteStringTag: {
+        Local<String> result;
+        if (!readString(tag, result)) {
+          return false;
+        }
+        value = result;
+        return true;
+      }
+      case kDateTag: {
+        double time;
+        if (!readDouble(time) || !Date::New(isolate->GetCurrentContext(), time).ToLocal(&value)) {
+          return invalid();
+        }
+        references.push_back(value);
+        return true;
+      }
+      case kObjectTag:
+        return readObject(value, depth);
+      case kArrayTag:
+        return readArray(value, depth);
+      case kArrayBufferTag:
+        return readArrayBuffer(value);
+      case kTypedArrayTag:
+        return readTypedArray(value, depth);
+      case kReferenceTag: {
+        int32_t id;
+        if (!readInt32(id) || (id < 0) || (static_cast<size_t>(id) >= references.size()) || references[id].IsEmpty()) {
+          return invalid();
+        }
+        value = references[id];
+        return true;
+      }
+      default:
+        return invalid();
+    }
+  }
+
+  bool atEnd() {
+    return position == end;
+  }
+
+private:
+  Isolate* isolate;
+  const char* position;
+  const char* end;
+  std::vector<Local<Value> > references;
+
+  bool readObject(Local<Value>& value, int depth) {
+    int32_t count;
+    if (!readLength(count, 2)) {
+      return invalid();
+    }
+    Local<Context> context = isolate->GetCurrentContext();
+    Local<Object> object = Object::New(isolate);
+    references.push_back(object);
+    for (int32_t i = 0; i < count; i++) {
+      unsigned char tag;
+      Local<String> key;
+      Local<Value> propertyValue;
+      if (!readByte(tag) || ((tag != kOneByteStringTag) && (tag != kTwoByteStringTag))) {
+        return invalid();
+      }
+      if (!readString(tag, key) || !readValue(propertyValue, depth + 1)) {
+        return false;
+      }
+      if (!object->CreateDataProperty(context, key, propertyValue).FromMaybe(false)) {
+        return invalid();
+      }
+    }
+    value = object;
+    return true;
+  }
+
+  bool readArray(Local<Value>& value, int depth) {
+    int32_t length;
+    if (!readLength(length, 1)) {
+      return invalid();
+    }
+    Local<Context> context = isolate->GetCurrentContext();
+    Local<Array> array = Array::New(isolate, length);
+    references.push_back(array);
+    for (int32_t i = 0; i < length; i++) {
+      Local<Value> element;
+      if (!readValue(element, depth + 1)) {
+        return false;
+      }
+      if (!array->CreateDataProperty(context, static_cast<uint32_t>(i), element).FromMaybe(false)) {
+        return invalid();
+      }
+    }
+    value = array;
+    return true;
+  }
+
+  bool readArrayBuffer(Local<Value>& value) {
+    int32_t byteLength;
+    if (!readLength(byteLength, 1)) {
+      return invalid();
+    }
+    Local<ArrayBuffer> buffer = ArrayBuffer::New(isolate, byteLength);
+    if (byteLength > 0) {
+      if (buffer->GetContents().Data() == NULL) {
+        allocationFailed = true;
+        error = "Array buffer allocation failed.";
+        return false;
+      }
+      memcpy(buffer->GetContents().Data(), position, byteLength);
+      position += byteLength;
+    }
+    references.push_back(buffer);
+    value = buffer;
+    return true;
+  }
+
+  bool readTypedArray(Local<Value>& value, int depth) {
+    unsigned char type;
+    int32_t byteOffset, length;
+    Local<Value> bufferValue;
+    if (!readByte(type)) {
+      return invalid();
+    }
+    size_t id = references.size();
+    references.push_back(Local<Value>());
+    if (!readValue(bufferValue, depth + 1)) {
+      return false;
+    }
+    if (!bufferValue->IsArrayBuffer() || !readInt32(byteOffset) || !readInt32(length) || (byteOffset < 0) || (length < 0)) {
+      return invalid();
+    }
+    Local<ArrayBuffer> buffer = bufferValue.As<ArrayBuffer>();
+    int size;
+    switch (type) {
+      case com_eclipsesource_v8_V8_INT_8_ARRAY:
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY:
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY:
+        size = 1;
+        break;
+      case com_eclipsesource_v8_V8_INT_16_ARRAY:
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY:
+        size = 2;
+        break;
+      case com_eclipsesource_v8_V8_INT_32_ARRAY:
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY:
+      case com_eclipsesource_v8_V8_FLOAT_32_ARRAY:
+        size = 4;
+        break;
+      case com_eclipsesource_v8_V8_FLOAT_64_ARRAY:
+        size = 8;
+        break;
+      default:
+        return invalid();
+    }
+    if (((byteOffset % size) != 0) || (static_cast<int64_t>(length) * size + byteOffset > static_cast<int64_t>(buffer->ByteLength()))) {
+      return invalid();
+    }
+    switch (type) {
+      case com_eclipsesource_v8_V8_INT_8_ARRAY:
+        value = Int8Array::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY:
+        value = Uint8Array::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY:
+        value = Uint8ClampedArray::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_INT_16_ARRAY:
+        value = Int16Array::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY:
+        value = Uint16Array::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_INT_32_ARRAY:
+        value = Int32Array::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY:
+        value = Uint32Array::New(buffer, byteOffset, length);
+        break;
+      case com_eclipsesource_v8_V8_FLOAT_32_ARRAY:
+        value = Float32Array::New(buffer, byteOffset, length);
+        break;
+      default:
+        value = Float64Array::New(buffer, byteOffset, length);
+        break;
+    }
+    references[id] = value;
+    return true;
+  }
+
+  bool readString(unsigned char tag, Local<String>& value) {
+    int32_t length;
+    if (!readLength(length, tag == kOneByteStringTag ? 1 : 2)) {
+      return invalid();
+    }
+    if (tag == kOneByteStringTag) {
+      if (!String::NewFromOneByte(isolate, reinterpret_cast<const uint8_t*>(position), NewStringType::kNormal, length).ToLocal(&value)) {
+        return invalid();
+      }
+      position += length;
+    } else {
+      // Copied, the characters in the buffer are not necessarily aligned
+      std::vector<uint16_t> characters(length);
+      memcpy(characters.data(), position, length * 2);
+      if (!String::NewFromTwoByte(isolate, characters.data(), NewStringType::kNormal, length).ToLocal(&value)) {
+        return invalid();
+      }
+      position += length * 2;
+    }
+    return true;
+  }
+
+  bool readLength(int32_t& length, int bytesPerElement) {
+    return readInt32(length) && (length >= 0) && (static_cast<int64_t>(length) * bytesPerElement <= end - position);
+  }
+
+  bool readByte(unsigned char& value) {
+    if (position >= end) {
+      return false;
+    }
+    value = static_cast<unsigned char>(*position++);
+    return true;
+  }
+
+  bool readInt32(int32_t& value) {
+    if (end - position < static_cast<ptrdiff_t>(sizeof(value))) {
+      return false;
+    }
+    memcpy(&value, position, sizeof(value));
+    position += sizeof(value);
+    return true;
+  }
+
+  bool readDouble(double& value) {
+    if (end - position < static_cast<ptrdiff_t>(sizeof(value))) {
+      return false;
+    }
+    memcpy(&value, position, sizeof(value));
+    position += sizeof(value);
+    return true;
+  }
+
+  bool invalid() {
+    if (error == NULL) {
+      error = "Invalid serialized data.";
+    }
+    return false;
+  }
+};
+
+bool serializeValue(JNIEnv *env, Isolate* isolate, Local<Value> value, ValueSerializer& serializer, jlong v8RuntimePtr) {
+  TryCatch tryCatch;
+  if (serializer.writeValue(value, 0)) {
+    return true;
+  }
+  if (tryCatch.HasCaught()) {
+    throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
+  } else {
+    env->ThrowNew(illegalArgumentExceptionCls, serializer.error);
+  }
+  return false;
+}
+
+bool deserializeValue(JNIEnv *env, Isolate* isolate, const char* data, size_t length, Local<Value>& result) {
+  ValueDeserializer deserializer(isolate, data, length);
+  if (!deserializer.readHeader() || !deserializer.readValue(result, 0) || !deserializer.atEnd()) {
+    if (deserializer.allocationFailed) {
+      Local<String> string = String::NewFromUtf8(isolate, deserializer.error);
+      v8::String::Value strValue(string);
+      throwV8RuntimeException(env, &strValue);
+    } else {
+      env->ThrowNew(illegalArgumentExceptionCls, deserializer.error != NULL ? deserializer.error : "Invalid serialized data.");
+    }
+    return false;
+  }
+  return true;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1serialize
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Local<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  ValueSerializer serializer;
+  if (!serializeValue(env, isolate, object, serializer, v8RuntimePtr)) {
+    return NULL;
+  }
+  jobject result = env->CallStaticObjectMethod(byteBufferCls, byteBufferAllocateDirectMethodID, static_cast<jint>(serializer.data.size()));
+  if (result == NULL) {
+    return NULL;
+  }
+  memcpy(env->GetDirectBufferAddress(result), serializer.data.data(), serializer.data.size());
+  return result;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1deserialize
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jobject data, jint position, jint limit) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  const char* bytes = static_cast<const char*>(env->GetDirectBufferAddress(data));
+  Local<Value> result;
+  if (!deserializeValue(env, isolate, bytes + position, limit - position, result)) {
+    return NULL;
+  }
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1cloneInto
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jobject target, jlong targetRuntimePtr) {
+  ValueSerializer serializer;
+  {
+    Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+    Local<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+    if (!serializeValue(env, isolate, object, serializer, v8RuntimePtr)) {
+      return NULL;
+    }
+  }
+  // The serialized graph never leaves native memory, the target is entered once the source is unlocked
+  Isolate* isolate = SETUP(env, targetRuntimePtr, NULL);
+  Local<Value> result;
+  if (!deserializeValue(env, isolate, serializer.data.data(), serializer.data.size(), result)) {
+    return NULL;
+  }
+  return getResult(env, target, targetRuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
 JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1strictEquals
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong thatHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, false);
@@ -1839,6 +3720,10 @@ void throwError(JNIEnv *env, const char *message) {
   (env)->ThrowNew(errorCls, message);
 }
 
+void throwIOException(JNIEnv *env, const char *message) {
+  (env)->ThrowNew(ioExceptionCls, message);
+}
+
 jobject getResult(JNIEnv *env, jobject &v8, jlong v8RuntimePtr, Handle<Value> &result, jint expectedType) {
   if (result->IsUndefined() && expectedType == com_eclipsesource_v8_V8_V8_ARRAY) {
     jobject objectResult = env->NewObject(undefinedV8ArrayCls, undefinedV8ArrayInitMethodID, v8);
@@ -1879,10 +3764,14 @@ jobject getResult(JNIEnv *env, jobject &v8, jlong v8RuntimePtr, Handle<Value> &r
       reinterpret_cast<Persistent<Object>*>(resultHandle)->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, result->ToObject());
       return objectResult;
   }
+  else if (result->IsSharedArrayBuffer()) {
+    jobject objectResult = env->NewObject(v8SharedArrayBufferCls, v8SharedArrayBufferInitMethodID, v8);
+    jlong resultHandle = getHandle(env, objectResult);
+    reinterpret_cast<Persistent<Object>*>(resultHandle)->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, result->ToObject());
+    return objectResult;
+  }
   else if (result->IsArrayBuffer()) {
-    ArrayBuffer* arrayBuffer = ArrayBuffer::Cast(*result);
-    jobject byteBuffer = env->NewDirectByteBuffer(arrayBuffer->GetContents().Data(), arrayBuffer->ByteLength());
-    jobject objectResult = env->NewObject(v8ArrayBufferCls, v8ArrayBufferInitMethodID, v8, byteBuffer);
+    jobject objectResult = env->NewObject(v8ArrayBufferCls, v8ArrayBufferInitMethodID, v8);
     jlong resultHandle = getHandle(env, objectResult);
     reinterpret_cast<Persistent<Object>*>(resultHandle)->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, result->ToObject());
     return objectResult;
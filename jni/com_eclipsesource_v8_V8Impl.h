@@ -49,6 +49,8 @@ extern "C" {
 #define com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY 15L
 #undef com_eclipsesource_v8_V8_FLOAT_32_ARRAY
 #define com_eclipsesource_v8_V8_FLOAT_32_ARRAY 16L
+#undef com_eclipsesource_v8_V8_V8_SHARED_ARRAY_BUFFER
+#define com_eclipsesource_v8_V8_V8_SHARED_ARRAY_BUFFER 17L
 #undef com_eclipsesource_v8_V8_UNDEFINED
 #define com_eclipsesource_v8_V8_UNDEFINED 99L
 /*
@@ -78,10 +80,10 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _createIsolate
- * Signature: (Ljava/lang/String;)J
+ * Signature: (Ljava/lang/String;IIIIII)J
  */
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
-  (JNIEnv *, jobject, jstring);
+  (JNIEnv *, jobject, jstring, jint, jint, jint, jint, jint, jint);
 
 /*
  * Class:     com_eclipsesource_v8_V8
@@ -107,6 +109,54 @@ JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1executeDoubleScript
 JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringScript
   (JNIEnv *, jobject, jlong, jstring, jstring, jint);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeUtf8Script
+ * Signature: (JLjava/lang/String;Ljava/lang/String;ILjava/nio/ByteBuffer;II)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeUtf8Script
+  (JNIEnv *, jobject, jlong, jstring, jstring, jint, jobject, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _parseJSON
+ * Signature: (JLjava/lang/String;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseJSON
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _parseUtf8JSON
+ * Signature: (JLjava/nio/ByteBuffer;II)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseUtf8JSON
+  (JNIEnv *, jobject, jlong, jobject, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _serialize
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1serialize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _deserialize
+ * Signature: (JLjava/nio/ByteBuffer;II)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1deserialize
+  (JNIEnv *, jobject, jlong, jobject, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _cloneInto
+ * Signature: (JJLcom/eclipsesource/v8/V8;J)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1cloneInto
+  (JNIEnv *, jobject, jlong, jlong, jobject, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeBooleanScript
@@ -123,6 +173,22 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1executeBooleanScript
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeScript
   (JNIEnv *, jobject, jlong, jint, jstring, jstring, jint);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeScripts
+ * Signature: (J[Ljava/lang/String;[Ljava/lang/String;[I)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1executeScripts
+  (JNIEnv *, jobject, jlong, jobjectArray, jobjectArray, jintArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeExternalScript
+ * Signature: (JILjava/nio/ByteBuffer;ZILjava/lang/String;I)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeExternalScript
+  (JNIEnv *, jobject, jlong, jint, jobject, jboolean, jint, jstring, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeVoidScript
@@ -139,6 +205,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
   (JNIEnv *, jobject, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseHandles
+ * Signature: (J[JI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseHandles
+  (JNIEnv *, jobject, jlong, jlongArray, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _releaseMethodDescriptor
@@ -227,6 +301,14 @@ JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1executeDoubleFunction
 JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringFunction
   (JNIEnv *, jobject, jlong, jlong, jstring, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeUtf8Function
+ * Signature: (JJLjava/lang/String;JLjava/nio/ByteBuffer;II)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeUtf8Function
+  (JNIEnv *, jobject, jlong, jlong, jstring, jlong, jobject, jint, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeBooleanFunction
@@ -251,6 +333,110 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JIJLja
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JJJJ
   (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callIntegerFunction
+ * Signature: (JJJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1callIntegerFunction
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callDoubleFunction
+ * Signature: (JJJJ)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1callDoubleFunction
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callBooleanFunction
+ * Signature: (JJJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1callBooleanFunction
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callStringFunction
+ * Signature: (JJJJ)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1callStringFunction
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callVoidFunction
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1callVoidFunction
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeFunctionWithArguments
+ * Signature: (JJLjava/lang/String;I[B[J[Ljava/lang/Object;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jstring, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callFunctionWithArguments
+ * Signature: (JJJI[B[J[Ljava/lang/Object;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1callFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callIntegerFunctionWithArguments
+ * Signature: (JJJI[B[J[Ljava/lang/Object;)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1callIntegerFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callDoubleFunctionWithArguments
+ * Signature: (JJJI[B[J[Ljava/lang/Object;)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1callDoubleFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callBooleanFunctionWithArguments
+ * Signature: (JJJI[B[J[Ljava/lang/Object;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1callBooleanFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callStringFunctionWithArguments
+ * Signature: (JJJI[B[J[Ljava/lang/Object;)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1callStringFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callVoidFunctionWithArguments
+ * Signature: (JJJI[B[J[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1callVoidFunctionWithArguments
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint, jbyteArray, jlongArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _callFunctionBatch
+ * Signature: (JJJ[I[[B[[J[[Ljava/lang/Object;)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1callFunctionBatch
+  (JNIEnv *, jobject, jlong, jlong, jlong, jintArray, jobjectArray, jobjectArray, jobjectArray);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeVoidFunction
@@ -275,6 +461,22 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1equals
 JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1toString
   (JNIEnv *, jobject, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _toJSON
+ * Signature: (JJ)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1toJSON
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _toUtf8JSON
+ * Signature: (JJLjava/nio/ByteBuffer;II)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1toUtf8JSON
+  (JNIEnv *, jobject, jlong, jlong, jobject, jint, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _strictEquals
@@ -339,6 +541,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2Ljava_lang_String_2
   (JNIEnv *, jobject, jlong, jlong, jstring, jstring);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addExternalString
+ * Signature: (JJLjava/lang/String;Ljava/nio/ByteBuffer;ZI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addExternalString
+  (JNIEnv *, jobject, jlong, jlong, jstring, jobject, jboolean, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _addUndefined
@@ -467,6 +677,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayDoubleItem
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayStringItem
   (JNIEnv *, jobject, jlong, jlong, jstring);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addArrayExternalStringItem
+ * Signature: (JJLjava/nio/ByteBuffer;ZI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayExternalStringItem
+  (JNIEnv *, jobject, jlong, jlong, jobject, jboolean, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _addArrayObjectItem
@@ -475,6 +693,70 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayStringItem
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayObjectItem
   (JNIEnv *, jobject, jlong, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayNullItem
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayNullItem
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayUndefinedItem
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayUndefinedItem
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayIntItem
+ * Signature: (JJII)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayIntItem
+  (JNIEnv *, jobject, jlong, jlong, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayDoubleItem
+ * Signature: (JJID)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayDoubleItem
+  (JNIEnv *, jobject, jlong, jlong, jint, jdouble);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayBooleanItem
+ * Signature: (JJIZ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayBooleanItem
+  (JNIEnv *, jobject, jlong, jlong, jint, jboolean);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayStringItem
+ * Signature: (JJILjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayStringItem
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayObjectItem
+ * Signature: (JJIJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayObjectItem
+  (JNIEnv *, jobject, jlong, jlong, jint, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setArrayLength
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setArrayLength
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _addArrayUndefinedItem
@@ -619,6 +901,30 @@ JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1arrayGetStrings__JJII_3Lja
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ArrayBuffer
   (JNIEnv *, jobject, jlong, jint);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _initNewV8ExternalArrayBuffer
+ * Signature: (JLjava/nio/ByteBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ExternalArrayBuffer
+  (JNIEnv *, jobject, jlong, jobject, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _initNewV8SharedArrayBuffer
+ * Signature: (JLjava/nio/ByteBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8SharedArrayBuffer
+  (JNIEnv *, jobject, jlong, jobject, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _initNewV8MappedArrayBuffer
+ * Signature: (JLjava/lang/String;JI)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8MappedArrayBuffer
+  (JNIEnv *, jobject, jlong, jstring, jlong, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _initNewV8Int32Array
@@ -694,10 +1000,18 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8ClampedArra
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _createV8ArrayBufferBackingStore
- * Signature: (JJI)Ljava/nio/ByteBuffer;
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
  */
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1createV8ArrayBufferBackingStore
-  (JNIEnv *, jobject, jlong, jlong, jint);
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _transferArrayBuffer
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1transferArrayBuffer
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
 
 /*
  * Class:     com_eclipsesource_v8_V8
@@ -763,6 +1077,78 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1pumpMessageLoop
 JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isRunning
   (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _idleNotificationDeadline
+ * Signature: (JJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1idleNotificationDeadline
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _lowMemoryNotification
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1lowMemoryNotification
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setNearHeapLimitThreshold
+ * Signature: (JD)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setNearHeapLimitThreshold
+  (JNIEnv *, jobject, jlong, jdouble);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapStatistics
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapStatistics
+  (JNIEnv *, jobject, jlong, jlongArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapSpaceNames
+ * Signature: (J)[Ljava/lang/String;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1getHeapSpaceNames
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapSpaceStatistics
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapSpaceStatistics
+  (JNIEnv *, jobject, jlong, jlongArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setGCCallbacksEnabled
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setGCCallbacksEnabled
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _adjustExternalMemory
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1adjustExternalMemory
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArrayBufferAllocatorStatistics
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferAllocatorStatistics
+  (JNIEnv *, jobject, jlong, jlongArray);
+
 #ifdef __cplusplus
 }
 #endif
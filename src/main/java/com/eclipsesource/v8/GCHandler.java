@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Callback used to track garbage collections performed by a runtime.
+ * Handlers are registered using {@link V8#addGCHandler(GCHandler)}.
+ * No native GC callbacks are installed while a runtime has no
+ * handlers, so tracking has no cost unless it is used.
+ *
+ * The handler is invoked at the end of a garbage collection. It
+ * must not access any V8Values and must not throw exceptions.
+ */
+public interface GCHandler {
+
+    /**
+     * A scavenge of the young generation.
+     */
+    public static final int SCAVENGE               = 1;
+
+    /**
+     * A full mark-sweep-compact collection.
+     */
+    public static final int MARK_SWEEP_COMPACT     = 2;
+
+    /**
+     * A step of incremental marking.
+     */
+    public static final int INCREMENTAL_MARKING    = 4;
+
+    /**
+     * The processing of weak callbacks.
+     */
+    public static final int PROCESS_WEAK_CALLBACKS = 8;
+
+    /**
+     * Called when a garbage collection has finished.
+     *
+     * @param runtime The runtime that performed the garbage collection.
+     * @param gcType The type of garbage collection, one of {@link #SCAVENGE},
+     * {@link #MARK_SWEEP_COMPACT}, {@link #INCREMENTAL_MARKING} or
+     * {@link #PROCESS_WEAK_CALLBACKS}.
+     * @param pauseTime The time, in nanoseconds, the runtime was paused.
+     */
+    public void gcCompleted(V8 runtime, int gcType, long pauseTime);
+
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Callback used to notify the embedder that the heap of a runtime
+ * is approaching its configured limit. This gives the embedder a
+ * chance to terminate the runtime gracefully before V8 runs out of
+ * memory and aborts the process.
+ *
+ * The handler is invoked at the end of a garbage collection. It
+ * must not access any V8Values; the only operation that is safe
+ * to perform on the runtime is {@link V8#terminateExecution()}.
+ */
+public interface NearHeapLimitHandler {
+
+    /**
+     * Called when the used heap size of a runtime exceeds the threshold
+     * set using {@link V8#setNearHeapLimitHandler(NearHeapLimitHandler, double)}.
+     * The handler is called once each time the threshold is crossed.
+     *
+     * @param runtime The runtime whose heap is approaching its limit.
+     * @param usedHeapSize The size of the used heap, in bytes.
+     * @param heapSizeLimit The maximum size of the heap, in bytes.
+     */
+    public void nearHeapLimit(V8 runtime, long usedHeapSize, long heapSizeLimit);
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A script together with the name and line number it is reported under.
+ * ScriptSources are passed to {@link V8#executeScripts(java.util.List)}
+ * to run several scripts with a single call into the runtime.
+ */
+public class ScriptSource {
+
+    private final String script;
+    private final String scriptName;
+    private final int    lineNumber;
+
+    /**
+     * Create a new script without a name.
+     *
+     * @param script The script to execute.
+     */
+    public ScriptSource(final String script) {
+        this(script, null, 0);
+    }
+
+    /**
+     * Create a new named script.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script, used in error messages.
+     * @param lineNumber The line number the script starts at.
+     */
+    public ScriptSource(final String script, final String scriptName, final int lineNumber) {
+        V8.checkScript(script);
+        this.script = script;
+        this.scriptName = scriptName;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Returns the script to execute.
+     *
+     * @return The script.
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * Returns the name of the script, or null if the script is not named.
+     *
+     * @return The name of the script.
+     */
+    public String getScriptName() {
+        return scriptName;
+    }
+
+    /**
+     * Returns the line number the script starts at.
+     *
+     * @return The line number.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+}
@@ -10,18 +10,25 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.eclipsesource.v8.utils.V8Executor;
 import com.eclipsesource.v8.utils.V8Map;
+import com.eclipsesource.v8.utils.V8ValueCodec;
 
 /**
  * An isolated V8Runtime. All JavaScript execution must exist
@@ -38,10 +45,14 @@ import com.eclipsesource.v8.utils.V8Map;
  */
 public class V8 extends V8Object {
 
-    private static Object       lock           = new Object();
-    private volatile static int runtimeCounter = 0;
-    private static String       v8Flags        = null;
-    private static boolean      initialized    = false;
+    private static Object       lock                     = new Object();
+    private volatile static int runtimeCounter           = 0;
+    private static String       v8Flags                  = null;
+    private static boolean      initialized              = false;
+    private static boolean      sharedArrayBufferEnabled = false;
+
+    private static final ReferenceHandler[] NO_REFERENCE_HANDLERS = new ReferenceHandler[0];
+    private static final GCHandler[]        NO_GC_HANDLERS        = new GCHandler[0];
 
     private final V8Locker               locker;
     private long                         objectReferences        = 0;
@@ -50,7 +61,15 @@ public class V8 extends V8Object {
     private V8Map<V8Executor>            executors               = null;
     private boolean                      forceTerminateExecutors = false;
     private Map<Long, MethodDescriptor>  functionRegistry        = new HashMap<Long, MethodDescriptor>();
-    private LinkedList<ReferenceHandler> referenceHandlers       = new LinkedList<ReferenceHandler>();
+    private ReferenceHandler[]           referenceHandlers       = NO_REFERENCE_HANDLERS;
+    private GCHandler[]                  gcHandlers              = NO_GC_HANDLERS;
+    private NearHeapLimitHandler         nearHeapLimitHandler    = null;
+    private String[]                     heapSpaceNames          = null;
+    private long                         arrayBufferDetachCount  = 0;
+    private boolean                      autoRelease             = false;
+    private ReferenceQueue<V8Value>      autoReleaseQueue        = null;
+    private Map<Long, V8ValueReference>  autoReleaseReferences   = null;
+    private long[]                       autoReleaseHandles      = null;
 
     private static boolean   nativeLibraryLoaded = false;
     private static Error     nativeLoadError     = null;
@@ -66,6 +85,15 @@ public class V8 extends V8Object {
         boolean          includeReceiver;
     }
 
+    private static class V8ValueReference extends WeakReference<V8Value> {
+        final long handle;
+
+        V8ValueReference(final V8Value value, final ReferenceQueue<V8Value> queue) {
+            super(value, queue);
+            handle = value.objectHandle;
+        }
+    }
+
     private synchronized static void load(final String tmpDirectory) {
         try {
             LibraryLoader.loadLibrary(tmpDirectory);
@@ -99,6 +127,34 @@ public class V8 extends V8Object {
         initialized = false;
     }
 
+    /**
+     * Determines if SharedArrayBuffers are enabled on the platform, that is
+     * if the flag "--harmony-sharedarraybuffer" was set when a runtime was
+     * created. Flags stay in effect for the life of the process, so once
+     * enabled they cannot be disabled again.
+     *
+     * @return Returns true if SharedArrayBuffers are enabled, false otherwise.
+     */
+    public static boolean isSharedArrayBufferEnabled() {
+        return sharedArrayBufferEnabled;
+    }
+
+    static boolean isFlagEnabled(final String flags, final String name, final boolean defaultValue) {
+        if (flags == null) {
+            return defaultValue;
+        }
+        boolean result = defaultValue;
+        for (String flag : flags.trim().split("\\s+")) {
+            flag = flag.replace('_', '-');
+            if (flag.equals("--" + name) || flag.equals("--" + name + "=true")) {
+                result = true;
+            } else if (flag.equals("--no" + name) || flag.equals("--no-" + name) || flag.equals("--" + name + "=false")) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Creates a new V8Runtime and loads the required
      * native libraries if they are not already loaded.
@@ -139,6 +195,26 @@ public class V8 extends V8Object {
      * @return A new isolated V8 Runtime.
      */
     public static V8 createV8Runtime(final String globalAlias, final String tempDirectory) {
+        return createV8Runtime(globalAlias, tempDirectory, null);
+    }
+
+    /**
+     * Creates a new V8Runtime with the given resource constraints and loads the
+     * required native libraries if they are not already loaded. An alias is also
+     * set for the global scope. For example, 'window' can be set as the global
+     * scope name.
+     *
+     * The current thread is given the lock to this runtime.
+     *
+     * @param globalAlias The name to associate with the global scope.
+     * @param tempDirectory The name of the directory to extract the native
+     * libraries too.
+     * @param constraints The resource constraints of the runtime, or null
+     * to use the V8 defaults.
+     *
+     * @return A new isolated V8 Runtime.
+     */
+    public static V8 createV8Runtime(final String globalAlias, final String tempDirectory, final V8ResourceConstraints constraints) {
         if (!nativeLibraryLoaded) {
             synchronized (lock) {
                 if (!nativeLibraryLoaded) {
@@ -149,9 +225,10 @@ public class V8 extends V8Object {
         checkNativeLibraryLoaded();
         if (!initialized) {
             _setFlags(v8Flags);
+            sharedArrayBufferEnabled = isFlagEnabled(v8Flags, "harmony-sharedarraybuffer", sharedArrayBufferEnabled);
             initialized = true;
         }
-        V8 runtime = new V8(globalAlias);
+        V8 runtime = new V8(globalAlias, constraints);
         synchronized (lock) {
             runtimeCounter++;
         }
@@ -164,7 +241,11 @@ public class V8 extends V8Object {
      * @param handler The ReferenceHandler to add
      */
     public void addReferenceHandler(final ReferenceHandler handler) {
-        referenceHandlers.add(0, handler);
+        // The handlers are copied on write, so notifying them needs neither a lock nor an iterator
+        ReferenceHandler[] handlers = new ReferenceHandler[referenceHandlers.length + 1];
+        handlers[0] = handler;
+        System.arraycopy(referenceHandlers, 0, handlers, 1, referenceHandlers.length);
+        referenceHandlers = handlers;
     }
 
     /**
@@ -174,17 +255,70 @@ public class V8 extends V8Object {
      * @param handler The reference handler to remove
      */
     public void removeReferenceHandler(final ReferenceHandler handler) {
-        referenceHandlers.remove(handler);
+        for (int i = 0; i < referenceHandlers.length; i++) {
+            if (referenceHandlers[i].equals(handler)) {
+                if (referenceHandlers.length == 1) {
+                    referenceHandlers = NO_REFERENCE_HANDLERS;
+                    return;
+                }
+                ReferenceHandler[] handlers = new ReferenceHandler[referenceHandlers.length - 1];
+                System.arraycopy(referenceHandlers, 0, handlers, 0, i);
+                System.arraycopy(referenceHandlers, i + 1, handlers, i, handlers.length - i);
+                referenceHandlers = handlers;
+                return;
+            }
+        }
     }
 
-    private void notifyReferenceCreated(final V8Value object) {
-        for (ReferenceHandler referenceHandler : referenceHandlers) {
+    /**
+     * Adds a GCHandler to track garbage collections performed by this runtime.
+     *
+     * @param handler The GCHandler to add
+     */
+    public void addGCHandler(final GCHandler handler) {
+        checkThread();
+        // The handlers are copied on write, so a handler may add or remove handlers while being notified
+        GCHandler[] handlers = new GCHandler[gcHandlers.length + 1];
+        System.arraycopy(gcHandlers, 0, handlers, 0, gcHandlers.length);
+        handlers[gcHandlers.length] = handler;
+        gcHandlers = handlers;
+        if (handlers.length == 1) {
+            setGCCallbacksEnabled(v8RuntimePtr, true);
+        }
+    }
+
+    /**
+     * Removes an existing GCHandler from the collection of GC handlers.
+     * If the GCHandler does not exist in the collection, it is ignored.
+     *
+     * @param handler The GC handler to remove
+     */
+    public void removeGCHandler(final GCHandler handler) {
+        checkThread();
+        for (int i = 0; i < gcHandlers.length; i++) {
+            if (gcHandlers[i].equals(handler)) {
+                if (gcHandlers.length == 1) {
+                    gcHandlers = NO_GC_HANDLERS;
+                    setGCCallbacksEnabled(v8RuntimePtr, false);
+                    return;
+                }
+                GCHandler[] handlers = new GCHandler[gcHandlers.length - 1];
+                System.arraycopy(gcHandlers, 0, handlers, 0, i);
+                System.arraycopy(gcHandlers, i + 1, handlers, i, handlers.length - i);
+                gcHandlers = handlers;
+                return;
+            }
+        }
+    }
+
+    private void notifyReferenceCreated(final ReferenceHandler[] handlers, final V8Value object) {
+        for (ReferenceHandler referenceHandler : handlers) {
             referenceHandler.v8HandleCreated(object);
         }
     }
 
-    private void notifyReferenceDisposed(final V8Value object) {
-        for (ReferenceHandler referenceHandler : referenceHandlers) {
+    private void notifyReferenceDisposed(final ReferenceHandler[] handlers, final V8Value object) {
+        for (ReferenceHandler referenceHandler : handlers) {
             referenceHandler.v8HandleDisposed(object);
         }
     }
@@ -206,11 +340,21 @@ public class V8 extends V8Object {
     }
 
     protected V8(final String globalAlias) {
+        this(globalAlias, null);
+    }
+
+    protected V8(final String globalAlias, final V8ResourceConstraints constraints) {
         super(null);
         released = false;
         locker = new V8Locker();
         checkThread();
-        v8RuntimePtr = _createIsolate(globalAlias);
+        if (constraints == null) {
+            v8RuntimePtr = _createIsolate(globalAlias, 0, 0, 0, 0, 0, 0);
+        } else {
+            v8RuntimePtr = _createIsolate(globalAlias, constraints.getMaxSemiSpaceSize(), constraints.getMaxOldSpaceSize(),
+                    constraints.getMaxExecutableSize(), constraints.getCodeRangeSize(), constraints.getStackSize(),
+                    constraints.getMaxArrayBufferMemory());
+        }
         objectHandle = _getGlobalObject(v8RuntimePtr);
     }
 
@@ -241,6 +385,66 @@ public class V8 extends V8Object {
         return objectReferences;
     }
 
+    /**
+     * Enables or disables automatic release of V8Values created on this runtime.
+     * While enabled, every new V8Value is tracked, and once it is no longer
+     * reachable from Java its native handle is released for it. Values created
+     * before automatic release was enabled must still be released explicitly.
+     *
+     * Unreachable values are released in batches on the thread that holds the
+     * runtime lock, when a new value is created or when
+     * {@link #releaseUnreachableValues()} is called. Inside a Java callback the
+     * native handles are only deleted once the outermost call into the runtime
+     * has returned. Values released this way are not reported to the
+     * ReferenceHandlers. Calling release on a tracked value is still allowed,
+     * and releases it immediately.
+     *
+     * A tracked value must stay strongly reachable for as long as it is used.
+     * The JIT may consider a value unreachable while one of its methods is
+     * still running, for example when the value is only referenced by a local
+     * variable that is not used afterwards. Keep such values in a field, or
+     * release them explicitly, if they are used across calls that may create
+     * new values.
+     *
+     * When the runtime is released, tracked values that are no longer
+     * reachable are released as well, even if the garbage collector has not
+     * queued them yet, so they are not reported as leaks.
+     *
+     * @param enabled True to release unreachable values automatically.
+     */
+    public void setAutoReleaseEnabled(final boolean enabled) {
+        checkThread();
+        if (enabled && (autoReleaseQueue == null)) {
+            autoReleaseQueue = new ReferenceQueue<V8Value>();
+            autoReleaseReferences = new HashMap<Long, V8ValueReference>();
+            autoReleaseHandles = new long[16];
+        }
+        autoRelease = enabled;
+    }
+
+    /**
+     * Returns whether V8Values created on this runtime are released
+     * automatically once they are no longer reachable.
+     *
+     * @return True if automatic release is enabled, false otherwise.
+     */
+    public boolean isAutoReleaseEnabled() {
+        return autoRelease;
+    }
+
+    /**
+     * Releases the native handles of all automatically tracked V8Values that
+     * the Java garbage collector has found to be unreachable so far. This
+     * happens implicitly when new values are created, but can be called
+     * explicitly, for example when the runtime is idle.
+     *
+     * @return The number of values that were released.
+     */
+    public int releaseUnreachableValues() {
+        checkThread();
+        return releaseCollectedValues(false);
+    }
+
     protected long getV8RuntimePtr() {
         return v8RuntimePtr;
     }
@@ -273,6 +477,129 @@ public class V8 extends V8Object {
         terminateExecution(v8RuntimePtr);
     }
 
+    /**
+     * Notifies the runtime that the embedder is idle and that garbage
+     * collection work may be performed for up to the given number of
+     * milliseconds. This can be used by pools or schedulers to move
+     * GC pauses out of the critical path.
+     *
+     * @param deadlineInMillis The amount of time, in milliseconds,
+     * the runtime may spend on idle work.
+     *
+     * @return True if there is no more idle work to be done, false
+     * otherwise.
+     */
+    public boolean idleNotification(final long deadlineInMillis) {
+        checkThread();
+        return idleNotificationDeadline(v8RuntimePtr, deadlineInMillis);
+    }
+
+    /**
+     * Notifies the runtime that the system is running low on memory.
+     * This triggers a full garbage collection, and should only be
+     * used when memory must be reclaimed at the cost of a long pause.
+     */
+    public void lowMemoryNotification() {
+        checkThread();
+        lowMemoryNotification(v8RuntimePtr);
+    }
+
+    /**
+     * Returns a snapshot of the heap statistics of this runtime.
+     * Obtaining the statistics does not trigger a garbage collection
+     * and is cheap enough to be sampled periodically.
+     *
+     * @return The heap statistics of this runtime.
+     */
+    public V8HeapStatistics getHeapStatistics() {
+        checkThread();
+        long[] values = new long[V8HeapStatistics.SIZE];
+        getHeapStatistics(v8RuntimePtr, values);
+        return new V8HeapStatistics(values);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of each space in the heap
+     * of this runtime, for example the new space, old space and code space.
+     *
+     * @return The statistics of each heap space.
+     */
+    public V8HeapSpaceStatistics[] getHeapSpaceStatistics() {
+        checkThread();
+        if (heapSpaceNames == null) {
+            heapSpaceNames = getHeapSpaceNames(v8RuntimePtr);
+        }
+        long[] values = new long[heapSpaceNames.length * V8HeapSpaceStatistics.SIZE];
+        getHeapSpaceStatistics(v8RuntimePtr, values);
+        V8HeapSpaceStatistics[] result = new V8HeapSpaceStatistics[heapSpaceNames.length];
+        for (int i = 0; i < heapSpaceNames.length; i++) {
+            result[i] = new V8HeapSpaceStatistics(heapSpaceNames[i], values, i * V8HeapSpaceStatistics.SIZE);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the allocator used for the
+     * backing stores of ArrayBuffers created by this runtime.
+     *
+     * @return The ArrayBuffer allocator statistics of this runtime.
+     */
+    public V8ArrayBufferAllocatorStatistics getArrayBufferAllocatorStatistics() {
+        checkThread();
+        long[] values = new long[V8ArrayBufferAllocatorStatistics.SIZE];
+        getArrayBufferAllocatorStatistics(v8RuntimePtr, values);
+        return new V8ArrayBufferAllocatorStatistics(values);
+    }
+
+    /**
+     * Reports a change in the amount of native memory that is kept alive
+     * by JavaScript objects, for example Java-owned buffers referenced
+     * from scripts. V8 uses this to decide when to perform garbage
+     * collections. Memory allocated by V8ArrayBuffers is accounted for
+     * automatically and must not be reported.
+     *
+     * Every allocation that is reported must eventually be matched by a
+     * negative adjustment of the same size when the memory is freed.
+     *
+     * @param delta The change in external memory, in bytes.
+     *
+     * @return The total amount of external memory reported to this runtime.
+     */
+    public long adjustExternalMemory(final long delta) {
+        checkThread();
+        return adjustExternalMemory(v8RuntimePtr, delta);
+    }
+
+    /**
+     * Returns the total amount of external memory reported to this
+     * runtime, including the backing stores of all live ArrayBuffers.
+     *
+     * @return The amount of external memory, in bytes.
+     */
+    public long getExternalMemory() {
+        return adjustExternalMemory(0);
+    }
+
+    /**
+     * Sets a handler that is notified when the used heap of this runtime
+     * exceeds the given fraction of the heap size limit. The handler can be
+     * used to terminate a runaway script before V8 runs out of memory and
+     * aborts the process. Only one handler can be set at a time; setting
+     * a null handler removes the current one.
+     *
+     * @param handler The handler to notify, or null to remove the handler.
+     * @param threshold The fraction of the heap size limit, greater than 0
+     * and at most 1, at which the handler is notified.
+     */
+    public void setNearHeapLimitHandler(final NearHeapLimitHandler handler, final double threshold) {
+        checkThread();
+        if ((handler != null) && ((threshold <= 0) || (threshold > 1))) {
+            throw new IllegalArgumentException("Threshold must be in the range (0, 1]: " + threshold);
+        }
+        nearHeapLimitHandler = handler;
+        setNearHeapLimitThreshold(v8RuntimePtr, handler == null ? 0 : threshold);
+    }
+
     /**
      * Release native resources associated with this runtime. Once
      * released, a runtime cannot be reused.
@@ -286,6 +613,7 @@ public class V8 extends V8Object {
             return;
         }
         checkThread();
+        releaseCollectedValues(true);
         releaseResources();
         shutdownExecutors(forceTerminateExecutors);
         if (executors != null) {
@@ -501,6 +829,171 @@ public class V8 extends V8Object {
         return executeStringScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    /**
+     * Executes a JS Script on this runtime and writes the result, which must be
+     * a String, as UTF-8 into a direct ByteBuffer. No Java String is created.
+     * The bytes are written at the position of the buffer, and the position
+     * is advanced past them. If the remaining space is too small, or the buffer
+     * is null, a new direct ByteBuffer is allocated and the bytes are written
+     * at its start instead.
+     *
+     * If the result is not a String, then a V8ResultUndefined exception is thrown.
+     *
+     * @param script The script to execute.
+     * @param output The direct, writable ByteBuffer to write the result to, or null.
+     *
+     * @return The ByteBuffer holding the result, either output or a new ByteBuffer.
+     * Null is returned if the result is null.
+     */
+    public ByteBuffer executeUtf8Script(final String script, final ByteBuffer output) {
+        return executeUtf8Script(script, null, 0, output);
+    }
+
+    /**
+     * Executes a JS Script on this runtime and writes the result, which must be
+     * a String, as UTF-8 into a direct ByteBuffer. See
+     * {@link #executeUtf8Script(String, ByteBuffer)} for details.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     * @param output The direct, writable ByteBuffer to write the result to, or null.
+     *
+     * @return The ByteBuffer holding the result, either output or a new ByteBuffer.
+     * Null is returned if the result is null.
+     */
+    public ByteBuffer executeUtf8Script(final String script, final String scriptName, final int lineNumber, final ByteBuffer output) {
+        checkThread();
+        checkScript(script);
+        checkUtf8Buffer(output);
+        int position = output == null ? 0 : output.position();
+        int limit = output == null ? 0 : output.limit();
+        return executeUtf8Script(v8RuntimePtr, script, scriptName, lineNumber, output, position, limit);
+    }
+
+    /**
+     * Parses a JSON string with the JSON parser of this runtime. The result is
+     * an Integer, Double, Boolean, String, V8Array or V8Object, or null if the
+     * JSON text is null. Unlike executeScript("JSON.parse(...)"), the text is
+     * neither quoted nor compiled as a script.
+     *
+     * If the result is a V8Value, it must be released.
+     *
+     * @param json The JSON text to parse.
+     *
+     * @return The parsed value.
+     */
+    public Object parseJSON(final String json) {
+        checkThread();
+        checkJSON(json);
+        return parseJSON(v8RuntimePtr, json);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON text between the position and the limit of a
+     * ByteBuffer with the JSON parser of this runtime. The content of a direct
+     * ByteBuffer is passed to V8 without creating a Java String, a non-direct
+     * ByteBuffer is copied to a direct ByteBuffer first. The position of the
+     * ByteBuffer is not changed. See {@link #parseJSON(String)} for the result.
+     *
+     * @param json The ByteBuffer holding the UTF-8 encoded JSON text.
+     *
+     * @return The parsed value.
+     */
+    public Object parseJSON(final ByteBuffer json) {
+        checkThread();
+        checkJSON(json);
+        ByteBuffer buffer = json;
+        if (!buffer.isDirect()) {
+            buffer = ByteBuffer.allocateDirect(json.remaining());
+            buffer.put(json.duplicate());
+            buffer.flip();
+        }
+        return parseUtf8JSON(v8RuntimePtr, buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Serializes a value and the object graph reachable from it into a compact
+     * binary form in a single native call. Objects, Arrays, Dates, ArrayBuffers and
+     * typed arrays are supported, shared references and cycles are preserved.
+     * The result can be passed to {@link #deserialize(ByteBuffer)} of any runtime,
+     * or decoded in Java with {@link V8ValueCodec}.
+     *
+     * @param value The value to serialize.
+     *
+     * @return A direct ByteBuffer holding the serialized value between position and limit.
+     *
+     * @throws IllegalArgumentException if the graph contains a function or symbol.
+     */
+    public ByteBuffer serialize(final V8Value value) {
+        checkThread();
+        if ((value == null) || value.isUndefined()) {
+            return V8ValueCodec.encode(value);
+        }
+        ByteBuffer result = serialize(v8RuntimePtr, value.getHandle());
+        return result == null ? null : result.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Creates the value serialized between the position and the limit of a
+     * ByteBuffer in this runtime, in a single native call. The data is produced by
+     * {@link #serialize(V8Value)} or {@link V8ValueCodec#encode(Object)}. A non-direct
+     * ByteBuffer is copied to a direct ByteBuffer first. The position of the
+     * ByteBuffer is not changed.
+     *
+     * The result is an Integer, Double, Boolean, String or V8Value, or null. If the
+     * result is a V8Value, it must be released.
+     *
+     * @param data The serialized value.
+     *
+     * @return The deserialized value.
+     *
+     * @throws IllegalArgumentException if the data is not a valid serialized value.
+     * @throws V8RuntimeException if the memory for an ArrayBuffer cannot be allocated.
+     */
+    public Object deserialize(final ByteBuffer data) {
+        checkThread();
+        if (data == null) {
+            throw new NullPointerException("Data is null");
+        }
+        ByteBuffer buffer = data;
+        if (!buffer.isDirect()) {
+            buffer = ByteBuffer.allocateDirect(data.remaining());
+            buffer.put(data.duplicate());
+            buffer.flip();
+        }
+        return deserialize(v8RuntimePtr, buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Copies a value and the object graph reachable from it into another runtime.
+     * The graph is serialized in this runtime and deserialized in the target runtime
+     * in a single native call, without creating Java objects for its elements. The
+     * same values as in {@link #serialize(V8Value)} are supported. Both runtimes
+     * must be accessible from the current thread.
+     *
+     * The result is an Integer, Double, Boolean, String or V8Value of the target
+     * runtime, or null. If the result is a V8Value, it must be released.
+     *
+     * @param value The value to copy.
+     * @param target The runtime to copy the value into.
+     *
+     * @return The copy of the value in the target runtime.
+     *
+     * @throws IllegalArgumentException if the graph contains a function or symbol.
+     */
+    public Object cloneInto(final V8Value value, final V8 target) {
+        checkThread();
+        target.checkThread();
+        if (value == null) {
+            return null;
+        } else if (value.isUndefined()) {
+            return getUndefined();
+        }
+        return cloneInto(v8RuntimePtr, value.getHandle(), target, target.getV8RuntimePtr());
+    }
+
     /**
      * Executes a JS Script on this runtime and returns the result as a boolean.
      * If the result is not a boolean, then a V8ResultUndefinedException is thrown.
@@ -595,6 +1088,68 @@ public class V8 extends V8Object {
         return executeScript(getV8RuntimePtr(), UNKNOWN, script, scriptName, lineNumber);
     }
 
+    /**
+     * Executes a JS Script held in a V8ExternalString on this runtime and returns
+     * the result as a Java Object. The source is not copied onto the V8 heap.
+     * Primitives will be boxed.
+     *
+     * @param script The script to execute.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object executeExternalScript(final V8ExternalString script) {
+        return executeExternalScript(script, null, 0);
+    }
+
+    /**
+     * Executes a JS Script held in a V8ExternalString on this runtime and returns
+     * the result as a Java Object. The source is not copied onto the V8 heap.
+     * Primitives will be boxed.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object executeExternalScript(final V8ExternalString script, final String scriptName, final int lineNumber) {
+        checkThread();
+        if (script == null) {
+            throw new NullPointerException("Script is null");
+        }
+        return executeExternalScript(getV8RuntimePtr(), UNKNOWN, script.getData(), script.isOneByte(), script.length(), scriptName, lineNumber);
+    }
+
+    /**
+     * Executes a list of JS Scripts on this runtime, in order, with a single
+     * call into the runtime. A script that fails does not stop the scripts
+     * after it. Primitives will be boxed.
+     *
+     * The result contains one entry per script: the result of the script as
+     * a Java Object, or the V8RuntimeException the script failed with. Any
+     * V8Values in the result must be released. If execution is terminated,
+     * the remaining scripts are not run and report the same exception.
+     *
+     * @param scripts The scripts to execute.
+     *
+     * @return The results of the scripts, in the same order.
+     */
+    public List<Object> executeScripts(final List<ScriptSource> scripts) {
+        checkThread();
+        int size = scripts.size();
+        String[] sources = new String[size];
+        String[] scriptNames = new String[size];
+        int[] lineNumbers = new int[size];
+        for (int i = 0; i < size; i++) {
+            ScriptSource script = scripts.get(i);
+            sources[i] = script.getScript();
+            scriptNames[i] = script.getScriptName();
+            lineNumbers[i] = script.getLineNumber();
+        }
+        return Arrays.asList(executeScripts(getV8RuntimePtr(), sources, scriptNames, lineNumbers));
+    }
+
     /**
      * Executes a JS Script on this runtime and returns the result as a V8Object.
      * If the result is not a V8Object, then a V8ResultUndefinedException is thrown.
@@ -672,6 +1227,14 @@ public class V8 extends V8Object {
         return _getBuildID();
     }
 
+    void notifyArrayBufferDetached() {
+        arrayBufferDetachCount++;
+    }
+
+    long getArrayBufferDetachCount() {
+        return arrayBufferDetachCount;
+    }
+
     void checkThread() {
         locker.checkThread();
         if (isReleased()) {
@@ -679,12 +1242,71 @@ public class V8 extends V8Object {
         }
     }
 
+    private int releaseCollectedValues(final boolean includeCleared) {
+        if (autoReleaseQueue == null) {
+            return 0;
+        }
+        int count = 0;
+        Reference<? extends V8Value> reference;
+        while ((reference = autoReleaseQueue.poll()) != null) {
+            long handle = ((V8ValueReference) reference).handle;
+            // A reference already released by a previous sweep may still be queued
+            if (autoReleaseReferences.get(handle) == reference) {
+                autoReleaseReferences.remove(handle);
+                count = addCollectedHandle(handle, count);
+            }
+        }
+        if (includeCleared) {
+            Iterator<V8ValueReference> iterator = autoReleaseReferences.values().iterator();
+            while (iterator.hasNext()) {
+                V8ValueReference tracked = iterator.next();
+                if (tracked.get() == null) {
+                    iterator.remove();
+                    count = addCollectedHandle(tracked.handle, count);
+                }
+            }
+        }
+        if (count > 0) {
+            objectReferences -= count;
+            releaseHandles(v8RuntimePtr, autoReleaseHandles, count);
+        }
+        return count;
+    }
+
+    private int addCollectedHandle(final long handle, final int count) {
+        if (count == autoReleaseHandles.length) {
+            long[] handles = new long[count * 2];
+            System.arraycopy(autoReleaseHandles, 0, handles, 0, count);
+            autoReleaseHandles = handles;
+        }
+        autoReleaseHandles[count] = handle;
+        return count + 1;
+    }
+
+    static void checkUtf8Buffer(final ByteBuffer output) {
+        if (output == null) {
+            return;
+        }
+        if (!output.isDirect()) {
+            throw new IllegalArgumentException("ByteBuffer must be a direct ByteBuffer");
+        }
+        if (output.isReadOnly()) {
+            throw new IllegalArgumentException("ByteBuffer must not be read-only");
+        }
+    }
+
     static void checkScript(final String script) {
         if (script == null) {
             throw new NullPointerException("Script is null");
         }
     }
 
+    static void checkJSON(final Object json) {
+        if (json == null) {
+            throw new NullPointerException("JSON is null");
+        }
+    }
+
     void registerCallback(final Object object, final Method method, final long objectHandle, final String jsFunctionName, final boolean includeReceiver) {
         MethodDescriptor methodDescriptor = new MethodDescriptor();
         methodDescriptor.object = object;
@@ -733,6 +1355,19 @@ public class V8 extends V8Object {
         functionRegistry.remove(methodID);
     }
 
+    protected void notifyGCCompleted(final int gcType, final long pauseTime) {
+        GCHandler[] handlers = gcHandlers;
+        for (GCHandler gcHandler : handlers) {
+            gcHandler.gcCompleted(this, gcType, pauseTime);
+        }
+    }
+
+    protected void notifyNearHeapLimit(final long usedHeapSize, final long heapSizeLimit) {
+        if (nearHeapLimitHandler != null) {
+            nearHeapLimitHandler.nearHeapLimit(this, usedHeapSize, heapSizeLimit);
+        }
+    }
+
     protected Object callObjectJavaMethod(final long methodID, final V8Object receiver, final V8Array parameters) throws Throwable {
         MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
         if (methodDescriptor.callback != null) {
@@ -890,6 +1525,7 @@ public class V8 extends V8Object {
                 case V8_FUNCTION:
                     return array.getObject(index);
                 case V8_ARRAY_BUFFER:
+                case V8_SHARED_ARRAY_BUFFER:
                     return array.get(index);
                 case UNDEFINED:
                     return V8.getUndefined();
@@ -928,18 +1564,50 @@ public class V8 extends V8Object {
         return _executeDoubleScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    protected ByteBuffer executeUtf8Script(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber, final ByteBuffer output, final int position, final int limit) {
+        return _executeUtf8Script(v8RuntimePtr, script, scriptName, lineNumber, output, position, limit);
+    }
+
     protected String executeStringScript(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber) {
         return _executeStringScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    protected Object parseJSON(final long v8RuntimePtr, final String json) {
+        return _parseJSON(v8RuntimePtr, json);
+    }
+
+    protected Object parseUtf8JSON(final long v8RuntimePtr, final ByteBuffer json, final int position, final int limit) {
+        return _parseUtf8JSON(v8RuntimePtr, json, position, limit);
+    }
+
+    protected ByteBuffer serialize(final long v8RuntimePtr, final long objectHandle) {
+        return _serialize(v8RuntimePtr, objectHandle);
+    }
+
+    protected Object deserialize(final long v8RuntimePtr, final ByteBuffer data, final int position, final int limit) {
+        return _deserialize(v8RuntimePtr, data, position, limit);
+    }
+
+    protected Object cloneInto(final long v8RuntimePtr, final long objectHandle, final V8 target, final long targetRuntimePtr) {
+        return _cloneInto(v8RuntimePtr, objectHandle, target, targetRuntimePtr);
+    }
+
     protected boolean executeBooleanScript(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber) {
         return _executeBooleanScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    protected Object[] executeScripts(final long v8RuntimePtr, final String[] scripts, final String[] scriptNames, final int[] lineNumbers) {
+        return _executeScripts(v8RuntimePtr, scripts, scriptNames, lineNumbers);
+    }
+
     protected Object executeScript(final long v8RuntimePtr, final int expectedType, final String script, final String scriptName, final int lineNumber) {
         return _executeScript(v8RuntimePtr, expectedType, script, scriptName, lineNumber);
     }
 
+    protected Object executeExternalScript(final long v8RuntimePtr, final int expectedType, final ByteBuffer script, final boolean oneByte, final int length, final String scriptName, final int lineNumber) {
+        return _executeExternalScript(v8RuntimePtr, expectedType, script, oneByte, length, scriptName, lineNumber);
+    }
+
     protected void executeVoidScript(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber) {
         _executeVoidScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
@@ -948,6 +1616,10 @@ public class V8 extends V8Object {
         _release(v8RuntimePtr, objectHandle);
     }
 
+    protected void releaseHandles(final long v8RuntimePtr, final long[] objectHandles, final int length) {
+        _releaseHandles(v8RuntimePtr, objectHandles, length);
+    }
+
     protected boolean contains(final long v8RuntimePtr, final long objectHandle, final String key) {
         return _contains(v8RuntimePtr, objectHandle, key);
     }
@@ -984,6 +1656,10 @@ public class V8 extends V8Object {
         return _executeDoubleFunction(v8RuntimePtr, objectHandle, name, parametersHandle);
     }
 
+    protected ByteBuffer executeUtf8Function(final long v8RuntimePtr, final long handle, final String name, final long parametersHandle, final ByteBuffer output, final int position, final int limit) {
+        return _executeUtf8Function(v8RuntimePtr, handle, name, parametersHandle, output, position, limit);
+    }
+
     protected String executeStringFunction(final long v8RuntimePtr, final long handle, final String name, final long parametersHandle) {
         return _executeStringFunction(v8RuntimePtr, handle, name, parametersHandle);
     }
@@ -1000,6 +1676,70 @@ public class V8 extends V8Object {
         return _executeFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
     }
 
+    protected int callIntegerFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final long parametersHandle) {
+        return _callIntegerFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
+    }
+
+    protected double callDoubleFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final long parametersHandle) {
+        return _callDoubleFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
+    }
+
+    protected boolean callBooleanFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final long parametersHandle) {
+        return _callBooleanFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
+    }
+
+    protected String callStringFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final long parametersHandle) {
+        return _callStringFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
+    }
+
+    protected void callVoidFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final long parametersHandle) {
+        _callVoidFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
+    }
+
+    protected Object executeFunction(final long v8RuntimePtr, final long objectHandle, final String name, final V8Arguments arguments) {
+        return _executeFunctionWithArguments(v8RuntimePtr, objectHandle, name, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected Object callFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final V8Arguments arguments) {
+        return _callFunctionWithArguments(v8RuntimePtr, receiverHandle, functionHandle, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected int callIntegerFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final V8Arguments arguments) {
+        return _callIntegerFunctionWithArguments(v8RuntimePtr, receiverHandle, functionHandle, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected double callDoubleFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final V8Arguments arguments) {
+        return _callDoubleFunctionWithArguments(v8RuntimePtr, receiverHandle, functionHandle, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected boolean callBooleanFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final V8Arguments arguments) {
+        return _callBooleanFunctionWithArguments(v8RuntimePtr, receiverHandle, functionHandle, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected String callStringFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final V8Arguments arguments) {
+        return _callStringFunctionWithArguments(v8RuntimePtr, receiverHandle, functionHandle, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected void callVoidFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final V8Arguments arguments) {
+        _callVoidFunctionWithArguments(v8RuntimePtr, receiverHandle, functionHandle, arguments.size(), arguments.getTypes(), arguments.getValues(), arguments.getObjects());
+    }
+
+    protected Object[] callFunctionBatch(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final List<V8Arguments> arguments) {
+        int size = arguments.size();
+        int[] sizes = new int[size];
+        byte[][] types = new byte[size][];
+        long[][] values = new long[size][];
+        Object[][] objects = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            V8Arguments item = arguments.get(i);
+            sizes[i] = item.size();
+            types[i] = item.getTypes();
+            values[i] = item.getValues();
+            objects[i] = item.getObjects();
+        }
+        return _callFunctionBatch(v8RuntimePtr, receiverHandle, functionHandle, sizes, types, values, objects);
+    }
+
     protected void executeVoidFunction(final long v8RuntimePtr, final long objectHandle, final String name, final long parametersHandle) {
         _executeVoidFunction(v8RuntimePtr, objectHandle, name, parametersHandle);
     }
@@ -1012,6 +1752,14 @@ public class V8 extends V8Object {
         return _toString(v8RuntimePtr, objectHandle);
     }
 
+    protected String toJSON(final long v8RuntimePtr, final long objectHandle) {
+        return _toJSON(v8RuntimePtr, objectHandle);
+    }
+
+    protected ByteBuffer toUtf8JSON(final long v8RuntimePtr, final long objectHandle, final ByteBuffer output, final int position, final int limit) {
+        return _toUtf8JSON(v8RuntimePtr, objectHandle, output, position, limit);
+    }
+
     protected boolean strictEquals(final long v8RuntimePtr, final long objectHandle, final long that) {
         return _strictEquals(v8RuntimePtr, objectHandle, that);
     }
@@ -1044,6 +1792,10 @@ public class V8 extends V8Object {
         _add(v8RuntimePtr, objectHandle, key, value);
     }
 
+    protected void addExternalString(final long v8RuntimePtr, final long objectHandle, final String key, final ByteBuffer value, final boolean oneByte, final int length) {
+        _addExternalString(v8RuntimePtr, objectHandle, key, value, oneByte, length);
+    }
+
     protected void addUndefined(final long v8RuntimePtr, final long objectHandle, final String key) {
         _addUndefined(v8RuntimePtr, objectHandle, key);
     }
@@ -1060,6 +1812,18 @@ public class V8 extends V8Object {
         return _initNewV8ArrayBuffer(v8RuntimePtr, capacity);
     }
 
+    protected long initNewV8ArrayBuffer(final long v8RuntimePtr, final ByteBuffer buffer, final int capacity) {
+        return _initNewV8ExternalArrayBuffer(v8RuntimePtr, buffer, capacity);
+    }
+
+    protected long initNewV8SharedArrayBuffer(final long v8RuntimePtr, final ByteBuffer buffer, final int capacity) {
+        return _initNewV8SharedArrayBuffer(v8RuntimePtr, buffer, capacity);
+    }
+
+    protected long initNewV8MappedArrayBuffer(final long v8RuntimePtr, final String fileName, final long position, final int size) throws IOException {
+        return _initNewV8MappedArrayBuffer(v8RuntimePtr, fileName, position, size);
+    }
+
     public long initNewV8Int32Array(final long runtimePtr, final long bufferHandle, final int offset, final int size) {
         return _initNewV8Int32Array(runtimePtr, bufferHandle, offset, size);
     }
@@ -1097,8 +1861,12 @@ public class V8 extends V8Object {
     }
 
 
-    protected ByteBuffer createV8ArrayBufferBackingStore(final long v8RuntimePtr, final long objectHandle, final int capacity) {
-        return _createV8ArrayBufferBackingStore(v8RuntimePtr, objectHandle, capacity);
+    protected ByteBuffer createV8ArrayBufferBackingStore(final long v8RuntimePtr, final long objectHandle) {
+        return _createV8ArrayBufferBackingStore(v8RuntimePtr, objectHandle);
+    }
+
+    protected void transferArrayBuffer(final long v8RuntimePtr, final long objectHandle, final long targetRuntimePtr, final long targetHandle) {
+        _transferArrayBuffer(v8RuntimePtr, objectHandle, targetRuntimePtr, targetHandle);
     }
 
     protected long initNewV8Array(final long v8RuntimePtr) {
@@ -1154,10 +1922,46 @@ public class V8 extends V8Object {
         _addArrayStringItem(v8RuntimePtr, arrayHandle, value);
     }
 
+    protected void addArrayExternalStringItem(final long v8RuntimePtr, final long arrayHandle, final ByteBuffer value, final boolean oneByte, final int length) {
+        _addArrayExternalStringItem(v8RuntimePtr, arrayHandle, value, oneByte, length);
+    }
+
     protected void addArrayObjectItem(final long v8RuntimePtr, final long arrayHandle, final long value) {
         _addArrayObjectItem(v8RuntimePtr, arrayHandle, value);
     }
 
+    protected void setArrayNullItem(final long v8RuntimePtr, final long arrayHandle, final int index) {
+        _setArrayNullItem(v8RuntimePtr, arrayHandle, index);
+    }
+
+    protected void setArrayUndefinedItem(final long v8RuntimePtr, final long arrayHandle, final int index) {
+        _setArrayUndefinedItem(v8RuntimePtr, arrayHandle, index);
+    }
+
+    protected void setArrayIntItem(final long v8RuntimePtr, final long arrayHandle, final int index, final int value) {
+        _setArrayIntItem(v8RuntimePtr, arrayHandle, index, value);
+    }
+
+    protected void setArrayDoubleItem(final long v8RuntimePtr, final long arrayHandle, final int index, final double value) {
+        _setArrayDoubleItem(v8RuntimePtr, arrayHandle, index, value);
+    }
+
+    protected void setArrayBooleanItem(final long v8RuntimePtr, final long arrayHandle, final int index, final boolean value) {
+        _setArrayBooleanItem(v8RuntimePtr, arrayHandle, index, value);
+    }
+
+    protected void setArrayStringItem(final long v8RuntimePtr, final long arrayHandle, final int index, final String value) {
+        _setArrayStringItem(v8RuntimePtr, arrayHandle, index, value);
+    }
+
+    protected void setArrayObjectItem(final long v8RuntimePtr, final long arrayHandle, final int index, final long value) {
+        _setArrayObjectItem(v8RuntimePtr, arrayHandle, index, value);
+    }
+
+    protected void setArrayLength(final long v8RuntimePtr, final long arrayHandle, final int length) {
+        _setArrayLength(v8RuntimePtr, arrayHandle, length);
+    }
+
     protected void addArrayUndefinedItem(final long v8RuntimePtr, final long arrayHandle) {
         _addArrayUndefinedItem(v8RuntimePtr, arrayHandle);
     }
@@ -1230,6 +2034,42 @@ public class V8 extends V8Object {
         _terminateExecution(v8RuntimePtr);
     }
 
+    protected boolean idleNotificationDeadline(final long v8RuntimePtr, final long deadlineInMillis) {
+        return _idleNotificationDeadline(v8RuntimePtr, deadlineInMillis);
+    }
+
+    protected void lowMemoryNotification(final long v8RuntimePtr) {
+        _lowMemoryNotification(v8RuntimePtr);
+    }
+
+    protected void setNearHeapLimitThreshold(final long v8RuntimePtr, final double threshold) {
+        _setNearHeapLimitThreshold(v8RuntimePtr, threshold);
+    }
+
+    protected void getHeapStatistics(final long v8RuntimePtr, final long[] values) {
+        _getHeapStatistics(v8RuntimePtr, values);
+    }
+
+    protected String[] getHeapSpaceNames(final long v8RuntimePtr) {
+        return _getHeapSpaceNames(v8RuntimePtr);
+    }
+
+    protected void getHeapSpaceStatistics(final long v8RuntimePtr, final long[] values) {
+        _getHeapSpaceStatistics(v8RuntimePtr, values);
+    }
+
+    protected void setGCCallbacksEnabled(final long v8RuntimePtr, final boolean enabled) {
+        _setGCCallbacksEnabled(v8RuntimePtr, enabled);
+    }
+
+    protected void getArrayBufferAllocatorStatistics(final long v8RuntimePtr, final long[] values) {
+        _getArrayBufferAllocatorStatistics(v8RuntimePtr, values);
+    }
+
+    protected long adjustExternalMemory(final long v8RuntimePtr, final long delta) {
+        return _adjustExternalMemory(v8RuntimePtr, delta);
+    }
+
     protected void releaseMethodDescriptor(final long v8RuntimePtr, final long methodDescriptor) {
         _releaseMethodDescriptor(v8RuntimePtr, methodDescriptor);
     }
@@ -1240,7 +2080,8 @@ public class V8 extends V8Object {
 
     private native void _releaseRuntime(long v8RuntimePtr);
 
-    private native long _createIsolate(String globalAlias);
+    private native long _createIsolate(String globalAlias, int maxSemiSpaceSize, int maxOldSpaceSize, int maxExecutableSize, int codeRangeSize, int stackSize,
+            int maxArrayBufferMemory);
 
     private native int _executeIntegerScript(long v8RuntimePtr, final String script, final String scriptName, final int lineNumber);
 
@@ -1248,14 +2089,32 @@ public class V8 extends V8Object {
 
     private native String _executeStringScript(long v8RuntimePtr, final String script, final String scriptName, final int lineNumber);
 
+    private native ByteBuffer _executeUtf8Script(long v8RuntimePtr, String script, String scriptName, int lineNumber, ByteBuffer output, int position, int limit);
+
+    private native Object _parseJSON(long v8RuntimePtr, String json);
+
+    private native Object _parseUtf8JSON(long v8RuntimePtr, ByteBuffer json, int position, int limit);
+
+    private native ByteBuffer _serialize(long v8RuntimePtr, long objectHandle);
+
+    private native Object _deserialize(long v8RuntimePtr, ByteBuffer data, int position, int limit);
+
+    private native Object _cloneInto(long v8RuntimePtr, long objectHandle, V8 target, long targetRuntimePtr);
+
     private native boolean _executeBooleanScript(long v8RuntimePtr, final String script, final String scriptName, final int lineNumber);
 
     private native Object _executeScript(long v8RuntimePtr, int expectedType, String script, String scriptName, int lineNumber);
 
+    private native Object[] _executeScripts(long v8RuntimePtr, String[] scripts, String[] scriptNames, int[] lineNumbers);
+
+    private native Object _executeExternalScript(long v8RuntimePtr, int expectedType, ByteBuffer script, boolean oneByte, int length, String scriptName, int lineNumber);
+
     private native void _executeVoidScript(long v8RuntimePtr, String script, String scriptName, int lineNumber);
 
     private native void _release(long v8RuntimePtr, long objectHandle);
 
+    private native void _releaseHandles(long v8RuntimePtr, long[] objectHandles, int length);
+
     private native void _releaseMethodDescriptor(long v8RuntimePtr, long methodDescriptor);
 
     private native boolean _contains(long v8RuntimePtr, long objectHandle, final String key);
@@ -1278,18 +2137,50 @@ public class V8 extends V8Object {
 
     private native String _executeStringFunction(long v8RuntimePtr2, long handle, String name, long parametersHandle);
 
+    private native ByteBuffer _executeUtf8Function(long v8RuntimePtr, long handle, String name, long parametersHandle, ByteBuffer output, int position, int limit);
+
     private native boolean _executeBooleanFunction(long v8RuntimePtr2, long handle, String name, long parametersHandle);
 
     private native Object _executeFunction(long v8RuntimePtr, int expectedType, long objectHandle, String name, long parametersHandle);
 
     private native Object _executeFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
 
+    private native int _callIntegerFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
+
+    private native double _callDoubleFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
+
+    private native boolean _callBooleanFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
+
+    private native String _callStringFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
+
+    private native void _callVoidFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
+
+    private native Object _executeFunctionWithArguments(long v8RuntimePtr, long objectHandle, String name, int size, byte[] types, long[] values, Object[] objects);
+
+    private native Object _callFunctionWithArguments(long v8RuntimePtr, long receiverHandle, long functionHandle, int size, byte[] types, long[] values, Object[] objects);
+
+    private native int _callIntegerFunctionWithArguments(long v8RuntimePtr, long receiverHandle, long functionHandle, int size, byte[] types, long[] values, Object[] objects);
+
+    private native double _callDoubleFunctionWithArguments(long v8RuntimePtr, long receiverHandle, long functionHandle, int size, byte[] types, long[] values, Object[] objects);
+
+    private native boolean _callBooleanFunctionWithArguments(long v8RuntimePtr, long receiverHandle, long functionHandle, int size, byte[] types, long[] values, Object[] objects);
+
+    private native String _callStringFunctionWithArguments(long v8RuntimePtr, long receiverHandle, long functionHandle, int size, byte[] types, long[] values, Object[] objects);
+
+    private native void _callVoidFunctionWithArguments(long v8RuntimePtr, long receiverHandle, long functionHandle, int size, byte[] types, long[] values, Object[] objects);
+
+    private native Object[] _callFunctionBatch(long v8RuntimePtr, long receiverHandle, long functionHandle, int[] sizes, byte[][] types, long[][] values, Object[][] objects);
+
     private native void _executeVoidFunction(long v8RuntimePtr, long objectHandle, final String name, final long parametersHandle);
 
     private native boolean _equals(long v8RuntimePtr, long objectHandle, long that);
 
     private native String _toString(long v8RuntimePtr, long ObjectHandle);
 
+    private native String _toJSON(long v8RuntimePtr, long objectHandle);
+
+    private native ByteBuffer _toUtf8JSON(long v8RuntimePtr, long objectHandle, ByteBuffer output, int position, int limit);
+
     private native boolean _strictEquals(long v8RuntimePtr, long objectHandle, long that);
 
     private native boolean _sameValue(long v8RuntimePtr, long objectHandle, long that);
@@ -1306,6 +2197,8 @@ public class V8 extends V8Object {
 
     private native void _add(long v8RuntimePtr, long objectHandle, final String key, final String value);
 
+    private native void _addExternalString(long v8RuntimePtr, long objectHandle, String key, ByteBuffer value, boolean oneByte, int length);
+
     private native void _addUndefined(long v8RuntimePtr, long objectHandle, final String key);
 
     private native void _addNull(long v8RuntimePtr, long objectHandle, final String key);
@@ -1338,10 +2231,28 @@ public class V8 extends V8Object {
 
     private native void _addArrayStringItem(long v8RuntimePtr, long arrayHandle, String value);
 
+    private native void _addArrayExternalStringItem(long v8RuntimePtr, long arrayHandle, ByteBuffer value, boolean oneByte, int length);
+
     private native void _addArrayObjectItem(long v8RuntimePtr, long arrayHandle, long value);
 
     private native void _addArrayUndefinedItem(long v8RuntimePtr, long arrayHandle);
 
+    private native void _setArrayNullItem(long v8RuntimePtr, long arrayHandle, int index);
+
+    private native void _setArrayUndefinedItem(long v8RuntimePtr, long arrayHandle, int index);
+
+    private native void _setArrayIntItem(long v8RuntimePtr, long arrayHandle, int index, int value);
+
+    private native void _setArrayDoubleItem(long v8RuntimePtr, long arrayHandle, int index, double value);
+
+    private native void _setArrayBooleanItem(long v8RuntimePtr, long arrayHandle, int index, boolean value);
+
+    private native void _setArrayStringItem(long v8RuntimePtr, long arrayHandle, int index, String value);
+
+    private native void _setArrayObjectItem(long v8RuntimePtr, long arrayHandle, int index, long value);
+
+    private native void _setArrayLength(long v8RuntimePtr, long arrayHandle, int length);
+
     private native void _addArrayNullItem(long v8RuntimePtr, long arrayHandle);
 
     private native int _getType(long v8RuntimePtr, long objectHandle, final String key);
@@ -1376,6 +2287,12 @@ public class V8 extends V8Object {
 
     private native long _initNewV8ArrayBuffer(long v8RuntimePtr, int capacity);
 
+    private native long _initNewV8ExternalArrayBuffer(long v8RuntimePtr, ByteBuffer buffer, int capacity);
+
+    private native long _initNewV8SharedArrayBuffer(long v8RuntimePtr, ByteBuffer buffer, int capacity);
+
+    private native long _initNewV8MappedArrayBuffer(long v8RuntimePtr, String fileName, long position, int size) throws IOException;
+
     private native long _initNewV8Int32Array(long runtimePtr, long bufferHandle, int offset, int size);
 
     private native long _initNewV8UInt32Array(long runtimePtr, long bufferHandle, int offset, int size);
@@ -1394,7 +2311,9 @@ public class V8 extends V8Object {
 
     private native long _initNewV8UInt8ClampedArray(long runtimePtr, long bufferHandle, int offset, int size);
 
-    private native ByteBuffer _createV8ArrayBufferBackingStore(final long v8RuntimePtr, final long objectHandle, final int capacity);
+    private native ByteBuffer _createV8ArrayBufferBackingStore(final long v8RuntimePtr, final long objectHandle);
+
+    private native void _transferArrayBuffer(long v8RuntimePtr, long objectHandle, long targetRuntimePtr, long targetHandle);
 
     private native static String _getVersion();
 
@@ -1412,16 +2331,49 @@ public class V8 extends V8Object {
 
     private native static boolean _isRunning(final long v8RuntimePtr);
 
+    private native boolean _idleNotificationDeadline(final long v8RuntimePtr, final long deadlineInMillis);
+
+    private native void _lowMemoryNotification(final long v8RuntimePtr);
+
+    private native void _setNearHeapLimitThreshold(final long v8RuntimePtr, final double threshold);
+
+    private native void _getHeapStatistics(final long v8RuntimePtr, final long[] values);
+
+    private native String[] _getHeapSpaceNames(final long v8RuntimePtr);
+
+    private native void _getHeapSpaceStatistics(final long v8RuntimePtr, final long[] values);
+
+    private native void _setGCCallbacksEnabled(final long v8RuntimePtr, final boolean enabled);
+
+    private native long _adjustExternalMemory(final long v8RuntimePtr, final long delta);
+
+    private native void _getArrayBufferAllocatorStatistics(final long v8RuntimePtr, final long[] values);
+
     void addObjRef(final V8Value reference) {
+        // The native side defers deleting the handles while an outer native call is still running
+        if (autoReleaseQueue != null) {
+            releaseCollectedValues(false);
+        }
         objectReferences++;
-        if (!referenceHandlers.isEmpty()) {
-            notifyReferenceCreated(reference);
+        if (autoRelease) {
+            autoReleaseReferences.put(reference.objectHandle, new V8ValueReference(reference, autoReleaseQueue));
+        }
+        ReferenceHandler[] handlers = referenceHandlers;
+        if (handlers.length != 0) {
+            notifyReferenceCreated(handlers, reference);
         }
     }
 
     void releaseObjRef(final V8Value reference) {
-        if (!referenceHandlers.isEmpty()) {
-            notifyReferenceDisposed(reference);
+        if (autoReleaseReferences != null) {
+            V8ValueReference autoReleaseReference = autoReleaseReferences.remove(reference.objectHandle);
+            if (autoReleaseReference != null) {
+                autoReleaseReference.clear();
+            }
+        }
+        ReferenceHandler[] handlers = referenceHandlers;
+        if (handlers.length != 0) {
+            notifyReferenceDisposed(handlers, reference);
         }
         objectReferences--;
     }
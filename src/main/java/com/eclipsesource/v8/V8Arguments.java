@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A reusable list of arguments for a JavaScript function call. Unlike a
+ * V8Array, the arguments are kept in Java memory and handed to V8 in a
+ * single native call, so filling the list does not cross into JNI.
+ *
+ * V8Arguments are not bound to a runtime and do not need to be released.
+ * V8Values added to the list are not copied, they must stay unreleased
+ * until the function has been called.
+ *
+ * V8Arguments arguments = new V8Arguments().add(1).add(2.5).add("foo");
+ * int result = function.invokeInt(null, arguments);
+ * arguments.clear();
+ */
+public class V8Arguments {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private byte[]           types;
+    private long[]           values;
+    private Object[]         objects;
+    private int              size;
+
+    /**
+     * Create a new, empty list of arguments.
+     */
+    public V8Arguments() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new, empty list of arguments with room for the given number
+     * of arguments before the list has to grow.
+     *
+     * @param capacity The initial capacity.
+     */
+    public V8Arguments(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        types = new byte[capacity];
+        values = new long[capacity];
+        objects = new Object[capacity];
+    }
+
+    /**
+     * Adds an integer argument.
+     *
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments add(final int value) {
+        return add(V8Value.INTEGER, value, null);
+    }
+
+    /**
+     * Adds a double argument.
+     *
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments add(final double value) {
+        return add(V8Value.DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    /**
+     * Adds a boolean argument.
+     *
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments add(final boolean value) {
+        return add(V8Value.BOOLEAN, value ? 1 : 0, null);
+    }
+
+    /**
+     * Adds a String argument. A null String is passed as null.
+     *
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments add(final String value) {
+        if (value == null) {
+            return addNull();
+        }
+        return add(V8Value.STRING, 0, value);
+    }
+
+    /**
+     * Adds a V8Value argument. A null value is passed as null and
+     * undefined values are passed as undefined.
+     *
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments add(final V8Value value) {
+        if (value == null) {
+            return addNull();
+        } else if (value.isUndefined()) {
+            return addUndefined();
+        }
+        return add(V8Value.V8_OBJECT, value.getHandle(), value);
+    }
+
+    /**
+     * Adds null as an argument.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments addNull() {
+        return add(V8Value.NULL, 0, null);
+    }
+
+    /**
+     * Adds undefined as an argument.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments addUndefined() {
+        return add(V8Value.UNDEFINED, 0, null);
+    }
+
+    /**
+     * Returns the number of arguments in this list.
+     *
+     * @return The number of arguments.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all arguments so the list can be reused for another call.
+     * The capacity of the list is kept.
+     *
+     * @return The receiver.
+     */
+    public V8Arguments clear() {
+        for (int i = 0; i < size; i++) {
+            objects[i] = null;
+        }
+        size = 0;
+        return this;
+    }
+
+    void checkArguments(final V8 v8) {
+        for (int i = 0; i < size; i++) {
+            if (types[i] == V8Value.V8_OBJECT) {
+                V8Value value = (V8Value) objects[i];
+                if (value.getRuntime() != v8) {
+                    throw new IllegalArgumentException("Argument " + i + " belongs to a different runtime");
+                }
+                value.checkReleased();
+            }
+        }
+    }
+
+    byte[] getTypes() {
+        return types;
+    }
+
+    long[] getValues() {
+        return values;
+    }
+
+    Object[] getObjects() {
+        return objects;
+    }
+
+    private V8Arguments add(final int type, final long value, final Object object) {
+        if (size == types.length) {
+            grow();
+        }
+        types[size] = (byte) type;
+        values[size] = value;
+        objects[size] = object;
+        size++;
+        return this;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, types.length * 2);
+        byte[] newTypes = new byte[capacity];
+        long[] newValues = new long[capacity];
+        Object[] newObjects = new Object[capacity];
+        System.arraycopy(types, 0, newTypes, 0, size);
+        System.arraycopy(values, 0, newValues, 0, size);
+        System.arraycopy(objects, 0, newObjects, 0, size);
+        types = newTypes;
+        values = newValues;
+        objects = newObjects;
+    }
+
+}
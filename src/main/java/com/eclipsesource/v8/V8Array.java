@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.nio.ByteBuffer;
+
 /**
  * A V8Value that represents a JavaScript array.
  * JavaScript Arrays contain elements by index, but
@@ -510,6 +512,26 @@ public class V8Array extends V8Object {
         return this;
     }
 
+    /**
+     * Pushes a V8ExternalString to the next available spot in the Array. In
+     * particular, this[length] = value; The characters are not copied onto
+     * the V8 heap.
+     *
+     * @param value The value to push to the array.
+     *
+     * @return The receiver.
+     */
+    public V8Array push(final V8ExternalString value) {
+        v8.checkThread();
+        checkReleased();
+        if (value == null) {
+            v8.addArrayNullItem(v8.getV8RuntimePtr(), getHandle());
+        } else {
+            v8.addArrayExternalStringItem(v8.getV8RuntimePtr(), getHandle(), value.getData(), value.isOneByte(), value.length());
+        }
+        return this;
+    }
+
     /**
      * Pushes a V8Value to the next available spot in the Array. In
      * particular, this[length] = value;
@@ -557,6 +579,175 @@ public class V8Array extends V8Object {
         return this;
     }
 
+    /**
+     * Sets an integer value at the given index of the Array. In
+     * particular, this[index] = value; If the index is past the end of
+     * the Array, the Array grows.
+     *
+     * @param index The index to set the value at.
+     * @param value The value to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final int value) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        v8.setArrayIntItem(v8.getV8RuntimePtr(), getHandle(), index, value);
+        return this;
+    }
+
+    /**
+     * Sets a boolean value at the given index of the Array. In
+     * particular, this[index] = value; If the index is past the end of
+     * the Array, the Array grows.
+     *
+     * @param index The index to set the value at.
+     * @param value The value to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final boolean value) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        v8.setArrayBooleanItem(v8.getV8RuntimePtr(), getHandle(), index, value);
+        return this;
+    }
+
+    /**
+     * Sets a double value at the given index of the Array. In
+     * particular, this[index] = value; If the index is past the end of
+     * the Array, the Array grows.
+     *
+     * @param index The index to set the value at.
+     * @param value The value to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final double value) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        v8.setArrayDoubleItem(v8.getV8RuntimePtr(), getHandle(), index, value);
+        return this;
+    }
+
+    /**
+     * Sets a String value at the given index of the Array. In
+     * particular, this[index] = value; If the index is past the end of
+     * the Array, the Array grows.
+     *
+     * @param index The index to set the value at.
+     * @param value The value to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final String value) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        if (value == null) {
+            v8.setArrayNullItem(v8.getV8RuntimePtr(), getHandle(), index);
+        } else {
+            v8.setArrayStringItem(v8.getV8RuntimePtr(), getHandle(), index, value);
+        }
+        return this;
+    }
+
+    /**
+     * Sets a V8Value at the given index of the Array. In
+     * particular, this[index] = value; If the index is past the end of
+     * the Array, the Array grows.
+     *
+     * @param index The index to set the value at.
+     * @param value The value to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final V8Value value) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        if (value == null) {
+            v8.setArrayNullItem(v8.getV8RuntimePtr(), getHandle(), index);
+        } else if (value.equals(V8.getUndefined())) {
+            v8.setArrayUndefinedItem(v8.getV8RuntimePtr(), getHandle(), index);
+        } else {
+            v8.setArrayObjectItem(v8.getV8RuntimePtr(), getHandle(), index, value.getHandle());
+        }
+        return this;
+    }
+
+    /**
+     * Sets null at the given index of the Array. In
+     * particular, this[index] = null;
+     *
+     * @param index The index to set the value at.
+     *
+     * @return The receiver.
+     */
+    public V8Array setNull(final int index) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        v8.setArrayNullItem(v8.getV8RuntimePtr(), getHandle(), index);
+        return this;
+    }
+
+    /**
+     * Sets undefined at the given index of the Array. In
+     * particular, this[index] = undefined;
+     *
+     * @param index The index to set the value at.
+     *
+     * @return The receiver.
+     */
+    public V8Array setUndefined(final int index) {
+        v8.checkThread();
+        checkReleased();
+        checkIndex(index);
+        v8.setArrayUndefinedItem(v8.getV8RuntimePtr(), getHandle(), index);
+        return this;
+    }
+
+    /**
+     * Sets the length of the Array. In particular, this.length = length;
+     * Elements past the new length are removed, and a larger length
+     * leaves holes at the end of the Array. The length of a Typed Array
+     * cannot be changed.
+     *
+     * @param length The new length of the Array.
+     *
+     * @return The receiver.
+     */
+    public V8Array setLength(final int length) {
+        v8.checkThread();
+        checkReleased();
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative: " + length);
+        }
+        v8.setArrayLength(v8.getV8RuntimePtr(), getHandle(), length);
+        return this;
+    }
+
+    /**
+     * Removes all elements from the Array, so it can be refilled and reused,
+     * for example as the parameters of repeated function calls. In
+     * particular, this.length = 0;
+     *
+     * @return The receiver.
+     */
+    public V8Array clear() {
+        return setLength(0);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index must not be negative: " + index);
+        }
+    }
+
     static class Undefined extends V8Array {
 
         public Undefined() {
@@ -606,6 +797,24 @@ public class V8Array extends V8Object {
             return "undefined";
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#toJSON()
+         */
+        @Override
+        public String toJSON() {
+            return null;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#toJSON(java.nio.ByteBuffer)
+         */
+        @Override
+        public ByteBuffer toJSON(final ByteBuffer output) {
+            return null;
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Value#equals(java.lang.Object)
@@ -672,6 +881,15 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(java.lang.String, com.eclipsesource.v8.V8ExternalString)
+         */
+        @Override
+        public V8Object add(final String key, final V8ExternalString value) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#add(java.lang.String, com.eclipsesource.v8.V8Value)
@@ -744,6 +962,15 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeUtf8Function(java.lang.String, com.eclipsesource.v8.V8Array, java.nio.ByteBuffer)
+         */
+        @Override
+        public ByteBuffer executeUtf8Function(final String name, final V8Array parameters, final ByteBuffer output) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#executeStringFunction(java.lang.String, com.eclipsesource.v8.V8Array)
@@ -816,6 +1043,15 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getFunction(java.lang.String)
+         */
+        @Override
+        public V8Function getFunction(final String key) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#getString(java.lang.String)
@@ -1104,6 +1340,15 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#push(com.eclipsesource.v8.V8ExternalString)
+         */
+        @Override
+        public V8Array push(final V8ExternalString value) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Array#push(com.eclipsesource.v8.V8Value)
@@ -1122,6 +1367,87 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, int)
+         */
+        @Override
+        public V8Array set(final int index, final int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, boolean)
+         */
+        @Override
+        public V8Array set(final int index, final boolean value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, double)
+         */
+        @Override
+        public V8Array set(final int index, final double value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, java.lang.String)
+         */
+        @Override
+        public V8Array set(final int index, final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, com.eclipsesource.v8.V8Value)
+         */
+        @Override
+        public V8Array set(final int index, final V8Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#setNull(int)
+         */
+        @Override
+        public V8Array setNull(final int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#setUndefined(int)
+         */
+        @Override
+        public V8Array setUndefined(final int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#setLength(int)
+         */
+        @Override
+        public V8Array setLength(final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#clear()
+         */
+        @Override
+        public V8Array clear() {
+            throw new UnsupportedOperationException();
+        }
+
     }
 
 }
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -26,6 +28,7 @@ import java.nio.ByteOrder;
 public class V8ArrayBuffer extends V8Value {
 
     private ByteBuffer byteBuffer;
+    private long       byteBufferDetachCount;
 
     /**
      * Creates a new V8ArrayBuffer on a given V8Runtime with a
@@ -33,33 +36,111 @@ public class V8ArrayBuffer extends V8Value {
      *
      * @param v8 The runtime on which to create the ArrayBuffer
      * @param capacity The capacity of the buffer
+     *
+     * @throws V8RuntimeException if the memory for the buffer cannot be allocated
      */
     public V8ArrayBuffer(final V8 v8, final int capacity) {
         super(v8);
         initialize(v8.getV8RuntimePtr(), capacity);
-        byteBuffer = v8.createV8ArrayBufferBackingStore(v8.getV8RuntimePtr(), objectHandle, capacity);
-        byteBuffer.order(ByteOrder.nativeOrder());
+        setBackingStore(v8.createV8ArrayBufferBackingStore(v8.getV8RuntimePtr(), objectHandle));
     }
 
-    V8ArrayBuffer(final V8 v8, final ByteBuffer byteBuffer) {
+    /**
+     * Creates a new V8ArrayBuffer on a given V8Runtime that is backed by
+     * the memory of an existing direct ByteBuffer. The data is not copied;
+     * changes made from JavaScript are visible in the ByteBuffer and vice
+     * versa. The ArrayBuffer spans the entire capacity of the ByteBuffer,
+     * use ByteBuffer.slice() to expose only a region.
+     *
+     * The ByteBuffer is kept reachable for as long as the ArrayBuffer
+     * is referenced from JavaScript, even after this V8ArrayBuffer is
+     * released. The byte order of the ByteBuffer is set to the native
+     * byte order. Read-only ByteBuffers are rejected, since JavaScript
+     * could otherwise write to their memory.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffer
+     * @param byteBuffer The direct, writable ByteBuffer that backs the ArrayBuffer
+     */
+    public V8ArrayBuffer(final V8 v8, final ByteBuffer byteBuffer) {
         super(v8);
-        initialize(v8.getV8RuntimePtr(), byteBuffer.capacity());
-        this.byteBuffer = byteBuffer;
-        byteBuffer.order(ByteOrder.nativeOrder());
+        if (byteBuffer == null) {
+            throw new NullPointerException("ByteBuffer must not be null");
+        }
+        if (!byteBuffer.isDirect()) {
+            throw new IllegalArgumentException("ByteBuffer must be a direct ByteBuffer");
+        }
+        if (byteBuffer.isReadOnly()) {
+            throw new IllegalArgumentException("ByteBuffer must not be read-only");
+        }
+        initialize(v8.getV8RuntimePtr(), byteBuffer);
+        setBackingStore(byteBuffer);
+    }
+
+    /**
+     * Creates a new V8ArrayBuffer on a given V8Runtime that maps a region
+     * of a file. The file is only opened for reading and mapped privately
+     * (copy-on-write): pages are loaded on demand and shared with the page
+     * cache of the operating system, writes from JavaScript or Java are
+     * never written back to the file. The mapping is released once the
+     * ArrayBuffer has been collected by V8 or the runtime is released.
+     *
+     * The file must not be truncated while it is mapped.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffer
+     * @param file The file to map
+     * @param position The position in the file at which the region starts
+     * @param size The size of the region in bytes
+     *
+     * @throws IOException if the file cannot be mapped
+     */
+    public V8ArrayBuffer(final V8 v8, final File file, final long position, final int size) throws IOException {
+        super(v8);
+        if (file == null) {
+            throw new NullPointerException("File must not be null");
+        }
+        if ((position < 0) || (size < 0)) {
+            throw new IllegalArgumentException("Invalid region: " + position + ", " + size);
+        }
+        if (size == 0) {
+            initialize(v8.getV8RuntimePtr(), size);
+        } else {
+            v8.checkThread();
+            long handle = v8.initNewV8MappedArrayBuffer(v8.getV8RuntimePtr(), file.getAbsolutePath(), position, size);
+            released = false;
+            addObjectReference(handle);
+        }
+        setBackingStore(v8.createV8ArrayBufferBackingStore(v8.getV8RuntimePtr(), objectHandle));
+    }
+
+    V8ArrayBuffer(final V8 v8) {
+        super(v8);
+        initialize(v8.getV8RuntimePtr(), null);
     }
 
     @Override
     protected void initialize(final long runtimePtr, final Object data) {
         v8.checkThread();
-        int capacity = (Integer) data;
-        objectHandle = v8.initNewV8ArrayBuffer(v8.getV8RuntimePtr(), capacity);
+        if (data == null) {
+            super.initialize(runtimePtr, data);
+            return;
+        }
+        long handle;
+        if (data instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) data;
+            handle = v8.initNewV8ArrayBuffer(v8.getV8RuntimePtr(), buffer, buffer.capacity());
+        } else {
+            handle = v8.initNewV8ArrayBuffer(v8.getV8RuntimePtr(), (Integer) data);
+        }
         released = false;
-        addObjectReference(objectHandle);
+        addObjectReference(handle);
     }
 
     @Override
     protected V8Value createTwin() {
-        return new V8ArrayBuffer(v8, byteBuffer);
+        V8ArrayBuffer twin = new V8ArrayBuffer(v8);
+        twin.byteBuffer = byteBuffer;
+        twin.byteBufferDetachCount = byteBufferDetachCount;
+        return twin;
     }
 
     /*
@@ -71,15 +152,76 @@ public class V8ArrayBuffer extends V8Value {
         return (V8ArrayBuffer) super.twin();
     }
 
+    /**
+     * Transfers the contents of this ArrayBuffer to another runtime without
+     * copying. The ArrayBuffer is detached in this runtime, so it has a
+     * byteLength of 0 for any JavaScript code that still references it, and
+     * this V8ArrayBuffer is released. Both runtimes must be accessible from
+     * the current thread.
+     *
+     * Only memory owned by this runtime can be transferred; this includes
+     * buffers backed by a Java ByteBuffer and buffers that were transferred
+     * to this runtime before.
+     *
+     * Twins of this V8ArrayBuffer are detached as well, their
+     * getBackingStore() throws an IllegalStateException after the transfer.
+     * ByteBuffers obtained from getBackingStore() before the transfer must
+     * no longer be used, the memory is owned and freed by the target runtime.
+     *
+     * @param target The runtime to transfer the ArrayBuffer to
+     *
+     * @return A V8ArrayBuffer in the target runtime, which must be released.
+     */
+    public V8ArrayBuffer transferTo(final V8 target) {
+        v8.checkThread();
+        checkReleased();
+        target.checkThread();
+        V8ArrayBuffer result = new V8ArrayBuffer(target);
+        try {
+            v8.transferArrayBuffer(v8.getV8RuntimePtr(), getHandle(), target.getV8RuntimePtr(), result.getHandle());
+        } catch (Error e) {
+            result.release();
+            throw e;
+        } catch (RuntimeException e) {
+            result.release();
+            throw e;
+        }
+        v8.notifyArrayBufferDetached();
+        if (byteBuffer != null) {
+            result.setBackingStore(byteBuffer);
+        }
+        release();
+        return result;
+    }
+
     /**
      * Returns the backing store used for this ArrayBuffer.
      *
      * @return The backing store used for this ArrayBuffer.
+     *
+     * @throws IllegalStateException if the ArrayBuffer has been transferred
+     * to another runtime.
      */
     public ByteBuffer getBackingStore() {
         v8.checkReleased();
         v8.checkThread();
+        if (byteBuffer == null) {
+            setBackingStore(v8.createV8ArrayBufferBackingStore(v8.getV8RuntimePtr(), getHandle()));
+        } else if (byteBufferDetachCount != v8.getArrayBufferDetachCount()) {
+            // A detached ArrayBuffer has lost its memory, the cached ByteBuffer must not be handed out
+            ByteBuffer backingStore = v8.createV8ArrayBufferBackingStore(v8.getV8RuntimePtr(), getHandle());
+            if (backingStore.capacity() != byteBuffer.capacity()) {
+                throw new IllegalStateException("ArrayBuffer has been transferred to another runtime");
+            }
+            byteBufferDetachCount = v8.getArrayBufferDetachCount();
+        }
         return byteBuffer;
     }
 
+    private void setBackingStore(final ByteBuffer backingStore) {
+        byteBuffer = backingStore;
+        byteBuffer.order(ByteOrder.nativeOrder());
+        byteBufferDetachCount = v8.getArrayBufferDetachCount();
+    }
+
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A snapshot of the statistics of the allocator that provides the
+ * backing stores of the ArrayBuffers created by a V8 runtime. Each
+ * runtime has its own allocator, which recycles small backing stores
+ * and enforces the limit set with
+ * {@link V8ResourceConstraints#setMaxArrayBufferMemory(int)}.
+ *
+ * The statistics can be obtained using {@link V8#getArrayBufferAllocatorStatistics()}.
+ */
+public class V8ArrayBufferAllocatorStatistics {
+
+    static final int LIVE_BYTES              = 0;
+    static final int POOLED_BYTES            = 1;
+    static final int TOTAL_ALLOCATED_BYTES   = 2;
+    static final int ALLOCATION_COUNT        = 3;
+    static final int POOLED_ALLOCATION_COUNT = 4;
+    static final int FAILED_ALLOCATION_COUNT = 5;
+    static final int LIMIT                   = 6;
+    static final int SIZE                    = 7;
+
+    private final long[] values;
+
+    V8ArrayBufferAllocatorStatistics(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the number of bytes currently allocated for the backing
+     * stores of live ArrayBuffers.
+     *
+     * @return The number of live bytes.
+     */
+    public long getLiveBytes() {
+        return values[LIVE_BYTES];
+    }
+
+    /**
+     * Returns the number of bytes held by the allocator for reuse.
+     *
+     * @return The number of pooled bytes.
+     */
+    public long getPooledBytes() {
+        return values[POOLED_BYTES];
+    }
+
+    /**
+     * Returns the number of bytes allocated since the runtime was created.
+     *
+     * @return The total number of allocated bytes.
+     */
+    public long getTotalAllocatedBytes() {
+        return values[TOTAL_ALLOCATED_BYTES];
+    }
+
+    /**
+     * Returns the number of allocations since the runtime was created.
+     *
+     * @return The number of allocations.
+     */
+    public long getAllocationCount() {
+        return values[ALLOCATION_COUNT];
+    }
+
+    /**
+     * Returns the number of allocations that were served from the pool.
+     *
+     * @return The number of pooled allocations.
+     */
+    public long getPooledAllocationCount() {
+        return values[POOLED_ALLOCATION_COUNT];
+    }
+
+    /**
+     * Returns the number of allocations that failed, either because the
+     * limit was reached or because the system ran out of memory.
+     *
+     * @return The number of failed allocations.
+     */
+    public long getFailedAllocationCount() {
+        return values[FAILED_ALLOCATION_COUNT];
+    }
+
+    /**
+     * Returns the maximum number of live bytes, or 0 if there is no limit.
+     *
+     * @return The limit in bytes.
+     */
+    public long getLimit() {
+        return values[LIMIT];
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "V8ArrayBufferAllocatorStatistics [liveBytes=" + getLiveBytes() + ", pooledBytes=" + getPooledBytes()
+                + ", allocationCount=" + getAllocationCount() + ", pooledAllocationCount=" + getPooledAllocationCount() + "]";
+    }
+
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * String data held in direct memory that is handed to V8 as an external
+ * string. V8 reads the characters in place instead of copying them onto
+ * its heap, so passing a V8ExternalString to a runtime costs the same no
+ * matter how long it is. This is useful for large script sources and
+ * payloads that are executed or passed to JavaScript many times.
+ *
+ * Strings are stored with one byte per character (Latin-1) where
+ * possible, otherwise with two bytes per character (UTF-16). The memory
+ * is kept alive until every runtime that uses the string has collected
+ * it. The contents must not be modified once the string has been handed
+ * to a runtime.
+ */
+public final class V8ExternalString {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer data;
+    private final boolean    oneByte;
+    private final int        length;
+
+    private V8ExternalString(final ByteBuffer data, final boolean oneByte, final int length) {
+        this.data = data;
+        this.oneByte = oneByte;
+        this.length = length;
+    }
+
+    /**
+     * Creates a V8ExternalString from a Java String. The characters are
+     * copied once into direct memory.
+     *
+     * @param string The String to copy.
+     *
+     * @return A V8ExternalString with the contents of the String.
+     */
+    public static V8ExternalString fromString(final String string) {
+        int length = string.length();
+        if (isLatin1(string)) {
+            ByteBuffer data = ByteBuffer.allocateDirect(length);
+            for (int i = 0; i < length; i++) {
+                data.put(i, (byte) string.charAt(i));
+            }
+            return new V8ExternalString(data, true, length);
+        }
+        ByteBuffer data = ByteBuffer.allocateDirect(length * 2).order(ByteOrder.nativeOrder());
+        data.asCharBuffer().put(string);
+        return new V8ExternalString(data, false, length);
+    }
+
+    /**
+     * Creates a V8ExternalString from Latin-1 (ISO-8859-1) encoded characters
+     * in a direct ByteBuffer. The characters between the position and the
+     * limit of the buffer are used without copying them.
+     *
+     * @param latin1 A direct ByteBuffer holding Latin-1 characters.
+     *
+     * @return A V8ExternalString backed by the ByteBuffer.
+     */
+    public static V8ExternalString fromLatin1(final ByteBuffer latin1) {
+        if (!latin1.isDirect()) {
+            throw new IllegalArgumentException("ByteBuffer must be a direct ByteBuffer");
+        }
+        ByteBuffer data = latin1.slice();
+        return new V8ExternalString(data, true, data.capacity());
+    }
+
+    /**
+     * Creates a V8ExternalString from UTF-8 encoded characters between the
+     * position and the limit of a ByteBuffer. If the buffer is direct and only
+     * contains ASCII characters, it is used without copying. Otherwise the
+     * characters are decoded once into direct memory, without creating a
+     * Java String. Malformed input is replaced with U+FFFD.
+     *
+     * @param utf8 A ByteBuffer holding UTF-8 characters.
+     *
+     * @return A V8ExternalString with the decoded characters.
+     */
+    public static V8ExternalString fromUtf8(final ByteBuffer utf8) {
+        ByteBuffer source = utf8.slice();
+        int length = source.remaining();
+        if (isAscii(source)) {
+            if (source.isDirect()) {
+                return new V8ExternalString(source, true, length);
+            }
+            ByteBuffer data = ByteBuffer.allocateDirect(length);
+            data.put(source).clear();
+            return new V8ExternalString(data, true, length);
+        }
+        // A UTF-8 sequence never decodes to more UTF-16 code units than it has bytes
+        ByteBuffer data = ByteBuffer.allocateDirect(length * 2).order(ByteOrder.nativeOrder());
+        CharBuffer chars = data.asCharBuffer();
+        CharsetDecoder decoder = UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try {
+            CoderResult result = decoder.decode(source, chars, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            result = decoder.flush(chars);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException(e);
+        }
+        return new V8ExternalString(data, false, chars.position());
+    }
+
+    /**
+     * Returns the number of characters in this string.
+     *
+     * @return The length of the string.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns true if this string is stored with one byte per character.
+     *
+     * @return True if the string is stored as Latin-1, false if it is
+     * stored as UTF-16.
+     */
+    public boolean isOneByte() {
+        return oneByte;
+    }
+
+    ByteBuffer getData() {
+        return data;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        if (oneByte) {
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) (data.get(i) & 0xFF);
+            }
+        } else {
+            data.duplicate().order(ByteOrder.nativeOrder()).asCharBuffer().get(chars);
+        }
+        return new String(chars);
+    }
+
+    private static boolean isAscii(final ByteBuffer buffer) {
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLatin1(final String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
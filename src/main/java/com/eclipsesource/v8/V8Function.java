@@ -10,6 +10,10 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A V8Value that represents a JavaScript function.
  * JavaScript functions cannot be created in Java, but
@@ -18,6 +22,8 @@ package com.eclipsesource.v8;
  */
 public class V8Function extends V8Object {
 
+    private static final V8Arguments NO_ARGUMENTS = new V8Arguments(0);
+
     /**
      * Create a JavaScript function, that when invoked will call
      * the javaCallback passed to the receiver.
@@ -80,4 +86,229 @@ public class V8Function extends V8Object {
         return v8.executeFunction(v8.getV8RuntimePtr(), receiverHandle, objectHandle, parametersHandle);
     }
 
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as an integer. If the result is not an integer, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public int callInt(final V8Object receiver, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callIntegerFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getParametersHandle(parameters));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as a double. If the result is not a number, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public double callDouble(final V8Object receiver, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callDoubleFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getParametersHandle(parameters));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as a boolean. If the result is not a boolean, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public boolean callBoolean(final V8Object receiver, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callBooleanFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getParametersHandle(parameters));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as a String. If the result is not a String, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public String callString(final V8Object receiver, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callStringFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getParametersHandle(parameters));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and ignores the result.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     */
+    public void callVoid(final V8Object receiver, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        v8.callVoidFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getParametersHandle(parameters));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime. Unlike
+     * {@link #call(V8Object, V8Array)}, the arguments are passed to V8
+     * directly, without creating a V8Array.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public Object invoke(final V8Object receiver, final V8Arguments arguments) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getArguments(arguments));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as an integer. If the result is not an integer, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public int invokeInt(final V8Object receiver, final V8Arguments arguments) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callIntegerFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getArguments(arguments));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as a double. If the result is not a number, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public double invokeDouble(final V8Object receiver, final V8Arguments arguments) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callDoubleFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getArguments(arguments));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as a boolean. If the result is not a boolean, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public boolean invokeBoolean(final V8Object receiver, final V8Arguments arguments) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callBooleanFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getArguments(arguments));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and returns the
+     * result as a String. If the result is not a String, then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public String invokeString(final V8Object receiver, final V8Arguments arguments) {
+        v8.checkThread();
+        checkReleased();
+        return v8.callStringFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getArguments(arguments));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime and ignores the result.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments passed to the JS Function.
+     */
+    public void invokeVoid(final V8Object receiver, final V8Arguments arguments) {
+        v8.checkThread();
+        checkReleased();
+        v8.callVoidFunction(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, getArguments(arguments));
+    }
+
+    /**
+     * Invoke the JavaScript function once for each list of arguments, in
+     * order, with a single call into the runtime. A call that fails does
+     * not stop the calls after it.
+     *
+     * The result contains one entry per call: the result of the call as a
+     * Java Object, or the V8RuntimeException the call failed with. Any
+     * V8Values in the result must be released. If execution is terminated,
+     * the remaining calls are not made and report the same exception.
+     *
+     * @param receiver The object on which to call the function on. If receiver
+     * is null or undefined, then the V8 runtime will be used instead.
+     * @param arguments The arguments of each call. A null entry calls the
+     * function without arguments.
+     *
+     * @return The results of the calls, in the same order.
+     */
+    public List<Object> invokeAll(final V8Object receiver, final List<V8Arguments> arguments) {
+        v8.checkThread();
+        checkReleased();
+        List<V8Arguments> checkedArguments = new ArrayList<V8Arguments>(arguments.size());
+        for (V8Arguments item : arguments) {
+            checkedArguments.add(getArguments(item));
+        }
+        return Arrays.asList(v8.callFunctionBatch(v8.getV8RuntimePtr(), getReceiverHandle(receiver), objectHandle, checkedArguments));
+    }
+
+    private long getReceiverHandle(final V8Object receiver) {
+        if ((receiver == null) || receiver.isUndefined()) {
+            return v8.getHandle();
+        }
+        return receiver.getHandle();
+    }
+
+    private long getParametersHandle(final V8Array parameters) {
+        return parameters == null ? 0 : parameters.getHandle();
+    }
+
+    private V8Arguments getArguments(final V8Arguments arguments) {
+        if (arguments == null) {
+            return NO_ARGUMENTS;
+        }
+        arguments.checkArguments(v8);
+        return arguments;
+    }
+
 }
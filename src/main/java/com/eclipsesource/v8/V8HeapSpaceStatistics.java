@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A snapshot of the statistics of a single space in the heap of
+ * a V8 runtime, for example the new space or the old space. All
+ * sizes are in bytes.
+ *
+ * Heap space statistics can be obtained using {@link V8#getHeapSpaceStatistics()}.
+ */
+public class V8HeapSpaceStatistics {
+
+    static final int SPACE_SIZE           = 0;
+    static final int SPACE_USED_SIZE      = 1;
+    static final int SPACE_AVAILABLE_SIZE = 2;
+    static final int PHYSICAL_SPACE_SIZE  = 3;
+    static final int SIZE                 = 4;
+
+    private final String spaceName;
+    private final long   spaceSize;
+    private final long   spaceUsedSize;
+    private final long   spaceAvailableSize;
+    private final long   physicalSpaceSize;
+
+    V8HeapSpaceStatistics(final String spaceName, final long[] values, final int offset) {
+        this.spaceName = spaceName;
+        spaceSize = values[offset + SPACE_SIZE];
+        spaceUsedSize = values[offset + SPACE_USED_SIZE];
+        spaceAvailableSize = values[offset + SPACE_AVAILABLE_SIZE];
+        physicalSpaceSize = values[offset + PHYSICAL_SPACE_SIZE];
+    }
+
+    /**
+     * Returns the name of the space, for example 'new_space'.
+     *
+     * @return The name of the space.
+     */
+    public String getSpaceName() {
+        return spaceName;
+    }
+
+    /**
+     * Returns the amount of memory committed for this space.
+     *
+     * @return The size of the space.
+     */
+    public long getSpaceSize() {
+        return spaceSize;
+    }
+
+    /**
+     * Returns the amount of memory used by objects in this space.
+     *
+     * @return The used size of the space.
+     */
+    public long getSpaceUsedSize() {
+        return spaceUsedSize;
+    }
+
+    /**
+     * Returns the amount of memory that can still be allocated in this space.
+     *
+     * @return The available size of the space.
+     */
+    public long getSpaceAvailableSize() {
+        return spaceAvailableSize;
+    }
+
+    /**
+     * Returns the amount of physical memory used by this space.
+     *
+     * @return The physical size of the space.
+     */
+    public long getPhysicalSpaceSize() {
+        return physicalSpaceSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "V8HeapSpaceStatistics [spaceName=" + spaceName + ", spaceSize=" + spaceSize + ", spaceUsedSize=" + spaceUsedSize + "]";
+    }
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A snapshot of the heap statistics of a V8 runtime. All sizes
+ * are in bytes.
+ *
+ * Heap statistics can be obtained using {@link V8#getHeapStatistics()}.
+ */
+public class V8HeapStatistics {
+
+    static final int TOTAL_HEAP_SIZE            = 0;
+    static final int TOTAL_HEAP_SIZE_EXECUTABLE = 1;
+    static final int TOTAL_PHYSICAL_SIZE        = 2;
+    static final int TOTAL_AVAILABLE_SIZE       = 3;
+    static final int USED_HEAP_SIZE             = 4;
+    static final int HEAP_SIZE_LIMIT            = 5;
+    static final int EXTERNAL_MEMORY            = 6;
+    static final int SIZE                       = 7;
+
+    private final long[] values;
+
+    V8HeapStatistics(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the amount of memory committed for the heap.
+     *
+     * @return The total heap size.
+     */
+    public long getTotalHeapSize() {
+        return values[TOTAL_HEAP_SIZE];
+    }
+
+    /**
+     * Returns the amount of memory committed for executable code.
+     *
+     * @return The total executable heap size.
+     */
+    public long getTotalHeapSizeExecutable() {
+        return values[TOTAL_HEAP_SIZE_EXECUTABLE];
+    }
+
+    /**
+     * Returns the amount of physical memory used by the heap.
+     *
+     * @return The total physical size.
+     */
+    public long getTotalPhysicalSize() {
+        return values[TOTAL_PHYSICAL_SIZE];
+    }
+
+    /**
+     * Returns the amount of memory that can still be allocated
+     * before the heap size limit is reached.
+     *
+     * @return The total available size.
+     */
+    public long getTotalAvailableSize() {
+        return values[TOTAL_AVAILABLE_SIZE];
+    }
+
+    /**
+     * Returns the amount of memory used by live and not yet
+     * collected objects.
+     *
+     * @return The used heap size.
+     */
+    public long getUsedHeapSize() {
+        return values[USED_HEAP_SIZE];
+    }
+
+    /**
+     * Returns the maximum size the heap can grow to.
+     *
+     * @return The heap size limit.
+     */
+    public long getHeapSizeLimit() {
+        return values[HEAP_SIZE_LIMIT];
+    }
+
+    /**
+     * Returns the amount of external memory that has been reported
+     * to the runtime, for example by array buffers.
+     *
+     * @return The amount of external memory.
+     */
+    public long getExternalMemory() {
+        return values[EXTERNAL_MEMORY];
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "V8HeapStatistics [totalHeapSize=" + getTotalHeapSize() + ", usedHeapSize=" + getUsedHeapSize()
+                + ", heapSizeLimit=" + getHeapSizeLimit() + ", externalMemory=" + getExternalMemory() + "]";
+    }
+
+}
@@ -11,6 +11,7 @@
 package com.eclipsesource.v8;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 
 /**
  * The concrete class for all V8 Objects. V8Objects are
@@ -222,6 +223,30 @@ public class V8Object extends V8Value {
         throw new V8ResultUndefined();
     }
 
+    /**
+     * Returns the function associated with the specified key. The function
+     * can be invoked repeatedly without looking it up by name, and its typed
+     * call methods avoid boxing the result. If the value associated with the
+     * key is not a function, then a V8ResultUndefined exception is thrown.
+     * The function must be released.
+     *
+     * @param key The key of the function to return.
+     *
+     * @return The function associated with the given key.
+     */
+    public V8Function getFunction(final String key) {
+        v8.checkThread();
+        checkReleased();
+        Object result = v8.get(v8.getV8RuntimePtr(), V8_FUNCTION, objectHandle, key);
+        if (result instanceof V8Function) {
+            return (V8Function) result;
+        }
+        if (result instanceof Releasable) {
+            ((Releasable) result).release();
+        }
+        throw new V8ResultUndefined();
+    }
+
     /**
      * Invoke a JavaScript function and return the result as a integer. If the
      * result is not an integer, or does not exist, then V8ResultUndefined is thrown.
@@ -276,6 +301,31 @@ public class V8Object extends V8Value {
         return v8.executeStringFunction(v8.getV8RuntimePtr(), getHandle(), name, parametersHandle);
     }
 
+    /**
+     * Invoke a JavaScript function and write the result, which must be a String,
+     * as UTF-8 into a direct ByteBuffer. No Java String is created. The bytes are
+     * written at the position of the buffer, and the position is advanced past
+     * them. If the remaining space is too small, or the buffer is null, a new
+     * direct ByteBuffer is allocated and the bytes are written at its start instead.
+     * If the result is not a String, or does not exist, then V8ResultUndefined is thrown.
+     *
+     * @param name The name of the JS Function to call.
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     * @param output The direct, writable ByteBuffer to write the result to, or null.
+     *
+     * @return The ByteBuffer holding the result, either output or a new ByteBuffer.
+     * Null is returned if the result is null.
+     */
+    public ByteBuffer executeUtf8Function(final String name, final V8Array parameters, final ByteBuffer output) {
+        v8.checkThread();
+        checkReleased();
+        V8.checkUtf8Buffer(output);
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        int position = output == null ? 0 : output.position();
+        int limit = output == null ? 0 : output.limit();
+        return v8.executeUtf8Function(v8.getV8RuntimePtr(), getHandle(), name, parametersHandle, output, position, limit);
+    }
+
     /**
      * Invoke a JavaScript function and return the result as a boolean. If the
      * result is not a boolean, or does not exist, then V8ResultUndefined is thrown.
@@ -375,33 +425,32 @@ public class V8Object extends V8Value {
         if (parameters == null) {
             return executeFunction(name, null);
         }
-        V8Array parameterArray = new V8Array(v8.getRuntime());
-        try {
-            for (Object object : parameters) {
-                if (object == null) {
-                    parameterArray.pushNull();
-                } else if (object instanceof V8Value) {
-                    parameterArray.push((V8Value) object);
-                } else if (object instanceof Integer) {
-                    parameterArray.push((Integer) object);
-                } else if (object instanceof Double) {
-                    parameterArray.push((Double) object);
-                } else if (object instanceof Long) {
-                    parameterArray.push(((Long) object).doubleValue());
-                } else if (object instanceof Float) {
-                    parameterArray.push(((Float) object).floatValue());
-                } else if (object instanceof Boolean) {
-                    parameterArray.push((Boolean) object);
-                } else if (object instanceof String) {
-                    parameterArray.push((String) object);
-                } else {
-                    throw new IllegalArgumentException("Unsupported Object of type: " + object.getClass());
-                }
+        v8.checkThread();
+        checkReleased();
+        V8Arguments arguments = new V8Arguments(parameters.length);
+        for (Object object : parameters) {
+            if (object == null) {
+                arguments.addNull();
+            } else if (object instanceof V8Value) {
+                arguments.add((V8Value) object);
+            } else if (object instanceof Integer) {
+                arguments.add((Integer) object);
+            } else if (object instanceof Double) {
+                arguments.add((Double) object);
+            } else if (object instanceof Long) {
+                arguments.add(((Long) object).doubleValue());
+            } else if (object instanceof Float) {
+                arguments.add(((Float) object).floatValue());
+            } else if (object instanceof Boolean) {
+                arguments.add((Boolean) object);
+            } else if (object instanceof String) {
+                arguments.add((String) object);
+            } else {
+                throw new IllegalArgumentException("Unsupported Object of type: " + object.getClass());
             }
-            return executeFunction(name, parameterArray);
-        } finally {
-            parameterArray.release();
         }
+        arguments.checkArguments(v8);
+        return v8.executeFunction(v8.getV8RuntimePtr(), objectHandle, name, arguments);
     }
 
     /**
@@ -484,6 +533,26 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a key value pair to the receiver where the value is a V8ExternalString.
+     * The characters are not copied onto the V8 heap.
+     *
+     * @param key The key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final String key, final V8ExternalString value) {
+        v8.checkThread();
+        checkReleased();
+        if (value == null) {
+            v8.addNull(v8.getV8RuntimePtr(), objectHandle, key);
+        } else {
+            v8.addExternalString(v8.getV8RuntimePtr(), objectHandle, key, value.getData(), value.isOneByte(), value.length());
+        }
+        return this;
+    }
+
     /**
      * Adds a key value pair to the receiver where the value is a V8Value.
      *
@@ -683,6 +752,24 @@ public class V8Object extends V8Value {
             return "undefined";
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#toJSON()
+         */
+        @Override
+        public String toJSON() {
+            return null;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#toJSON(java.nio.ByteBuffer)
+         */
+        @Override
+        public ByteBuffer toJSON(final ByteBuffer output) {
+            return null;
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Value#equals(java.lang.Object)
@@ -767,6 +854,15 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(java.lang.String, com.eclipsesource.v8.V8ExternalString)
+         */
+        @Override
+        public V8Object add(final String key, final V8ExternalString value) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#add(java.lang.String, com.eclipsesource.v8.V8Value)
@@ -839,6 +935,15 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeUtf8Function(java.lang.String, com.eclipsesource.v8.V8Array, java.nio.ByteBuffer)
+         */
+        @Override
+        public ByteBuffer executeUtf8Function(final String name, final V8Array parameters, final ByteBuffer output) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#executeStringFunction(java.lang.String, com.eclipsesource.v8.V8Array)
@@ -911,6 +1016,15 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getFunction(java.lang.String)
+         */
+        @Override
+        public V8Function getFunction(final String key) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#getString(java.lang.String)
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Describes the resource limits of a V8 runtime. The constraints
+ * are passed to {@link V8#createV8Runtime(String, String, V8ResourceConstraints)}
+ * and cannot be changed once the runtime is created.
+ *
+ * A value of 0 indicates that the V8 default should be used.
+ *
+ * V8ResourceConstraints constraints = new V8ResourceConstraints()
+ *   .setMaxOldSpaceSize(64)
+ *   .setMaxSemiSpaceSize(4);
+ * V8 runtime = V8.createV8Runtime(null, null, constraints);
+ */
+public class V8ResourceConstraints {
+
+    private int maxSemiSpaceSize     = 0;
+    private int maxOldSpaceSize      = 0;
+    private int maxExecutableSize    = 0;
+    private int codeRangeSize        = 0;
+    private int stackSize            = 0;
+    private int maxArrayBufferMemory = 0;
+
+    /**
+     * Sets the maximum size of a semi-space in the young generation.
+     *
+     * @param maxSemiSpaceSize The maximum size, in megabytes.
+     *
+     * @return The receiver.
+     */
+    public V8ResourceConstraints setMaxSemiSpaceSize(final int maxSemiSpaceSize) {
+        checkSize(maxSemiSpaceSize);
+        this.maxSemiSpaceSize = maxSemiSpaceSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of the old generation. Once this limit is
+     * reached V8 can no longer allocate memory and aborts the process.
+     *
+     * @param maxOldSpaceSize The maximum size, in megabytes.
+     *
+     * @return The receiver.
+     */
+    public V8ResourceConstraints setMaxOldSpaceSize(final int maxOldSpaceSize) {
+        checkSize(maxOldSpaceSize);
+        this.maxOldSpaceSize = maxOldSpaceSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of memory used for executable code.
+     *
+     * @param maxExecutableSize The maximum size, in megabytes.
+     *
+     * @return The receiver.
+     */
+    public V8ResourceConstraints setMaxExecutableSize(final int maxExecutableSize) {
+        checkSize(maxExecutableSize);
+        this.maxExecutableSize = maxExecutableSize;
+        return this;
+    }
+
+    /**
+     * Sets the size of the virtual memory range reserved for code.
+     * This is only used on 64-bit platforms.
+     *
+     * @param codeRangeSize The size of the code range, in megabytes.
+     *
+     * @return The receiver.
+     */
+    public V8ResourceConstraints setCodeRangeSize(final int codeRangeSize) {
+        checkSize(codeRangeSize);
+        this.codeRangeSize = codeRangeSize;
+        return this;
+    }
+
+    /**
+     * Sets the amount of native stack JavaScript may use before a
+     * RangeError is thrown. The limit is computed relative to the
+     * stack of the thread that creates the runtime, and only applies
+     * to that thread. If the thread has less stack left than requested,
+     * for example a small executor thread, the limit is lowered to what
+     * the thread can provide.
+     *
+     * @param stackSize The size of the stack, in kilobytes.
+     *
+     * @return The receiver.
+     */
+    public V8ResourceConstraints setStackSize(final int stackSize) {
+        checkSize(stackSize);
+        this.stackSize = stackSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of memory that can be allocated for the
+     * backing stores of ArrayBuffers. Once this limit is reached, creating
+     * a new ArrayBuffer fails with a RangeError in JavaScript, while
+     * creating a V8ArrayBuffer or deserializing an ArrayBuffer from Java
+     * throws a V8RuntimeException. ArrayBuffers that wrap memory owned by
+     * Java are not counted.
+     *
+     * @param maxArrayBufferMemory The maximum size, in megabytes.
+     *
+     * @return The receiver.
+     */
+    public V8ResourceConstraints setMaxArrayBufferMemory(final int maxArrayBufferMemory) {
+        checkSize(maxArrayBufferMemory);
+        this.maxArrayBufferMemory = maxArrayBufferMemory;
+        return this;
+    }
+
+    /**
+     * Returns the maximum size of a semi-space in megabytes.
+     *
+     * @return The maximum size of a semi-space, or 0 for the V8 default.
+     */
+    public int getMaxSemiSpaceSize() {
+        return maxSemiSpaceSize;
+    }
+
+    /**
+     * Returns the maximum size of the old generation in megabytes.
+     *
+     * @return The maximum size of the old generation, or 0 for the V8 default.
+     */
+    public int getMaxOldSpaceSize() {
+        return maxOldSpaceSize;
+    }
+
+    /**
+     * Returns the maximum amount of memory used for executable code in megabytes.
+     *
+     * @return The maximum executable size, or 0 for the V8 default.
+     */
+    public int getMaxExecutableSize() {
+        return maxExecutableSize;
+    }
+
+    /**
+     * Returns the size of the code range in megabytes.
+     *
+     * @return The size of the code range, or 0 for the V8 default.
+     */
+    public int getCodeRangeSize() {
+        return codeRangeSize;
+    }
+
+    /**
+     * Returns the stack size in kilobytes.
+     *
+     * @return The stack size, or 0 for the V8 default.
+     */
+    public int getStackSize() {
+        return stackSize;
+    }
+
+    /**
+     * Returns the maximum amount of ArrayBuffer memory in megabytes.
+     *
+     * @return The maximum amount of ArrayBuffer memory, or 0 for no limit.
+     */
+    public int getMaxArrayBufferMemory() {
+        return maxArrayBufferMemory;
+    }
+
+    private void checkSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + size);
+        }
+    }
+
+}
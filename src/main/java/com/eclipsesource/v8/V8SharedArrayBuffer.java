@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.nio.ByteBuffer;
+
+/**
+ * V8SharedArrayBuffers represent SharedArrayBuffers from V8. The memory
+ * of a V8SharedArrayBuffer is owned by a direct java.nio.ByteBuffer, so
+ * the same ByteBuffer can be wrapped by several runtimes, each on its own
+ * thread, to work on a common block of memory without copying.
+ *
+ * SharedArrayBuffers must be enabled with the flag
+ * "--harmony-sharedarraybuffer", passed to V8.setFlags before a runtime
+ * is created. Without it, creating a V8SharedArrayBuffer throws an
+ * IllegalStateException. Add "--harmony-atomics" to synchronize access
+ * from JavaScript with the Atomics object.
+ *
+ * V8.setFlags("--harmony-sharedarraybuffer --harmony-atomics");
+ */
+public class V8SharedArrayBuffer extends V8ArrayBuffer {
+
+    /**
+     * Creates a new V8SharedArrayBuffer on a given V8Runtime with a
+     * given capacity. The memory is allocated as a direct ByteBuffer
+     * which can be used to share the buffer with other runtimes.
+     *
+     * @param v8 The runtime on which to create the SharedArrayBuffer
+     * @param capacity The capacity of the buffer
+     *
+     * @throws IllegalStateException if SharedArrayBuffers are not enabled
+     */
+    public V8SharedArrayBuffer(final V8 v8, final int capacity) {
+        this(v8, ByteBuffer.allocateDirect(capacity));
+    }
+
+    /**
+     * Creates a new V8SharedArrayBuffer on a given V8Runtime that is backed
+     * by the memory of an existing direct ByteBuffer. The data is not copied.
+     * Wrapping the same ByteBuffer on several runtimes gives each of them
+     * a SharedArrayBuffer over the same memory.
+     *
+     * The ByteBuffer is kept reachable for as long as the SharedArrayBuffer
+     * is referenced from JavaScript, even after this V8SharedArrayBuffer is
+     * released. The byte order of the ByteBuffer is set to the native
+     * byte order.
+     *
+     * @param v8 The runtime on which to create the SharedArrayBuffer
+     * @param byteBuffer The direct ByteBuffer that backs the SharedArrayBuffer
+     *
+     * @throws IllegalStateException if SharedArrayBuffers are not enabled
+     */
+    public V8SharedArrayBuffer(final V8 v8, final ByteBuffer byteBuffer) {
+        super(v8, byteBuffer);
+    }
+
+    V8SharedArrayBuffer(final V8 v8) {
+        super(v8);
+    }
+
+    @Override
+    protected void initialize(final long runtimePtr, final Object data) {
+        v8.checkThread();
+        if (data == null) {
+            super.initialize(runtimePtr, data);
+            return;
+        }
+        if (!V8.isSharedArrayBufferEnabled()) {
+            throw new IllegalStateException("SharedArrayBuffers require the V8 flag --harmony-sharedarraybuffer");
+        }
+        ByteBuffer buffer = (ByteBuffer) data;
+        long handle = v8.initNewV8SharedArrayBuffer(v8.getV8RuntimePtr(), buffer, buffer.capacity());
+        released = false;
+        addObjectReference(handle);
+    }
+
+    @Override
+    protected V8Value createTwin() {
+        V8SharedArrayBuffer twin = new V8SharedArrayBuffer(v8);
+        return twin;
+    }
+
+    /**
+     * SharedArrayBuffers cannot be detached. Wrap the backing store
+     * in the target runtime instead.
+     *
+     * @param target The runtime to transfer the ArrayBuffer to
+     *
+     * @return Never returns, an UnsupportedOperationException is thrown.
+     */
+    @Override
+    public V8ArrayBuffer transferTo(final V8 target) {
+        throw new UnsupportedOperationException("SharedArrayBuffers cannot be transferred");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.V8Object#twin()
+     */
+    @Override
+    public V8SharedArrayBuffer twin() {
+        return (V8SharedArrayBuffer) super.twin();
+    }
+
+}
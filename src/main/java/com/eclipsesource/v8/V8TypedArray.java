@@ -11,13 +11,23 @@
 package com.eclipsesource.v8;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * A representation of a JS TypedArray in Java. The typed array is simply a 'view' onto
  * a back buffer.
+ *
+ * The typed accessors such as getFloat32(index) read and write the back buffer
+ * directly, without a call into V8 per element. They throw V8ResultUndefined if
+ * the array is of a different type. The signed accessors can also be used on the
+ * unsigned array of the same element size to access the raw bits.
  */
 public class V8TypedArray extends V8Array {
 
+    private ByteBuffer view;
+    private int        viewType;
+    private long       viewDetachCount;
+
     /**
      * Create a new TypedArray from a specified ArrayBuffer, type, offset and size. For
      * example, a V8Int32Array is a typed array where each value is a 32-bit integer. The
@@ -61,6 +71,361 @@ public class V8TypedArray extends V8Array {
         }
     }
 
+    /**
+     * Returns the value of an Int8Array at the given index. The value is read
+     * directly from the backing store without calling into V8.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index.
+     */
+    public byte getInt8(final int index) {
+        return getView(INT_8_ARRAY, index).get(index);
+    }
+
+    /**
+     * Sets the value of an Int8Array at the given index.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setInt8(final int index, final byte value) {
+        getView(INT_8_ARRAY, index).put(index, value);
+    }
+
+    /**
+     * Returns the value of a Uint8Array or Uint8ClampedArray at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index, between 0 and 255.
+     */
+    public int getUint8(final int index) {
+        return getView(UNSIGNED_INT_8_ARRAY, index).get(index) & 0xFF;
+    }
+
+    /**
+     * Sets the value of a Uint8Array or Uint8ClampedArray at the given index.
+     * The value is wrapped for a Uint8Array, and clamped to 0..255 for a
+     * Uint8ClampedArray.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setUint8(final int index, final int value) {
+        ByteBuffer buffer = getView(UNSIGNED_INT_8_ARRAY, index);
+        if (viewType == UNSIGNED_INT_8_CLAMPED_ARRAY) {
+            buffer.put(index, (byte) Math.max(0, Math.min(255, value)));
+        } else {
+            buffer.put(index, (byte) value);
+        }
+    }
+
+    /**
+     * Returns the value of an Int16Array at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index.
+     */
+    public short getInt16(final int index) {
+        return getView(INT_16_ARRAY, index).getShort(index << 1);
+    }
+
+    /**
+     * Sets the value of an Int16Array at the given index.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setInt16(final int index, final short value) {
+        getView(INT_16_ARRAY, index).putShort(index << 1, value);
+    }
+
+    /**
+     * Returns the value of a Uint16Array at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index, between 0 and 65535.
+     */
+    public int getUint16(final int index) {
+        return getView(UNSIGNED_INT_16_ARRAY, index).getShort(index << 1) & 0xFFFF;
+    }
+
+    /**
+     * Sets the value of a Uint16Array at the given index. The value is
+     * wrapped to 16 bits.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setUint16(final int index, final int value) {
+        getView(UNSIGNED_INT_16_ARRAY, index).putShort(index << 1, (short) value);
+    }
+
+    /**
+     * Returns the value of an Int32Array at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index.
+     */
+    public int getInt32(final int index) {
+        return getView(INT_32_ARRAY, index).getInt(index << 2);
+    }
+
+    /**
+     * Sets the value of an Int32Array at the given index.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setInt32(final int index, final int value) {
+        getView(INT_32_ARRAY, index).putInt(index << 2, value);
+    }
+
+    /**
+     * Returns the value of a Uint32Array at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index, between 0 and 4294967295.
+     */
+    public long getUint32(final int index) {
+        return getView(UNSIGNED_INT_32_ARRAY, index).getInt(index << 2) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Sets the value of a Uint32Array at the given index. The value is
+     * wrapped to 32 bits.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setUint32(final int index, final long value) {
+        getView(UNSIGNED_INT_32_ARRAY, index).putInt(index << 2, (int) value);
+    }
+
+    /**
+     * Returns the value of a Float32Array at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index.
+     */
+    public float getFloat32(final int index) {
+        return getView(FLOAT_32_ARRAY, index).getFloat(index << 2);
+    }
+
+    /**
+     * Sets the value of a Float32Array at the given index.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setFloat32(final int index, final float value) {
+        getView(FLOAT_32_ARRAY, index).putFloat(index << 2, value);
+    }
+
+    /**
+     * Returns the value of a Float64Array at the given index.
+     *
+     * @param index The index of the element.
+     *
+     * @return The value at the index.
+     */
+    public double getFloat64(final int index) {
+        return getView(FLOAT_64_ARRAY, index).getDouble(index << 3);
+    }
+
+    /**
+     * Sets the value of a Float64Array at the given index.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     */
+    public void setFloat64(final int index, final double value) {
+        getView(FLOAT_64_ARRAY, index).putDouble(index << 3, value);
+    }
+
+    /**
+     * Copies the first destination.length elements of an Int8Array, Uint8Array
+     * or Uint8ClampedArray into the destination. If the TypedArray has fewer
+     * elements, an IndexOutOfBoundsException is thrown.
+     *
+     * @param destination The array to copy the elements to.
+     */
+    public void copyTo(final byte[] destination) {
+        getBulkView(BYTE, destination.length).duplicate().get(destination);
+    }
+
+    /**
+     * Copies the elements of the source into the first source.length elements
+     * of an Int8Array, Uint8Array or Uint8ClampedArray. If the TypedArray has
+     * fewer elements, an IndexOutOfBoundsException is thrown.
+     *
+     * @param source The array to copy the elements from.
+     */
+    public void copyFrom(final byte[] source) {
+        getBulkView(BYTE, source.length).duplicate().put(source);
+    }
+
+    /**
+     * Copies the first destination.length elements of an Int16Array or
+     * Uint16Array into the destination. If the TypedArray has fewer
+     * elements, an IndexOutOfBoundsException is thrown.
+     *
+     * @param destination The array to copy the elements to.
+     */
+    public void copyTo(final short[] destination) {
+        duplicate(getBulkView(INT_16_ARRAY, destination.length)).asShortBuffer().get(destination);
+    }
+
+    /**
+     * Copies the elements of the source into the first source.length elements
+     * of an Int16Array or Uint16Array. If the TypedArray has fewer elements,
+     * an IndexOutOfBoundsException is thrown.
+     *
+     * @param source The array to copy the elements from.
+     */
+    public void copyFrom(final short[] source) {
+        duplicate(getBulkView(INT_16_ARRAY, source.length)).asShortBuffer().put(source);
+    }
+
+    /**
+     * Copies the first destination.length elements of an Int32Array or
+     * Uint32Array into the destination. If the TypedArray has fewer
+     * elements, an IndexOutOfBoundsException is thrown.
+     *
+     * @param destination The array to copy the elements to.
+     */
+    public void copyTo(final int[] destination) {
+        duplicate(getBulkView(INT_32_ARRAY, destination.length)).asIntBuffer().get(destination);
+    }
+
+    /**
+     * Copies the elements of the source into the first source.length elements
+     * of an Int32Array or Uint32Array. If the TypedArray has fewer elements,
+     * an IndexOutOfBoundsException is thrown.
+     *
+     * @param source The array to copy the elements from.
+     */
+    public void copyFrom(final int[] source) {
+        duplicate(getBulkView(INT_32_ARRAY, source.length)).asIntBuffer().put(source);
+    }
+
+    /**
+     * Copies the first destination.length elements of a Float32Array into
+     * the destination. If the TypedArray has fewer elements, an
+     * IndexOutOfBoundsException is thrown.
+     *
+     * @param destination The array to copy the elements to.
+     */
+    public void copyTo(final float[] destination) {
+        duplicate(getBulkView(FLOAT_32_ARRAY, destination.length)).asFloatBuffer().get(destination);
+    }
+
+    /**
+     * Copies the elements of the source into the first source.length elements
+     * of a Float32Array. If the TypedArray has fewer elements, an
+     * IndexOutOfBoundsException is thrown.
+     *
+     * @param source The array to copy the elements from.
+     */
+    public void copyFrom(final float[] source) {
+        duplicate(getBulkView(FLOAT_32_ARRAY, source.length)).asFloatBuffer().put(source);
+    }
+
+    /**
+     * Copies the first destination.length elements of a Float64Array into
+     * the destination. If the TypedArray has fewer elements, an
+     * IndexOutOfBoundsException is thrown.
+     *
+     * @param destination The array to copy the elements to.
+     */
+    public void copyTo(final double[] destination) {
+        duplicate(getBulkView(FLOAT_64_ARRAY, destination.length)).asDoubleBuffer().get(destination);
+    }
+
+    /**
+     * Copies the elements of the source into the first source.length elements
+     * of a Float64Array. If the TypedArray has fewer elements, an
+     * IndexOutOfBoundsException is thrown.
+     *
+     * @param source The array to copy the elements from.
+     */
+    public void copyFrom(final double[] source) {
+        duplicate(getBulkView(FLOAT_64_ARRAY, source.length)).asDoubleBuffer().put(source);
+    }
+
+    private static ByteBuffer duplicate(final ByteBuffer buffer) {
+        return buffer.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer getView(final int type, final int index) {
+        ByteBuffer result = getView(type);
+        if ((index < 0) || (index >= getViewLength())) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + getViewLength());
+        }
+        return result;
+    }
+
+    private ByteBuffer getBulkView(final int type, final int length) {
+        ByteBuffer result = getView(type);
+        if (length > getViewLength()) {
+            throw new IndexOutOfBoundsException("Length: " + length + ", Array Length: " + getViewLength());
+        }
+        return result;
+    }
+
+    // The view is cached until an ArrayBuffer of this runtime is detached
+    private ByteBuffer getView(final int type) {
+        v8.checkThread();
+        checkReleased();
+        if ((view == null) || (viewDetachCount != v8.getArrayBufferDetachCount())) {
+            createView();
+        }
+        if (!isViewType(type)) {
+            throw new V8ResultUndefined();
+        }
+        return view;
+    }
+
+    private int getViewLength() {
+        return view.capacity() / getStructureSize(viewType);
+    }
+
+    private boolean isViewType(final int type) {
+        switch (type) {
+            case INT_8_ARRAY:
+                return (viewType == INT_8_ARRAY) || (viewType == UNSIGNED_INT_8_ARRAY) || (viewType == UNSIGNED_INT_8_CLAMPED_ARRAY);
+            case UNSIGNED_INT_8_ARRAY:
+                return (viewType == UNSIGNED_INT_8_ARRAY) || (viewType == UNSIGNED_INT_8_CLAMPED_ARRAY);
+            case INT_16_ARRAY:
+                return (viewType == INT_16_ARRAY) || (viewType == UNSIGNED_INT_16_ARRAY);
+            case INT_32_ARRAY:
+                return (viewType == INT_32_ARRAY) || (viewType == UNSIGNED_INT_32_ARRAY);
+            default:
+                return viewType == type;
+        }
+    }
+
+    private void createView() {
+        viewDetachCount = v8.getArrayBufferDetachCount();
+        viewType = getType();
+        int byteLength = length() * getStructureSize(viewType);
+        if (byteLength == 0) {
+            view = ByteBuffer.allocateDirect(0);
+            return;
+        }
+        int byteOffset = getInteger("byteOffset");
+        ByteBuffer buffer = getByteBuffer().duplicate();
+        buffer.position(byteOffset);
+        buffer.limit(byteOffset + byteLength);
+        view = buffer.slice().order(ByteOrder.nativeOrder());
+    }
+
     @Override
     protected void initialize(final long runtimePtr, final Object data) {
         v8.checkThread();
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.nio.ByteBuffer;
+
 /**
  * A base class for all V8 resources. V8 resources must
  * be released. The rules for releasing resources is as
@@ -46,6 +48,7 @@ abstract public class V8Value implements Releasable {
     public static final int UNSIGNED_INT_16_ARRAY        = 14;
     public static final int UNSIGNED_INT_32_ARRAY        = 15;
     public static final int FLOAT_32_ARRAY               = 16;
+    public static final int V8_SHARED_ARRAY_BUFFER       = 17;
     public static final int UNDEFINED                    = 99;
 
     protected V8      v8;
@@ -124,6 +127,8 @@ abstract public class V8Value implements Releasable {
                 return "UInt32Array";
             case FLOAT_32_ARRAY:
                 return "Float32Array";
+            case V8_SHARED_ARRAY_BUFFER:
+                return "V8SharedArrayBuffer";
             case UNDEFINED:
                 return "Undefined";
             default:
@@ -280,6 +285,42 @@ abstract public class V8Value implements Releasable {
         return v8.identityHash(v8.getV8RuntimePtr(), getHandle());
     }
 
+    /**
+     * Serializes this value with the JSON.stringify function of the runtime
+     * in a single native call. The original JSON.stringify is used, even if
+     * a script replaced the global JSON object.
+     *
+     * @return The JSON representation of this value, or null if the value
+     * has no JSON representation, for example if it is a function.
+     */
+    public String toJSON() {
+        v8.checkThread();
+        checkReleased();
+        return v8.toJSON(v8.getV8RuntimePtr(), getHandle());
+    }
+
+    /**
+     * Serializes this value with the JSON.stringify function of the runtime
+     * and writes the result as UTF-8 into a direct ByteBuffer. No Java String
+     * is created. The bytes are written at the position of the buffer, and the
+     * position is advanced past them. If the remaining space is too small, or
+     * the buffer is null, a new direct ByteBuffer is allocated and the bytes are
+     * written at its start instead.
+     *
+     * @param output The direct, writable ByteBuffer to write the JSON to, or null.
+     *
+     * @return The ByteBuffer holding the JSON, either output or a new ByteBuffer.
+     * Null is returned if the value has no JSON representation.
+     */
+    public ByteBuffer toJSON(final ByteBuffer output) {
+        v8.checkThread();
+        checkReleased();
+        V8.checkUtf8Buffer(output);
+        int position = output == null ? 0 : output.position();
+        int limit = output == null ? 0 : output.limit();
+        return v8.toUtf8JSON(v8.getV8RuntimePtr(), getHandle(), output, position, limit);
+    }
+
     protected void checkReleased() {
         if (released) {
             throw new IllegalStateException("Object released");
@@ -0,0 +1,441 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8TypedArray;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * A batch of records stored as named, typed columns. A batch is exchanged
+ * with JavaScript as an object with one property per column, instead of
+ * one object per record.
+ *
+ * Numeric columns appear in JavaScript as Int32Arrays, Float32Arrays or
+ * Float64Arrays, all of which are views onto a single ArrayBuffer. String
+ * columns are dictionary encoded: they appear as an object with a 'codes'
+ * Int32Array holding an index into the 'dictionary' Array of distinct
+ * strings, or -1 for null.
+ *
+ * Batches returned from JavaScript may use the same layout. String columns
+ * may also be returned as a plain Array of strings.
+ */
+public class ColumnarBatch {
+
+    private static final String CODES      = "codes";
+    private static final String DICTIONARY = "dictionary";
+
+    private final int                 rowCount;
+    private final Map<String, Object> columns = new LinkedHashMap<String, Object>();
+
+    /**
+     * Create a new, empty ColumnarBatch for the given number of rows.
+     *
+     * @param rowCount The number of rows in each column.
+     */
+    public ColumnarBatch(final int rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row count must not be negative: " + rowCount);
+        }
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Adds a column of 32-bit integers, which appears in JavaScript
+     * as an Int32Array. The values are not copied until the batch
+     * is converted to a V8Object.
+     *
+     * @param name The name of the column.
+     * @param values The values of the column, one per row.
+     *
+     * @return This batch.
+     */
+    public ColumnarBatch addInt32Column(final String name, final int[] values) {
+        return addColumn(name, values, values.length);
+    }
+
+    /**
+     * Adds a column of 32-bit floats, which appears in JavaScript
+     * as a Float32Array.
+     *
+     * @param name The name of the column.
+     * @param values The values of the column, one per row.
+     *
+     * @return This batch.
+     */
+    public ColumnarBatch addFloat32Column(final String name, final float[] values) {
+        return addColumn(name, values, values.length);
+    }
+
+    /**
+     * Adds a column of 64-bit floats, which appears in JavaScript
+     * as a Float64Array.
+     *
+     * @param name The name of the column.
+     * @param values The values of the column, one per row.
+     *
+     * @return This batch.
+     */
+    public ColumnarBatch addFloat64Column(final String name, final double[] values) {
+        return addColumn(name, values, values.length);
+    }
+
+    /**
+     * Adds a column of Strings, which is dictionary encoded when
+     * it is passed to JavaScript. Values may be null.
+     *
+     * @param name The name of the column.
+     * @param values The values of the column, one per row.
+     *
+     * @return This batch.
+     */
+    public ColumnarBatch addStringColumn(final String name, final String[] values) {
+        return addColumn(name, values, values.length);
+    }
+
+    /**
+     * Returns the number of rows in this batch.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the names of the columns, in the order they were added.
+     *
+     * @return The column names.
+     */
+    public String[] getColumnNames() {
+        return columns.keySet().toArray(new String[columns.size()]);
+    }
+
+    /**
+     * Returns the type of a column. This is one of V8Value.INT_32_ARRAY,
+     * V8Value.FLOAT_32_ARRAY, V8Value.FLOAT_64_ARRAY or V8Value.STRING.
+     *
+     * @param name The name of the column.
+     *
+     * @return The type of the column.
+     */
+    public int getColumnType(final String name) {
+        Object values = getColumn(name);
+        if (values instanceof int[]) {
+            return V8Value.INT_32_ARRAY;
+        } else if (values instanceof float[]) {
+            return V8Value.FLOAT_32_ARRAY;
+        } else if (values instanceof double[]) {
+            return V8Value.FLOAT_64_ARRAY;
+        }
+        return V8Value.STRING;
+    }
+
+    /**
+     * Returns the values of a column of 32-bit integers.
+     *
+     * @param name The name of the column.
+     *
+     * @return The values of the column.
+     */
+    public int[] getInt32Column(final String name) {
+        return (int[]) getColumn(name, V8Value.INT_32_ARRAY);
+    }
+
+    /**
+     * Returns the values of a column of 32-bit floats.
+     *
+     * @param name The name of the column.
+     *
+     * @return The values of the column.
+     */
+    public float[] getFloat32Column(final String name) {
+        return (float[]) getColumn(name, V8Value.FLOAT_32_ARRAY);
+    }
+
+    /**
+     * Returns the values of a column of 64-bit floats.
+     *
+     * @param name The name of the column.
+     *
+     * @return The values of the column.
+     */
+    public double[] getFloat64Column(final String name) {
+        return (double[]) getColumn(name, V8Value.FLOAT_64_ARRAY);
+    }
+
+    /**
+     * Returns the values of a column of Strings.
+     *
+     * @param name The name of the column.
+     *
+     * @return The values of the column.
+     */
+    public String[] getStringColumn(final String name) {
+        return (String[]) getColumn(name, V8Value.STRING);
+    }
+
+    /**
+     * Creates a JavaScript object holding the columns of this batch. The
+     * numeric data of all columns is copied into a single ArrayBuffer.
+     * The result must be released.
+     *
+     * @param v8 The runtime on which to create the object.
+     *
+     * @return A V8Object with one property per column.
+     */
+    public V8Object toV8Object(final V8 v8) {
+        long size = 0;
+        for (Object values : columns.values()) {
+            size = align(size) + ((long) rowCount * getElementSize(values));
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Batch too large to copy into a single ArrayBuffer: " + size + " bytes");
+        }
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, (int) size);
+        try {
+            V8Object result = new V8Object(v8);
+            try {
+                addColumns(v8, buffer, result);
+            } catch (RuntimeException e) {
+                result.release();
+                throw e;
+            }
+            return result;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void addColumns(final V8 v8, final V8ArrayBuffer buffer, final V8Object result) {
+        ByteBuffer backingStore = buffer.getBackingStore();
+        int offset = 0;
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            offset = (int) align(offset);
+            ByteBuffer data = backingStore.duplicate().order(ByteOrder.nativeOrder());
+            data.position(offset);
+            Object values = column.getValue();
+            if (values instanceof String[]) {
+                V8Object stringColumn = createStringColumn(v8, buffer, offset, data, (String[]) values);
+                result.add(column.getKey(), stringColumn);
+                stringColumn.release();
+            } else {
+                int type = getColumnType(column.getKey());
+                writeColumn(data, values);
+                V8TypedArray array = new V8TypedArray(v8, buffer, type, offset, rowCount);
+                result.add(column.getKey(), array);
+                array.release();
+            }
+            offset += rowCount * getElementSize(values);
+        }
+    }
+
+    /**
+     * Reads a batch from a JavaScript object with one property per column.
+     * Each property must be an Int32Array, Float32Array, Float64Array, a
+     * dictionary encoded string column or an Array of strings, and all
+     * columns must have the same length.
+     *
+     * @param object The object holding the columns.
+     *
+     * @return A ColumnarBatch with a copy of the columns.
+     */
+    public static ColumnarBatch fromV8Object(final V8Object object) {
+        String[] keys = object.getKeys();
+        Map<String, Object> columns = new LinkedHashMap<String, Object>();
+        int rowCount = -1;
+        for (String key : keys) {
+            Object values = readColumn(object, key);
+            int length = getLength(values);
+            if ((rowCount != -1) && (length != rowCount)) {
+                throw new IllegalStateException("Column " + key + " has " + length + " rows, expected " + rowCount);
+            }
+            rowCount = length;
+            columns.put(key, values);
+        }
+        ColumnarBatch result = new ColumnarBatch(Math.max(rowCount, 0));
+        result.columns.putAll(columns);
+        return result;
+    }
+
+    private ColumnarBatch addColumn(final String name, final Object values, final int length) {
+        if (columns.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate column: " + name);
+        }
+        if (length != rowCount) {
+            throw new IllegalArgumentException("Column " + name + " has " + length + " rows, expected " + rowCount);
+        }
+        columns.put(name, values);
+        return this;
+    }
+
+    private Object getColumn(final String name) {
+        Object values = columns.get(name);
+        if (values == null) {
+            throw new IllegalArgumentException("No such column: " + name);
+        }
+        return values;
+    }
+
+    private Object getColumn(final String name, final int type) {
+        Object values = getColumn(name);
+        if (getColumnType(name) != type) {
+            throw new IllegalArgumentException("Column " + name + " is of type " + V8Value.getStringRepresentaion(getColumnType(name)));
+        }
+        return values;
+    }
+
+    private V8Object createStringColumn(final V8 v8, final V8ArrayBuffer buffer, final int offset, final ByteBuffer data, final String[] values) {
+        Map<String, Integer> codes = new HashMap<String, Integer>();
+        V8Array dictionary = new V8Array(v8);
+        V8Object result = new V8Object(v8);
+        try {
+            int[] encoded = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    encoded[i] = -1;
+                    continue;
+                }
+                Integer code = codes.get(values[i]);
+                if (code == null) {
+                    code = codes.size();
+                    codes.put(values[i], code);
+                    dictionary.push(values[i]);
+                }
+                encoded[i] = code;
+            }
+            writeColumn(data, encoded);
+            V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.INT_32_ARRAY, offset, rowCount);
+            result.add(CODES, array);
+            array.release();
+            result.add(DICTIONARY, dictionary);
+        } catch (RuntimeException e) {
+            result.release();
+            throw e;
+        } finally {
+            dictionary.release();
+        }
+        return result;
+    }
+
+    private static void writeColumn(final ByteBuffer data, final Object values) {
+        if (values instanceof int[]) {
+            data.asIntBuffer().put((int[]) values);
+        } else if (values instanceof float[]) {
+            data.asFloatBuffer().put((float[]) values);
+        } else {
+            data.asDoubleBuffer().put((double[]) values);
+        }
+    }
+
+    private static Object readColumn(final V8Object object, final String key) {
+        int type = object.getType(key);
+        if (type == V8Value.V8_TYPED_ARRAY) {
+            V8TypedArray array = (V8TypedArray) object.getArray(key);
+            try {
+                return readTypedArray(array, key);
+            } finally {
+                array.release();
+            }
+        } else if (type == V8Value.V8_ARRAY) {
+            V8Array array = object.getArray(key);
+            try {
+                return array.getStrings(0, array.length());
+            } finally {
+                array.release();
+            }
+        } else if (type == V8Value.V8_OBJECT) {
+            V8Object column = object.getObject(key);
+            try {
+                return readStringColumn(column, key);
+            } finally {
+                column.release();
+            }
+        }
+        throw new IllegalStateException("Column " + key + " is of type " + V8Value.getStringRepresentaion(type));
+    }
+
+    private static Object readTypedArray(final V8TypedArray array, final String key) {
+        int type = array.getType();
+        switch (type) {
+            case V8Value.INT_32_ARRAY:
+                int[] ints = new int[array.length()];
+                array.copyTo(ints);
+                return ints;
+            case V8Value.FLOAT_32_ARRAY:
+                float[] floats = new float[array.length()];
+                array.copyTo(floats);
+                return floats;
+            case V8Value.FLOAT_64_ARRAY:
+                double[] doubles = new double[array.length()];
+                array.copyTo(doubles);
+                return doubles;
+            default:
+                throw new IllegalStateException("Column " + key + " is of type " + V8Value.getStringRepresentaion(type));
+        }
+    }
+
+    private static String[] readStringColumn(final V8Object column, final String key) {
+        if ((column.getType(CODES) != V8Value.V8_TYPED_ARRAY) || (column.getType(DICTIONARY) != V8Value.V8_ARRAY)) {
+            throw new IllegalStateException("Column " + key + " is not a dictionary encoded string column");
+        }
+        V8TypedArray codes = (V8TypedArray) column.getArray(CODES);
+        V8Array dictionary = column.getArray(DICTIONARY);
+        try {
+            if (codes.getType() != V8Value.INT_32_ARRAY) {
+                throw new IllegalStateException("Column " + key + " has codes of type " + V8Value.getStringRepresentaion(codes.getType()));
+            }
+            String[] strings = dictionary.getStrings(0, dictionary.length());
+            int[] encoded = new int[codes.length()];
+            codes.copyTo(encoded);
+            String[] result = new String[encoded.length];
+            for (int i = 0; i < encoded.length; i++) {
+                if (encoded[i] >= strings.length) {
+                    throw new IllegalStateException("Column " + key + " has an invalid code: " + encoded[i]);
+                }
+                result[i] = encoded[i] < 0 ? null : strings[encoded[i]];
+            }
+            return result;
+        } finally {
+            codes.release();
+            dictionary.release();
+        }
+    }
+
+    private static int getLength(final Object values) {
+        if (values instanceof int[]) {
+            return ((int[]) values).length;
+        } else if (values instanceof float[]) {
+            return ((float[]) values).length;
+        } else if (values instanceof double[]) {
+            return ((double[]) values).length;
+        }
+        return ((String[]) values).length;
+    }
+
+    private static int getElementSize(final Object values) {
+        return values instanceof double[] ? 8 : 4;
+    }
+
+    private static long align(final long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import com.eclipsesource.v8.GCHandler;
+import com.eclipsesource.v8.V8;
+
+/**
+ * A GCHandler that aggregates the garbage collections performed by one or
+ * more runtimes. For each GC type the number of collections, the total and
+ * maximum pause time, and a histogram of pause times are recorded. All
+ * times are in nanoseconds.
+ *
+ * GCStatistics statistics = new GCStatistics();
+ * runtime.addGCHandler(statistics);
+ * ...
+ * long p99 = statistics.getPauseTimeHistogram(GCHandler.SCAVENGE).getValueAtPercentile(99);
+ *
+ * The statistics can be read safely from any thread.
+ */
+public class GCStatistics implements GCHandler {
+
+    private static final int TYPE_COUNT = 4;
+
+    private final long[]             counts          = new long[TYPE_COUNT];
+    private final long[]             totalPauseTimes = new long[TYPE_COUNT];
+    private final long[]             maxPauseTimes   = new long[TYPE_COUNT];
+    private final LatencyHistogram[] histograms      = new LatencyHistogram[TYPE_COUNT];
+
+    /**
+     * Creates a new, empty GCStatistics.
+     */
+    public GCStatistics() {
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.GCHandler#gcCompleted(com.eclipsesource.v8.V8, int, long)
+     */
+    @Override
+    public synchronized void gcCompleted(final V8 runtime, final int gcType, final long pauseTime) {
+        int index = getIndex(gcType);
+        long time = Math.max(0, pauseTime);
+        counts[index]++;
+        totalPauseTimes[index] += time;
+        maxPauseTimes[index] = Math.max(maxPauseTimes[index], time);
+        histograms[index].recordValue(time);
+    }
+
+    /**
+     * Returns the number of garbage collections of the given type.
+     *
+     * @param gcType The GC type, as defined by {@link GCHandler}.
+     *
+     * @return The number of garbage collections.
+     */
+    public synchronized long getCount(final int gcType) {
+        return counts[getIndex(gcType)];
+    }
+
+    /**
+     * Returns the sum of the pause times of all garbage collections
+     * of the given type.
+     *
+     * @param gcType The GC type, as defined by {@link GCHandler}.
+     *
+     * @return The total pause time in nanoseconds.
+     */
+    public synchronized long getTotalPauseTime(final int gcType) {
+        return totalPauseTimes[getIndex(gcType)];
+    }
+
+    /**
+     * Returns the longest pause time of all garbage collections
+     * of the given type.
+     *
+     * @param gcType The GC type, as defined by {@link GCHandler}.
+     *
+     * @return The maximum pause time in nanoseconds.
+     */
+    public synchronized long getMaxPauseTime(final int gcType) {
+        return maxPauseTimes[getIndex(gcType)];
+    }
+
+    /**
+     * Returns a copy of the pause time histogram of the given GC type.
+     *
+     * @param gcType The GC type, as defined by {@link GCHandler}.
+     *
+     * @return A histogram of pause times in nanoseconds.
+     */
+    public synchronized LatencyHistogram getPauseTimeHistogram(final int gcType) {
+        return histograms[getIndex(gcType)].copy();
+    }
+
+    /**
+     * Returns a histogram of the pause times of all garbage collections,
+     * regardless of their type.
+     *
+     * @return A histogram of pause times in nanoseconds.
+     */
+    public synchronized LatencyHistogram getPauseTimeHistogram() {
+        LatencyHistogram result = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms) {
+            result.add(histogram);
+        }
+        return result;
+    }
+
+    /**
+     * Resets all counters and histograms.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            counts[i] = 0;
+            totalPauseTimes[i] = 0;
+            maxPauseTimes[i] = 0;
+            histograms[i].reset();
+        }
+    }
+
+    private int getIndex(final int gcType) {
+        switch (gcType) {
+            case SCAVENGE:
+                return 0;
+            case MARK_SWEEP_COMPACT:
+                return 1;
+            case INCREMENTAL_MARKING:
+                return 2;
+            case PROCESS_WEAK_CALLBACKS:
+                return 3;
+            default:
+                throw new IllegalArgumentException("Unknown GC type: " + gcType);
+        }
+    }
+
+}
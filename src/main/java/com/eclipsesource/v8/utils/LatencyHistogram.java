@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+/**
+ * A histogram of non-negative long values, such as pause times in
+ * nanoseconds. Values are recorded in log-linear buckets, similar to
+ * an HdrHistogram: values below 64 are recorded exactly, larger values
+ * are recorded with a relative error of at most 1/32 (about 3%).
+ *
+ * Recording a value does not allocate. The histogram is not thread safe.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS  = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_COUNT     = SUB_BUCKET_COUNT << 1;
+    private static final int LINEAR_BITS      = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT     = LINEAR_COUNT + ((63 - LINEAR_BITS) * SUB_BUCKET_COUNT);
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long         totalCount;
+    private long         totalValue;
+    private long         minValue = Long.MAX_VALUE;
+    private long         maxValue;
+
+    /**
+     * Records a value in the histogram.
+     *
+     * @param value The value to record, must not be negative.
+     */
+    public void recordValue(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        counts[getIndex(value)]++;
+        totalCount++;
+        totalValue += value;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Returns the number of values recorded in this histogram.
+     *
+     * @return The number of recorded values.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return The sum of all recorded values.
+     */
+    public long getTotalValue() {
+        return totalValue;
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if no values were recorded.
+     *
+     * @return The smallest recorded value.
+     */
+    public long getMinValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no values were recorded.
+     *
+     * @return The largest recorded value.
+     */
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the mean of all recorded values, or 0 if no values were recorded.
+     *
+     * @return The mean of all recorded values.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) totalValue / totalCount;
+    }
+
+    /**
+     * Returns the value at the given percentile. The returned value is the
+     * largest value that is equivalent to the recorded values at that
+     * percentile, but never larger than the largest recorded value.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     *
+     * @return The value at the given percentile, or 0 if no values were recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if ((percentile < 0) || (percentile > 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil((percentile / 100) * totalCount));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= countAtPercentile) {
+                return Math.min(getHighestEquivalentValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Adds all values recorded in another histogram to this histogram.
+     *
+     * @param other The histogram to add.
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        if (other.totalCount > 0) {
+            minValue = Math.min(minValue, other.minValue);
+            maxValue = Math.max(maxValue, other.maxValue);
+        }
+        totalCount += other.totalCount;
+        totalValue += other.totalValue;
+    }
+
+    /**
+     * Creates a copy of this histogram.
+     *
+     * @return A copy of this histogram.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram result = new LatencyHistogram();
+        result.add(this);
+        return result;
+    }
+
+    /**
+     * Removes all recorded values from this histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        totalCount = 0;
+        totalValue = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    static int getIndex(final long value) {
+        if (value < LINEAR_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_COUNT + ((exponent - LINEAR_BITS) * SUB_BUCKET_COUNT) + subBucket;
+    }
+
+    static long getHighestEquivalentValue(final int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        int exponent = ((index - LINEAR_COUNT) / SUB_BUCKET_COUNT) + LINEAR_BITS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long subBucket = ((index - LINEAR_COUNT) % SUB_BUCKET_COUNT) + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -10,7 +10,10 @@
  ******************************************************************************/
 package com.eclipsesource.v8.utils;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import com.eclipsesource.v8.ReferenceHandler;
 import com.eclipsesource.v8.V8;
@@ -29,7 +32,7 @@ public class MemoryManager {
 
     private MemoryManagerReferenceHandler memoryManagerReferenceHandler;
     private V8                            v8;
-    private ArrayList<V8Value>            references = new ArrayList<V8Value>();
+    private Set<V8Value>                  references = Collections.newSetFromMap(new IdentityHashMap<V8Value, Boolean>());
     private boolean                       releasing = false;
     private boolean                       released   = false;
 
@@ -65,13 +68,17 @@ public class MemoryManager {
      * Objects that are being managed by a MemoryManager will be released
      * once the MemoryManager is released. If an object is persisted, it will
      * be remove from the MemoryManager's control and therefore will not
-     * be released.
+     * be released. Objects are tracked by identity, so persisting an object
+     * does not persist its twins.
      *
      * @param object The object to persist
      */
     public void persist(final V8Value object) {
         v8.getLocker().checkThread();
         checkReleased();
+        if (releasing) {
+            throw new ConcurrentModificationException("Memory manager is being released");
+        }
         references.remove(object);
     }
 
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
+
+/**
+ * A set of static helper methods to expose memory mapped files to
+ * JavaScript as ArrayBuffers. The file contents are never copied into
+ * the V8 heap or the Java heap; pages are loaded on demand by the
+ * operating system and the page cache is shared between all runtimes
+ * and processes that map the same file. V8TypedArrays can be created
+ * over the returned buffers to access the data.
+ *
+ * Files are only opened for reading, so read-only files can be mapped
+ * as well. The mappings are private (copy-on-write): writes from
+ * JavaScript are never written back to the file. A mapping is released
+ * once the ArrayBuffer has been collected by V8 or the runtime has been
+ * released. Files must not be truncated while they are mapped.
+ */
+public class MemoryMappedFiles {
+
+    /**
+     * The largest region that can be mapped into a single ArrayBuffer.
+     * The size is a multiple of 8 so regions can be viewed as Float64Arrays.
+     */
+    public static final int MAX_REGION_SIZE = Integer.MAX_VALUE & ~7;
+
+    /**
+     * Maps an entire file into a V8ArrayBuffer. The file must not be larger
+     * than {@link #MAX_REGION_SIZE}; use {@link #mapRegions(V8, File, int)}
+     * for larger files. The V8ArrayBuffer must be released.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffer.
+     * @param file The file to map.
+     *
+     * @return A V8ArrayBuffer backed by the contents of the file.
+     *
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static V8ArrayBuffer map(final V8 v8, final File file) throws IOException {
+        long length = getLength(file);
+        if (length > MAX_REGION_SIZE) {
+            throw new IllegalArgumentException("File too large to map into a single ArrayBuffer: " + file);
+        }
+        return new V8ArrayBuffer(v8, file, 0, (int) length);
+    }
+
+    /**
+     * Maps a region of a file into a V8ArrayBuffer. The V8ArrayBuffer
+     * must be released.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffer.
+     * @param file The file to map.
+     * @param position The position in the file at which the region starts.
+     * @param size The size of the region in bytes.
+     *
+     * @return A V8ArrayBuffer backed by the region of the file.
+     *
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static V8ArrayBuffer map(final V8 v8, final File file, final long position, final int size) throws IOException {
+        if ((position < 0) || (size < 0)) {
+            throw new IllegalArgumentException("Invalid region: " + position + ", " + size);
+        }
+        if ((position + size) > getLength(file)) {
+            throw new IllegalArgumentException("Region exceeds the end of the file: " + file);
+        }
+        return new V8ArrayBuffer(v8, file, position, size);
+    }
+
+    /**
+     * Maps an entire file into consecutive V8ArrayBuffers of the given region
+     * size. The last region may be smaller. The buffers are returned in a
+     * V8Array, which must be released.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffers.
+     * @param file The file to map.
+     * @param regionSize The size of each region in bytes, a positive multiple
+     * of 8 that is not larger than {@link #MAX_REGION_SIZE}.
+     *
+     * @return A V8Array containing the V8ArrayBuffers that cover the file.
+     *
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static V8Array mapRegions(final V8 v8, final File file, final int regionSize) throws IOException {
+        if ((regionSize <= 0) || ((regionSize & 7) != 0)) {
+            throw new IllegalArgumentException("Region size must be a positive multiple of 8: " + regionSize);
+        }
+        long length = getLength(file);
+        V8Array result = new V8Array(v8);
+        try {
+            for (long position = 0; position < length; position += regionSize) {
+                V8ArrayBuffer buffer = new V8ArrayBuffer(v8, file, position, (int) Math.min(regionSize, length - position));
+                try {
+                    result.push(buffer);
+                } finally {
+                    buffer.release();
+                }
+            }
+        } catch (IOException e) {
+            result.release();
+            throw e;
+        } catch (RuntimeException e) {
+            result.release();
+            throw e;
+        }
+        return result;
+    }
+
+    private static long getLength(final File file) throws FileNotFoundException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        return file.length();
+    }
+
+}
@@ -0,0 +1,442 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * Converts Java beans to V8Objects and back. The fields of a bean become
+ * the properties of the object. Static, transient and synthetic fields are
+ * ignored. If a subclass declares a field with the same name as a field of a
+ * superclass, the field of the subclass is used.
+ *
+ * For each class, the fields, their property names and the way to read and
+ * write them are determined once and cached by the mapper. The field values
+ * themselves are still read and written through reflection. Graphs of beans are
+ * encoded in Java and created in V8 with a single native call, and V8Objects are
+ * read with a single native call, see {@link V8ValueCodec}.
+ *
+ * Field values may be primitives, Strings, Enums, Dates, arrays, Lists, Maps, beans,
+ * or any other value supported by V8ValueCodec. Shared references and cycles
+ * are preserved. Beans need a constructor without parameters to be created from
+ * V8Objects.
+ *
+ * A mapper may be shared between threads.
+ */
+public class V8BeanMapper {
+
+    private final Map<Class<?>, BeanPlan> plans = new ConcurrentHashMap<Class<?>, BeanPlan>();
+
+    /**
+     * Creates a V8Object from a bean. The V8Object must be released.
+     *
+     * @param v8 The runtime on which to create the V8Object.
+     * @param bean The bean to convert.
+     *
+     * @return A V8Object holding a deep copy of the bean.
+     */
+    public V8Object toV8Object(final V8 v8, final Object bean) {
+        return (V8Object) v8.deserialize(encode(bean));
+    }
+
+    /**
+     * Creates a V8Array of V8Objects from a collection of beans. All beans are
+     * converted with a single native call. The V8Array must be released.
+     *
+     * @param v8 The runtime on which to create the V8Array.
+     * @param beans The beans to convert.
+     *
+     * @return A V8Array holding deep copies of the beans.
+     */
+    public V8Array toV8Array(final V8 v8, final Collection<?> beans) {
+        return (V8Array) v8.deserialize(encode(new ArrayList<Object>(beans)));
+    }
+
+    /**
+     * Creates a bean from a V8Object. The V8Object is not released.
+     *
+     * @param object The V8Object to convert.
+     * @param type The class of the bean.
+     *
+     * @return A new bean holding a deep copy of the V8Object.
+     */
+    public <T> T fromV8Object(final V8Object object, final Class<T> type) {
+        Object value = V8ValueCodec.decode(object.getRuntime().serialize(object));
+        return type.cast(convert(value, type, type, new IdentityHashMap<Object, Object>()));
+    }
+
+    /**
+     * Creates a List of beans from a V8Array of V8Objects. The V8Array is
+     * not released.
+     *
+     * @param array The V8Array to convert.
+     * @param type The class of the beans.
+     *
+     * @return A List of new beans holding deep copies of the elements.
+     */
+    public <T> List<T> fromV8Array(final V8Array array, final Class<T> type) {
+        List<?> values = (List<?>) V8ValueCodec.decode(array.getRuntime().serialize(array));
+        Map<Object, Object> converted = new IdentityHashMap<Object, Object>();
+        List<T> result = new ArrayList<T>(values.size());
+        for (Object value : values) {
+            result.add(type.cast(convert(value, type, type, converted)));
+        }
+        return result;
+    }
+
+    private ByteBuffer encode(final Object value) {
+        BeanEncoder encoder = new BeanEncoder();
+        encoder.writeHeader();
+        encoder.writeValue(value);
+        return encoder.finish();
+    }
+
+    private BeanPlan getPlan(final Class<?> type) {
+        BeanPlan plan = plans.get(type);
+        if (plan == null) {
+            plan = new BeanPlan(type);
+            plans.put(type, plan);
+        }
+        return plan;
+    }
+
+    private Object convert(final Object value, final Class<?> type, final Type genericType, final Map<Object, Object> converted) {
+        if ((value == null) || ((value instanceof V8Value) && ((V8Value) value).isUndefined())) {
+            return null;
+        }
+        if (type.isPrimitive() || (Number.class.isAssignableFrom(type) && (value instanceof Number))) {
+            return convertPrimitive(value, type);
+        }
+        if (type.isEnum() && (value instanceof String)) {
+            return convertEnum(value, type);
+        }
+        if ((type == Character.class) && (value instanceof String) && (((String) value).length() == 1)) {
+            return ((String) value).charAt(0);
+        }
+        if (type.isArray() && (value instanceof List)) {
+            return convertArray((List<?>) value, type.getComponentType(), converted);
+        }
+        if (List.class.isAssignableFrom(type) && (value instanceof List)) {
+            return convertList((List<?>) value, genericType, converted);
+        }
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return convertBean((Map<?, ?>) value, type, converted);
+        }
+        throw new IllegalArgumentException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+    private Object convertPrimitive(final Object value, final Class<?> type) {
+        if ((type == boolean.class) && (value instanceof Boolean)) {
+            return value;
+        } else if (((type == char.class) || (type == Character.class)) && (value instanceof String) && (((String) value).length() == 1)) {
+            return ((String) value).charAt(0);
+        } else if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+        }
+        Number number = (Number) value;
+        if ((type == int.class) || (type == Integer.class)) {
+            return number.intValue();
+        } else if ((type == long.class) || (type == Long.class)) {
+            return number.longValue();
+        } else if ((type == double.class) || (type == Double.class)) {
+            return number.doubleValue();
+        } else if ((type == float.class) || (type == Float.class)) {
+            return number.floatValue();
+        } else if ((type == short.class) || (type == Short.class)) {
+            return number.shortValue();
+        } else if ((type == byte.class) || (type == Byte.class)) {
+            return number.byteValue();
+        } else if (type.isInstance(value)) {
+            return value;
+        }
+        throw new IllegalArgumentException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object convertEnum(final Object value, final Class<?> type) {
+        return Enum.valueOf((Class<? extends Enum>) type, (String) value);
+    }
+
+    private Object convertArray(final List<?> values, final Class<?> componentType, final Map<Object, Object> converted) {
+        Object result = converted.get(values);
+        if (result != null) {
+            return result;
+        }
+        result = Array.newInstance(componentType, values.size());
+        converted.put(values, result);
+        for (int i = 0; i < values.size(); i++) {
+            Object element = convert(values.get(i), componentType, componentType, converted);
+            if (element != null) {
+                Array.set(result, i, element);
+            }
+        }
+        return result;
+    }
+
+    private Object convertList(final List<?> values, final Type genericType, final Map<Object, Object> converted) {
+        if (!(genericType instanceof ParameterizedType)) {
+            return values;
+        }
+        Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        if (!(elementType instanceof Class) || (elementType == Object.class)) {
+            return values;
+        }
+        Object result = converted.get(values);
+        if (result != null) {
+            return result;
+        }
+        List<Object> list = new ArrayList<Object>(values.size());
+        converted.put(values, list);
+        for (Object element : values) {
+            list.add(convert(element, (Class<?>) elementType, elementType, converted));
+        }
+        return list;
+    }
+
+    private Object convertBean(final Map<?, ?> values, final Class<?> type, final Map<Object, Object> converted) {
+        Object result = converted.get(values);
+        if (result != null) {
+            return result;
+        }
+        BeanPlan plan = getPlan(type);
+        result = plan.newInstance();
+        converted.put(values, result);
+        for (BeanProperty property : plan.properties) {
+            if (values.containsKey(property.name)) {
+                property.set(result, convert(values.get(property.name), property.type, property.field.getGenericType(), converted));
+            }
+        }
+        return result;
+    }
+
+    private class BeanEncoder extends V8ValueCodec.Encoder {
+
+        @Override
+        void writeOther(final Object value) {
+            if (value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                writeArrayHeader(length);
+                for (int i = 0; i < length; i++) {
+                    writeValue(Array.get(value, i));
+                }
+                return;
+            }
+            BeanPlan plan = getPlan(value.getClass());
+            writeObjectHeader(plan.properties.length);
+            for (BeanProperty property : plan.properties) {
+                writeBytes(property.key);
+                property.write(value, this);
+            }
+        }
+
+    }
+
+    private static class BeanPlan {
+
+        private final Constructor<?>  constructor;
+        private final BeanProperty[]  properties;
+
+        BeanPlan(final Class<?> type) {
+            if (V8Value.class.isAssignableFrom(type) || type.getName().startsWith("java.")) {
+                throw new IllegalArgumentException("Unsupported Object of type: " + type);
+            }
+            List<BeanProperty> result = new ArrayList<BeanProperty>();
+            Set<String> names = new HashSet<String>();
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()
+                            && names.add(field.getName())) {
+                        field.setAccessible(true);
+                        result.add(new BeanProperty(field));
+                    }
+                }
+            }
+            properties = result.toArray(new BeanProperty[result.size()]);
+            constructor = getConstructor(type);
+        }
+
+        Object newInstance() {
+            if (constructor == null) {
+                throw new IllegalArgumentException("No constructor without parameters found");
+            }
+            try {
+                return constructor.newInstance();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Constructor<?> getConstructor(final Class<?> type) {
+            if (Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+            try {
+                Constructor<?> result = type.getDeclaredConstructor();
+                result.setAccessible(true);
+                return result;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+    }
+
+    private static class BeanProperty {
+
+        private static final int INT     = 0;
+        private static final int LONG    = 1;
+        private static final int DOUBLE  = 2;
+        private static final int FLOAT   = 3;
+        private static final int SHORT   = 4;
+        private static final int BYTE    = 5;
+        private static final int BOOLEAN = 6;
+        private static final int CHAR    = 7;
+        private static final int OBJECT  = 8;
+
+        private final Field    field;
+        private final Class<?> type;
+        private final String   name;
+        private final byte[]   key;
+        private final int      kind;
+
+        BeanProperty(final Field field) {
+            this.field = field;
+            type = field.getType();
+            name = field.getName();
+            key = V8ValueCodec.encodeString(name);
+            kind = getKind(type);
+        }
+
+        void write(final Object bean, final V8ValueCodec.Encoder encoder) {
+            try {
+                switch (kind) {
+                    case INT:
+                        encoder.writeInt32(field.getInt(bean));
+                        break;
+                    case SHORT:
+                        encoder.writeInt32(field.getShort(bean));
+                        break;
+                    case BYTE:
+                        encoder.writeInt32(field.getByte(bean));
+                        break;
+                    case LONG:
+                        long longValue = field.getLong(bean);
+                        if (longValue == (int) longValue) {
+                            encoder.writeInt32((int) longValue);
+                        } else {
+                            encoder.writeDouble(longValue);
+                        }
+                        break;
+                    case DOUBLE:
+                        encoder.writeDouble(field.getDouble(bean));
+                        break;
+                    case FLOAT:
+                        encoder.writeDouble(field.getFloat(bean));
+                        break;
+                    case BOOLEAN:
+                        encoder.writeBoolean(field.getBoolean(bean));
+                        break;
+                    case CHAR:
+                        encoder.writeString(String.valueOf(field.getChar(bean)));
+                        break;
+                    default:
+                        encoder.writeValue(field.get(bean));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void set(final Object bean, final Object value) {
+            if ((value == null) && type.isPrimitive()) {
+                return;
+            }
+            try {
+                switch (kind) {
+                    case INT:
+                        field.setInt(bean, (Integer) value);
+                        break;
+                    case LONG:
+                        field.setLong(bean, (Long) value);
+                        break;
+                    case DOUBLE:
+                        field.setDouble(bean, (Double) value);
+                        break;
+                    case FLOAT:
+                        field.setFloat(bean, (Float) value);
+                        break;
+                    case SHORT:
+                        field.setShort(bean, (Short) value);
+                        break;
+                    case BYTE:
+                        field.setByte(bean, (Byte) value);
+                        break;
+                    case BOOLEAN:
+                        field.setBoolean(bean, (Boolean) value);
+                        break;
+                    case CHAR:
+                        field.setChar(bean, (Character) value);
+                        break;
+                    default:
+                        field.set(bean, value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static int getKind(final Class<?> type) {
+            if (type == int.class) {
+                return INT;
+            } else if (type == long.class) {
+                return LONG;
+            } else if (type == double.class) {
+                return DOUBLE;
+            } else if (type == float.class) {
+                return FLOAT;
+            } else if (type == short.class) {
+                return SHORT;
+            } else if (type == byte.class) {
+                return BYTE;
+            } else if (type == boolean.class) {
+                return BOOLEAN;
+            } else if (type == char.class) {
+                return CHAR;
+            }
+            return OBJECT;
+        }
+
+    }
+
+}
@@ -0,0 +1,548 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * Encodes and decodes Java object graphs in the binary format produced by
+ * {@link V8#serialize(V8Value)} and consumed by {@link V8#deserialize(ByteBuffer)}.
+ * A graph encoded in Java is turned into V8 values with a single native call, and
+ * a graph serialized in a runtime is decoded without accessing the runtime again.
+ *
+ * Values are mapped as follows:
+ *
+ *  null                        - null
+ *  V8.getUndefined()           - undefined
+ *  Boolean                     - boolean
+ *  Integer, Short, Byte        - number (Integer when decoded)
+ *  Long, Float, Double         - number (Integer or Double when decoded)
+ *  String, Character, Enum     - string (String when decoded)
+ *  Date                        - Date
+ *  Map                         - Object, the keys are converted to Strings
+ *  List                        - Array
+ *  ByteBuffer                  - ArrayBuffer, the bytes between position and limit
+ *  V8ValueCodec.TypedArray     - Int8Array, Uint8Array, ..., Float64Array
+ *
+ * Shared references and cycles between Maps, Lists, ByteBuffers and TypedArrays
+ * are preserved. Functions cannot be encoded.
+ *
+ * The format starts with the bytes 0xFF and the format version, followed by a
+ * single value. Each value starts with a tag byte. Numbers are little-endian
+ * and strings are encoded as Latin-1 or UTF-16. Objects, Arrays, Dates,
+ * ArrayBuffers and typed arrays are numbered in the order in which they first
+ * appear, later occurrences are encoded as a reference to that number.
+ */
+public final class V8ValueCodec {
+
+    static final int  MAGIC            = 0xFF;
+    static final int  VERSION          = 1;
+
+    static final byte UNDEFINED        = '_';
+    static final byte NULL             = '0';
+    static final byte TRUE             = 'T';
+    static final byte FALSE            = 'F';
+    static final byte INT_32           = 'I';
+    static final byte DOUBLE           = 'N';
+    static final byte ONE_BYTE_STRING  = 'L';
+    static final byte TWO_BYTE_STRING  = 'S';
+    static final byte DATE             = 'D';
+    static final byte OBJECT           = 'o';
+    static final byte ARRAY            = 'A';
+    static final byte ARRAY_BUFFER     = 'B';
+    static final byte TYPED_ARRAY      = 'V';
+    static final byte REFERENCE        = 'R';
+
+    private V8ValueCodec() {
+    }
+
+    /**
+     * A typed array view onto an ArrayBuffer, represented as a ByteBuffer.
+     * Typed arrays which share a ByteBuffer share their ArrayBuffer when they
+     * are turned into V8 values.
+     */
+    public static final class TypedArray {
+
+        private final int        type;
+        private final ByteBuffer buffer;
+        private final int        byteOffset;
+        private final int        length;
+
+        /**
+         * Creates a typed array covering the remaining bytes of a ByteBuffer.
+         *
+         * @param type The type of the typed array, for example V8Value.FLOAT_64_ARRAY.
+         * @param buffer The ByteBuffer representing the ArrayBuffer.
+         */
+        public TypedArray(final int type, final ByteBuffer buffer) {
+            this(type, buffer, 0, buffer.remaining() / getStructureSize(type));
+        }
+
+        /**
+         * Creates a typed array on a range of a ByteBuffer.
+         *
+         * @param type The type of the typed array, for example V8Value.FLOAT_64_ARRAY.
+         * @param buffer The ByteBuffer representing the ArrayBuffer.
+         * @param byteOffset The offset in bytes, relative to the position of the buffer.
+         * @param length The number of elements.
+         */
+        public TypedArray(final int type, final ByteBuffer buffer, final int byteOffset, final int length) {
+            int size = getStructureSize(type);
+            if ((byteOffset < 0) || (length < 0) || ((byteOffset % size) != 0)
+                    || (((long) length * size) + byteOffset > buffer.remaining())) {
+                throw new IndexOutOfBoundsException("Invalid typed array range: " + byteOffset + ", " + length);
+            }
+            this.type = type;
+            this.buffer = buffer;
+            this.byteOffset = byteOffset;
+            this.length = length;
+        }
+
+        /**
+         * Returns the type of this typed array, for example V8Value.FLOAT_64_ARRAY.
+         *
+         * @return The type of the typed array.
+         */
+        public int getType() {
+            return type;
+        }
+
+        /**
+         * Returns the ByteBuffer representing the ArrayBuffer of this typed array.
+         *
+         * @return The ByteBuffer shared by all views onto the same ArrayBuffer.
+         */
+        public ByteBuffer getBuffer() {
+            return buffer;
+        }
+
+        /**
+         * Returns the offset of this typed array in bytes, relative to the position of the buffer.
+         *
+         * @return The offset in bytes.
+         */
+        public int getByteOffset() {
+            return byteOffset;
+        }
+
+        /**
+         * Returns the number of elements of this typed array.
+         *
+         * @return The number of elements.
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * Returns a little-endian ByteBuffer covering exactly the elements of this typed array.
+         *
+         * @return A view onto the elements.
+         */
+        public ByteBuffer getByteBuffer() {
+            ByteBuffer result = buffer.duplicate();
+            result.position(buffer.position() + byteOffset);
+            result.limit(result.position() + (length * getStructureSize(type)));
+            return result.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+    }
+
+    /**
+     * Encodes a Java object graph. The result is a direct ByteBuffer which can
+     * be passed to V8#deserialize(ByteBuffer).
+     *
+     * @param value The root of the graph.
+     *
+     * @return A direct ByteBuffer holding the encoded graph between position and limit.
+     *
+     * @throws IllegalArgumentException if the graph contains a value which cannot be encoded.
+     */
+    public static ByteBuffer encode(final Object value) {
+        Encoder encoder = new Encoder();
+        encoder.writeHeader();
+        encoder.writeValue(value);
+        return encoder.finish();
+    }
+
+    /**
+     * Decodes an object graph produced by V8#serialize(V8Value) or
+     * {@link #encode(Object)} from the bytes between position and limit of
+     * the buffer. The position of the buffer is not changed.
+     *
+     * @param data The encoded graph.
+     *
+     * @return The root of the decoded graph.
+     *
+     * @throws IllegalArgumentException if the data is not a valid encoded graph.
+     */
+    public static Object decode(final ByteBuffer data) {
+        ByteBuffer input = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (((input.get() & 0xFF) != MAGIC) || (input.get() != VERSION)) {
+                throw new IllegalArgumentException("Invalid serialized data.");
+            }
+            Object result = new Decoder(input).readValue();
+            if (input.hasRemaining()) {
+                throw new IllegalArgumentException("Invalid serialized data.");
+            }
+            return result;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid serialized data.");
+        }
+    }
+
+    static byte[] encodeString(final String value) {
+        Encoder encoder = new Encoder();
+        encoder.writeString(value);
+        ByteBuffer buffer = encoder.finish();
+        byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+
+    static int getStructureSize(final int type) {
+        switch (type) {
+            case V8Value.FLOAT_64_ARRAY:
+                return 8;
+            case V8Value.INT_32_ARRAY:
+            case V8Value.UNSIGNED_INT_32_ARRAY:
+            case V8Value.FLOAT_32_ARRAY:
+                return 4;
+            case V8Value.INT_16_ARRAY:
+            case V8Value.UNSIGNED_INT_16_ARRAY:
+                return 2;
+            case V8Value.INT_8_ARRAY:
+            case V8Value.UNSIGNED_INT_8_ARRAY:
+            case V8Value.UNSIGNED_INT_8_CLAMPED_ARRAY:
+                return 1;
+            default:
+                throw new IllegalArgumentException("Invalid typed array type: " + V8Value.getStringRepresentaion(type));
+        }
+    }
+
+    static class Encoder {
+
+        private ByteBuffer                   buffer     = ByteBuffer.allocateDirect(256).order(ByteOrder.LITTLE_ENDIAN);
+        private final Map<Object, Integer>   references = new IdentityHashMap<Object, Integer>();
+
+        void writeHeader() {
+            ensureCapacity(2);
+            buffer.put((byte) MAGIC);
+            buffer.put((byte) VERSION);
+        }
+
+        ByteBuffer finish() {
+            buffer.flip();
+            return buffer;
+        }
+
+        void writeValue(final Object value) {
+            if (value == null) {
+                writeByte(NULL);
+            } else if ((value instanceof V8Value) && ((V8Value) value).isUndefined()) {
+                writeByte(UNDEFINED);
+            } else if (value instanceof Boolean) {
+                writeBoolean((Boolean) value);
+            } else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+                writeInt32(((Number) value).intValue());
+            } else if ((value instanceof Long) && (((Long) value) == ((Long) value).intValue())) {
+                writeInt32(((Long) value).intValue());
+            } else if (value instanceof Number) {
+                writeDouble(((Number) value).doubleValue());
+            } else if ((value instanceof String) || (value instanceof Character)) {
+                writeString(value.toString());
+            } else if (value instanceof Enum) {
+                writeString(((Enum<?>) value).name());
+            } else if (writeReference(value)) {
+                return;
+            } else if (value instanceof Date) {
+                ensureCapacity(9);
+                buffer.put(DATE);
+                buffer.putDouble(((Date) value).getTime());
+            } else if (value instanceof Map) {
+                writeMap((Map<?, ?>) value);
+            } else if (value instanceof List) {
+                writeList((List<?>) value);
+            } else if (value instanceof ByteBuffer) {
+                writeArrayBuffer((ByteBuffer) value);
+            } else if (value instanceof TypedArray) {
+                writeTypedArray((TypedArray) value);
+            } else {
+                writeOther(value);
+            }
+        }
+
+        /**
+         * Writes a value of a type which is not supported by the codec itself.
+         * The value has already been assigned a reference number, so it must be
+         * written as an Object or an Array.
+         */
+        void writeOther(final Object value) {
+            throw new IllegalArgumentException("Unsupported Object of type: " + value.getClass());
+        }
+
+        void writeObjectHeader(final int count) {
+            writeByte(OBJECT);
+            writeInt(count);
+        }
+
+        void writeArrayHeader(final int length) {
+            writeByte(ARRAY);
+            writeInt(length);
+        }
+
+        void writeBoolean(final boolean value) {
+            writeByte(value ? TRUE : FALSE);
+        }
+
+        void writeDouble(final double value) {
+            ensureCapacity(9);
+            buffer.put(DOUBLE);
+            buffer.putDouble(value);
+        }
+
+        void writeBytes(final byte[] bytes) {
+            ensureCapacity(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private boolean writeReference(final Object value) {
+            Integer id = references.get(value);
+            if (id != null) {
+                writeByte(REFERENCE);
+                writeInt(id);
+                return true;
+            }
+            references.put(value, references.size());
+            return false;
+        }
+
+        private void writeMap(final Map<?, ?> map) {
+            writeObjectHeader(map.size());
+            for (Entry<?, ?> entry : map.entrySet()) {
+                writeString(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+        }
+
+        private void writeList(final List<?> list) {
+            writeArrayHeader(list.size());
+            for (Object element : list) {
+                writeValue(element);
+            }
+        }
+
+        private void writeArrayBuffer(final ByteBuffer value) {
+            int length = value.remaining();
+            ensureCapacity(5 + length);
+            buffer.put(ARRAY_BUFFER);
+            buffer.putInt(length);
+            buffer.put(value.duplicate());
+        }
+
+        private void writeTypedArray(final TypedArray value) {
+            ensureCapacity(2);
+            buffer.put(TYPED_ARRAY);
+            buffer.put((byte) value.getType());
+            writeValue(value.getBuffer());
+            writeInt(value.getByteOffset());
+            writeInt(value.getLength());
+        }
+
+        void writeString(final String value) {
+            int length = value.length();
+            boolean oneByte = true;
+            for (int i = 0; (i < length) && oneByte; i++) {
+                oneByte = value.charAt(i) <= 0xFF;
+            }
+            ensureCapacity(5 + (oneByte ? length : length * 2L));
+            buffer.put(oneByte ? ONE_BYTE_STRING : TWO_BYTE_STRING);
+            buffer.putInt(length);
+            for (int i = 0; i < length; i++) {
+                if (oneByte) {
+                    buffer.put((byte) value.charAt(i));
+                } else {
+                    buffer.putChar(value.charAt(i));
+                }
+            }
+        }
+
+        void writeInt32(final int value) {
+            writeByte(INT_32);
+            writeInt(value);
+        }
+
+        private void writeByte(final byte value) {
+            ensureCapacity(1);
+            buffer.put(value);
+        }
+
+        private void writeInt(final int value) {
+            ensureCapacity(4);
+            buffer.putInt(value);
+        }
+
+        private void ensureCapacity(final long bytes) {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            long capacity = Math.max((long) buffer.capacity() * 2, buffer.position() + bytes);
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Object graph is too large.");
+            }
+            buffer.flip();
+            ByteBuffer newBuffer = ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.LITTLE_ENDIAN);
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        }
+
+    }
+
+    private static class Decoder {
+
+        private final ByteBuffer   input;
+        private final List<Object> references = new ArrayList<Object>();
+
+        Decoder(final ByteBuffer input) {
+            this.input = input;
+        }
+
+        Object readValue() {
+            byte tag = input.get();
+            switch (tag) {
+                case UNDEFINED:
+                    return V8.getUndefined();
+                case NULL:
+                    return null;
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                case INT_32:
+                    return input.getInt();
+                case DOUBLE:
+                    return input.getDouble();
+                case ONE_BYTE_STRING:
+                case TWO_BYTE_STRING:
+                    return readString(tag);
+                case DATE:
+                    Date date = new Date((long) input.getDouble());
+                    references.add(date);
+                    return date;
+                case OBJECT:
+                    return readMap();
+                case ARRAY:
+                    return readList();
+                case ARRAY_BUFFER:
+                    return readArrayBuffer();
+                case TYPED_ARRAY:
+                    return readTypedArray();
+                case REFERENCE:
+                    int id = input.getInt();
+                    if ((id < 0) || (id >= references.size()) || (references.get(id) == null)) {
+                        throw new IllegalArgumentException("Invalid serialized data.");
+                    }
+                    return references.get(id);
+                default:
+                    throw new IllegalArgumentException("Invalid serialized data.");
+            }
+        }
+
+        private Map<String, Object> readMap() {
+            int count = readLength(2);
+            Map<String, Object> result = new LinkedHashMap<String, Object>();
+            references.add(result);
+            for (int i = 0; i < count; i++) {
+                byte tag = input.get();
+                if ((tag != ONE_BYTE_STRING) && (tag != TWO_BYTE_STRING)) {
+                    throw new IllegalArgumentException("Invalid serialized data.");
+                }
+                String key = readString(tag);
+                result.put(key, readValue());
+            }
+            return result;
+        }
+
+        private List<Object> readList() {
+            int length = readLength(1);
+            List<Object> result = new ArrayList<Object>(length);
+            references.add(result);
+            for (int i = 0; i < length; i++) {
+                result.add(readValue());
+            }
+            return result;
+        }
+
+        private ByteBuffer readArrayBuffer() {
+            int length = readLength(1);
+            ByteBuffer result = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer bytes = input.duplicate();
+            bytes.limit(bytes.position() + length);
+            result.put(bytes);
+            result.flip();
+            input.position(input.position() + length);
+            references.add(result);
+            return result;
+        }
+
+        private TypedArray readTypedArray() {
+            int type = input.get();
+            int id = references.size();
+            references.add(null);
+            Object buffer = readValue();
+            int byteOffset = input.getInt();
+            int length = input.getInt();
+            if (!(buffer instanceof ByteBuffer)) {
+                throw new IllegalArgumentException("Invalid serialized data.");
+            }
+            TypedArray result;
+            try {
+                result = new TypedArray(type, (ByteBuffer) buffer, byteOffset, length);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid serialized data.");
+            }
+            references.set(id, result);
+            return result;
+        }
+
+        private String readString(final byte tag) {
+            int length = readLength(tag == ONE_BYTE_STRING ? 1 : 2);
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = tag == ONE_BYTE_STRING ? (char) (input.get() & 0xFF) : input.getChar();
+            }
+            return new String(chars);
+        }
+
+        private int readLength(final int bytesPerElement) {
+            int length = input.getInt();
+            if ((length < 0) || (((long) length * bytesPerElement) > input.remaining())) {
+                throw new IllegalArgumentException("Invalid serialized data.");
+            }
+            return length;
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.regex.Pattern;
+
+import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
+import com.eclipsesource.v8.V8Function;
+import com.eclipsesource.v8.V8TypedArray;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * Evaluates a JavaScript expression over columns of input values. The
+ * expression is compiled once into a function that loops over all rows,
+ * so evaluating a batch is a single call into V8 instead of one call
+ * per row.
+ *
+ * For example, an evaluator created with the expression "price * quantity"
+ * and the variables "price" and "quantity" computes the product of the
+ * two input columns for every row.
+ *
+ * Input columns given as double arrays are copied into a direct buffer
+ * that is shared with JavaScript, and reused for batches of the same size.
+ * The evaluator must be released.
+ */
+public class VectorizedEvaluator implements Releasable {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private final V8       v8;
+    private V8Function     function;
+    private final int      variableCount;
+    private int            rows       = -1;
+    private DoubleBuffer   data       = null;
+    private V8Array        parameters = null;
+
+    /**
+     * Creates a new evaluator for the given expression. The variables are
+     * bound to the value of the corresponding input column in each row.
+     *
+     * @param v8 The runtime on which to evaluate the expression.
+     * @param expression The JavaScript expression to evaluate.
+     * @param variables The names of the variables used by the expression.
+     * Names starting with "$$" are reserved.
+     */
+    public VectorizedEvaluator(final V8 v8, final String expression, final String... variables) {
+        this.v8 = v8;
+        variableCount = variables.length;
+        // Internal names start with $$, which variables may not use, so they cannot be shadowed
+        StringBuilder source = new StringBuilder("(function($$columns, $$output, $$rows) {\n");
+        for (int i = 0; i < variables.length; i++) {
+            if (!IDENTIFIER.matcher(variables[i]).matches() || variables[i].startsWith("$$")) {
+                throw new IllegalArgumentException("Invalid variable name: " + variables[i]);
+            }
+            source.append("  var $$column").append(i).append(" = $$columns[").append(i).append("];\n");
+        }
+        source.append("  for (var $$row = 0; $$row < $$rows; $$row++) {\n");
+        for (int i = 0; i < variables.length; i++) {
+            source.append("    var ").append(variables[i]).append(" = $$column").append(i).append("[$$row];\n");
+        }
+        source.append("    $$output[$$row] = (").append(expression).append("\n);\n");
+        source.append("  }\n");
+        source.append("})");
+        function = (V8Function) v8.executeObjectScript(source.toString());
+    }
+
+    /**
+     * Evaluates the expression for each row of the input columns and stores
+     * the results in the output array. The number of rows is the length of
+     * the output array.
+     *
+     * @param columns The input columns, one per variable.
+     * @param output The array in which to store the results.
+     */
+    public void evaluate(final double[][] columns, final double[] output) {
+        checkColumns(columns.length);
+        for (double[] column : columns) {
+            checkLength(column.length, output.length);
+        }
+        if (rows != output.length) {
+            createBuffers(output.length);
+        }
+        for (int i = 0; i < columns.length; i++) {
+            data.position(i * rows);
+            data.put(columns[i], 0, rows);
+        }
+        call(parameters);
+        data.position(columns.length * rows);
+        data.get(output);
+    }
+
+    /**
+     * Evaluates the expression for each row of the input columns and stores
+     * the results in the output TypedArray. The number of rows is the length
+     * of the output TypedArray. The data is not copied.
+     *
+     * @param columns The input columns, one per variable.
+     * @param output The TypedArray in which to store the results.
+     */
+    public void evaluate(final V8TypedArray[] columns, final V8TypedArray output) {
+        checkColumns(columns.length);
+        int length = output.length();
+        for (V8TypedArray column : columns) {
+            checkLength(column.length(), length);
+        }
+        V8Array inputs = new V8Array(v8);
+        V8Array args = new V8Array(v8);
+        try {
+            for (V8TypedArray column : columns) {
+                inputs.push(column);
+            }
+            args.push(inputs).push(output).push(length);
+            call(args);
+        } finally {
+            inputs.release();
+            args.release();
+        }
+    }
+
+    /**
+     * Releases the compiled expression and the shared buffers.
+     */
+    @Override
+    public void release() {
+        if (function != null) {
+            function.release();
+            function = null;
+        }
+        releaseBuffers();
+    }
+
+    private void call(final V8Array args) {
+        Object result = function.call(null, args);
+        if (result instanceof Releasable) {
+            ((Releasable) result).release();
+        }
+    }
+
+    // Lays out the input columns followed by the output column in one direct buffer
+    private void createBuffers(final int rowCount) {
+        releaseBuffers();
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect((variableCount + 1) * rowCount * 8).order(ByteOrder.nativeOrder());
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        V8Array inputs = new V8Array(v8);
+        parameters = new V8Array(v8);
+        try {
+            for (int i = 0; i < variableCount; i++) {
+                V8TypedArray column = new V8TypedArray(v8, buffer, V8Value.FLOAT_64_ARRAY, i * rowCount * 8, rowCount);
+                inputs.push(column);
+                column.release();
+            }
+            V8TypedArray output = new V8TypedArray(v8, buffer, V8Value.FLOAT_64_ARRAY, variableCount * rowCount * 8, rowCount);
+            parameters.push(inputs).push(output).push(rowCount);
+            output.release();
+        } finally {
+            inputs.release();
+            buffer.release();
+        }
+        data = byteBuffer.asDoubleBuffer();
+        rows = rowCount;
+    }
+
+    private void releaseBuffers() {
+        if (parameters != null) {
+            parameters.release();
+            parameters = null;
+        }
+        data = null;
+        rows = -1;
+    }
+
+    private void checkColumns(final int count) {
+        if (function == null) {
+            throw new IllegalStateException("Evaluator released");
+        }
+        if (count != variableCount) {
+            throw new IllegalArgumentException("Expected " + variableCount + " columns, got " + count);
+        }
+    }
+
+    private void checkLength(final int length, final int rowCount) {
+        if (length < rowCount) {
+            throw new IllegalArgumentException("Column has " + length + " rows, expected " + rowCount);
+        }
+    }
+
+}
@@ -21,11 +21,18 @@ import com.eclipsesource.v8.debug.FrameTest;
 import com.eclipsesource.v8.debug.MirrorTest;
 import com.eclipsesource.v8.debug.ScopeTest;
 import com.eclipsesource.v8.debug.ScriptBreakPointTest;
+import com.eclipsesource.v8.utils.ColumnarBatchTest;
+import com.eclipsesource.v8.utils.GCStatisticsTest;
+import com.eclipsesource.v8.utils.LatencyHistogramTest;
 import com.eclipsesource.v8.utils.MemoryManagerTest;
+import com.eclipsesource.v8.utils.MemoryMappedFilesTest;
+import com.eclipsesource.v8.utils.V8BeanMapperTest;
 import com.eclipsesource.v8.utils.V8ExecutorTest;
 import com.eclipsesource.v8.utils.V8MapTest;
 import com.eclipsesource.v8.utils.V8ObjectUtilsTest;
 import com.eclipsesource.v8.utils.V8PropertyMapTest;
+import com.eclipsesource.v8.utils.V8ValueCodecTest;
+import com.eclipsesource.v8.utils.VectorizedEvaluatorTest;
 
 @RunWith(Suite.class)
 // V8RuntimeNotLoadedTest must be run first. This is because we need to test when the natives are not loaded
@@ -34,7 +41,11 @@ import com.eclipsesource.v8.utils.V8PropertyMapTest;
         V8CallbackTest.class, V8ScriptCompilationExceptionTest.class, V8ScriptExecutionExceptionTest.class, V8ObjectUtilsTest.class, V8TypedArraysTest.class,
         V8ArrayBufferTest.class, NullScriptExecuteTest.class, V8MultiThreadTest.class, V8LockerTest.class, V8ExecutorTest.class, V8MapTest.class,
         V8PropertyMapTest.class, DebugHandlerTest.class, ExecutionStateTest.class, FrameTest.class, ScopeTest.class, ScriptBreakPointTest.class,
-        MirrorTest.class, BreakEventTest.class, MemoryManagerTest.class, NodeJSTest.class })
+        MirrorTest.class, BreakEventTest.class, MemoryManagerTest.class, NodeJSTest.class, V8ResourceConstraintsTest.class,
+        LatencyHistogramTest.class, GCStatisticsTest.class, MemoryMappedFilesTest.class,
+        V8SharedArrayBufferTest.class, ColumnarBatchTest.class,
+        VectorizedEvaluatorTest.class, V8ExternalStringTest.class, V8ValueCodecTest.class,
+        V8BeanMapperTest.class })
 public class AllTests {
 
 }
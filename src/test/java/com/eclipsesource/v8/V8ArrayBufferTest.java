@@ -12,8 +12,12 @@ package com.eclipsesource.v8;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
@@ -287,4 +291,395 @@ public class V8ArrayBufferTest {
             v8 = V8.createV8Runtime();
         }
     }
+
+    @Test
+    public void testWrapDirectByteBuffer() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+        byteBuffer.put(0, (byte) 7);
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        v8.add("buf", buffer);
+
+        assertEquals(7, v8.executeIntegerScript("new Int8Array(buf)[0]"));
+        buffer.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_ByteLength() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(100));
+        v8.add("buf", buffer);
+
+        assertEquals(100, v8.executeIntegerScript("buf.byteLength"));
+        buffer.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_WritesFromJSAreVisible() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4);
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        v8.add("buf", buffer);
+
+        v8.executeVoidScript("new Int32Array(buf)[0] = 42;");
+
+        assertEquals(42, byteBuffer.getInt(0));
+        buffer.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_BackingStoreIsSameBuffer() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+
+        assertSame(byteBuffer, buffer.getBackingStore());
+        buffer.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_Slice() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(16);
+        byteBuffer.put(8, (byte) 3);
+        byteBuffer.position(8);
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer.slice());
+        v8.add("buf", buffer);
+
+        assertEquals(8, v8.executeIntegerScript("buf.byteLength"));
+        assertEquals(3, v8.executeIntegerScript("new Uint8Array(buf)[0]"));
+        buffer.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_ReferencedAfterRelease() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4);
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        v8.add("buf", buffer);
+        buffer.release();
+
+        v8.lowMemoryNotification();
+        v8.executeVoidScript("new Int32Array(buf)[0] = 9;");
+
+        assertEquals(9, byteBuffer.getInt(0));
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_ReportsExternalMemory() {
+        long before = v8.getExternalMemory();
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(1024 * 1024));
+
+        assertEquals(before + (1024 * 1024), v8.getExternalMemory());
+        buffer.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_ExternalMemoryReleasedAfterCollection() {
+        long before = v8.getExternalMemory();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(1024 * 1024));
+        buffer.release();
+
+        v8.lowMemoryNotification();
+
+        assertEquals(before, v8.getExternalMemory());
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_ReleaseRuntimeWhileReferenced() {
+        V8 runtime = V8.createV8Runtime();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(runtime, ByteBuffer.allocateDirect(8));
+        runtime.add("buf", buffer);
+        buffer.release();
+
+        runtime.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_Twin() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+
+        V8ArrayBuffer twin = buffer.twin();
+
+        assertSame(byteBuffer, twin.getBackingStore());
+        assertTrue(twin.strictEquals(buffer));
+        buffer.release();
+        twin.release();
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer_ReturnedFromJS() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+        byteBuffer.put(0, (byte) 5);
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        v8.add("buf", buffer);
+
+        V8ArrayBuffer result = (V8ArrayBuffer) v8.get("buf");
+
+        assertEquals(5, result.getBackingStore().get(0));
+        assertEquals(8, result.getBackingStore().capacity());
+        buffer.release();
+        result.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrapHeapByteBufferNotAllowed() {
+        new V8ArrayBuffer(v8, ByteBuffer.allocate(8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrapReadOnlyByteBufferNotAllowed() {
+        new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(8).asReadOnlyBuffer());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWrapNullByteBufferNotAllowed() {
+        new V8ArrayBuffer(v8, (ByteBuffer) null);
+    }
+
+    @Test
+    public void testArrayBufferFromJSBackingStoreCapacity() {
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("new ArrayBuffer(12)");
+
+        assertEquals(12, buffer.getBackingStore().capacity());
+        buffer.release();
+    }
+
+    @Test
+    public void testTwinBackingStoreIsSameBuffer() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 8);
+
+        V8ArrayBuffer twin = buffer.twin();
+
+        assertSame(buffer.getBackingStore(), twin.getBackingStore());
+        buffer.release();
+        twin.release();
+    }
+
+    @Test
+    public void testAllocatorStatistics_LiveBytes() {
+        long before = v8.getArrayBufferAllocatorStatistics().getLiveBytes();
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 1000);
+
+        V8ArrayBufferAllocatorStatistics statistics = v8.getArrayBufferAllocatorStatistics();
+        assertEquals(before + 1000, statistics.getLiveBytes());
+        assertTrue(statistics.getAllocationCount() > 0);
+        assertTrue(statistics.getTotalAllocatedBytes() >= 1000);
+        buffer.release();
+    }
+
+    @Test
+    public void testAllocatorStatistics_NoLimitByDefault() {
+        assertEquals(0, v8.getArrayBufferAllocatorStatistics().getLimit());
+    }
+
+    @Test
+    public void testAllocatorStatistics_LiveBytesReleasedAfterCollection() {
+        long before = v8.getArrayBufferAllocatorStatistics().getLiveBytes();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 1000);
+        buffer.release();
+
+        v8.lowMemoryNotification();
+
+        assertEquals(before, v8.getArrayBufferAllocatorStatistics().getLiveBytes());
+    }
+
+    @Test
+    public void testAllocatorReusesSmallBackingStores() {
+        for (int i = 0; i < 10; i++) {
+            v8.executeVoidScript("new Float64Array(16);");
+            v8.lowMemoryNotification();
+        }
+
+        assertTrue(v8.getArrayBufferAllocatorStatistics().getPooledAllocationCount() > 0);
+    }
+
+    @Test
+    public void testAllocatorZeroesInitializedMemory() {
+        for (int i = 0; i < 10; i++) {
+            v8.executeVoidScript("var a = new Uint8Array(100); for (var j = 0; j < 100; j++) { a[j] = 255; } a = null;");
+            v8.lowMemoryNotification();
+        }
+
+        assertEquals(0, v8.executeIntegerScript("var b = new Uint8Array(100); var sum = 0; for (var j = 0; j < 100; j++) { sum += b[j]; } sum;"));
+    }
+
+    @Test
+    public void testWrappedByteBufferNotCountedByAllocator() {
+        long before = v8.getArrayBufferAllocatorStatistics().getLiveBytes();
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(1000));
+
+        assertEquals(before, v8.getArrayBufferAllocatorStatistics().getLiveBytes());
+        buffer.release();
+    }
+
+    @Test
+    public void testTransferArrayBuffer() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var source = new Int32Array(4); source[3] = 7; source.buffer");
+
+        V8ArrayBuffer result = buffer.transferTo(other);
+        other.add("buffer", result);
+
+        assertTrue(buffer.isReleased());
+        assertEquals(7, other.executeIntegerScript("new Int32Array(buffer)[3]"));
+        assertEquals(16, result.getBackingStore().capacity());
+        result.release();
+        other.release();
+    }
+
+    @Test
+    public void testTransferDetachesSource() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var source = new ArrayBuffer(100); source");
+
+        V8ArrayBuffer result = buffer.transferTo(other);
+
+        assertEquals(0, v8.executeIntegerScript("source.byteLength"));
+        result.release();
+        other.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTwinDetachedByTransfer() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 100);
+        V8ArrayBuffer twin = buffer.twin();
+        V8ArrayBuffer result = buffer.transferTo(other);
+
+        try {
+            twin.getBackingStore();
+        } finally {
+            twin.release();
+            result.release();
+            other.release();
+        }
+    }
+
+    @Test
+    public void testTwinOfOtherArrayBufferUsableAfterTransfer() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 100);
+        V8ArrayBuffer unrelated = new V8ArrayBuffer(v8, 8);
+        V8ArrayBuffer twin = unrelated.twin();
+
+        V8ArrayBuffer result = buffer.transferTo(other);
+
+        assertEquals(8, twin.getBackingStore().capacity());
+        twin.release();
+        unrelated.release();
+        result.release();
+        other.release();
+    }
+
+    @Test
+    public void testTransferByteBufferBackedArrayBuffer() {
+        V8 other = V8.createV8Runtime();
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+
+        V8ArrayBuffer result = buffer.transferTo(other);
+        other.add("buffer", result);
+        other.executeVoidScript("new Int8Array(buffer)[0] = 3;");
+
+        assertSame(byteBuffer, result.getBackingStore());
+        assertEquals(3, byteBuffer.get(0));
+        result.release();
+        other.release();
+    }
+
+    @Test
+    public void testTransferArrayBufferBackAndForth() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var source = new Uint8Array(10); source[9] = 9; source.buffer");
+
+        V8ArrayBuffer transferred = buffer.transferTo(other);
+        V8ArrayBuffer result = transferred.transferTo(v8);
+        v8.add("buffer", result);
+
+        assertEquals(9, v8.executeIntegerScript("new Uint8Array(buffer)[9]"));
+        result.release();
+        other.release();
+    }
+
+    @Test
+    public void testTransferredArrayBufferSurvivesSourceRelease() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var source = new Float64Array(2); source[1] = 1.5; source.buffer");
+
+        V8ArrayBuffer result = buffer.transferTo(other);
+        other.add("buffer", result);
+        result.release();
+        v8.release();
+        v8 = V8.createV8Runtime();
+
+        assertEquals(1.5, other.executeDoubleScript("new Float64Array(buffer)[1]"), 0.000001);
+        other.release();
+    }
+
+    @Test
+    public void testTransferReleasesAllocatorMemory() {
+        V8 other = V8.createV8Runtime();
+        long before = v8.getArrayBufferAllocatorStatistics().getLiveBytes();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 1000);
+
+        V8ArrayBuffer result = buffer.transferTo(other);
+
+        assertEquals(before, v8.getArrayBufferAllocatorStatistics().getLiveBytes());
+        result.release();
+        other.release();
+    }
+
+    @Test(expected = Error.class)
+    public void testTransferDetachedArrayBufferFails() {
+        V8 other = V8.createV8Runtime();
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var source = new ArrayBuffer(8); source");
+        V8ArrayBuffer detached = (V8ArrayBuffer) v8.executeScript("source");
+        buffer.transferTo(other).release();
+
+        try {
+            detached.transferTo(other);
+        } finally {
+            detached.release();
+            other.release();
+        }
+    }
+
+    @Test
+    public void testMapFileRegion() throws IOException {
+        File file = File.createTempFile("j2v8", ".bin");
+        try {
+            FileOutputStream outputStream = new FileOutputStream(file);
+            try {
+                for (int i = 0; i < 100; i++) {
+                    outputStream.write(i);
+                }
+            } finally {
+                outputStream.close();
+            }
+            V8ArrayBuffer buffer = new V8ArrayBuffer(v8, file, 30, 10);
+            v8.add("buffer", buffer);
+
+            v8.executeVoidScript("new Uint8Array(buffer)[1] = 0;");
+
+            assertEquals(10, v8.executeIntegerScript("buffer.byteLength"));
+            assertEquals(30, buffer.getBackingStore().get(0));
+            assertEquals(0, buffer.getBackingStore().get(1));
+            buffer.release();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMapFileRegionBeyondEndOfFile() throws IOException {
+        File file = File.createTempFile("j2v8", ".bin");
+        try {
+            new V8ArrayBuffer(v8, file, 0, 10);
+        } finally {
+            file.delete();
+        }
+    }
+
 }
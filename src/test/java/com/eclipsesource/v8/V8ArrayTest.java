@@ -2178,6 +2178,80 @@ public class V8ArrayTest {
         a.release();
     }
 
+    @Test
+    public void testSetValues() {
+        V8Array array = new V8Array(v8).push(0).push(0).push(0).push(0).push(0).push(0).push(0);
+        V8Object object = new V8Object(v8).add("x", 1);
+
+        array.set(0, 7).set(1, 2.5).set(2, true).set(3, "foo").set(4, object).setNull(5).setUndefined(6);
+
+        assertEquals(7, array.length());
+        assertEquals(7, array.getInteger(0));
+        assertEquals(2.5, array.getDouble(1), 0.000001);
+        assertTrue(array.getBoolean(2));
+        assertEquals("foo", array.getString(3));
+        assertEquals(V8_OBJECT, array.getType(4));
+        assertEquals(NULL, array.getType(5));
+        assertEquals(UNDEFINED, array.getType(6));
+        object.release();
+        array.release();
+    }
+
+    @Test
+    public void testSetPastEndGrowsArray() {
+        V8Array array = new V8Array(v8);
+
+        array.set(2, 3);
+
+        assertEquals(3, array.length());
+        assertEquals(UNDEFINED, array.getType(0));
+        assertEquals(3, array.getInteger(2));
+        array.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetNegativeIndex() {
+        V8Array array = new V8Array(v8);
+
+        try {
+            array.set(-1, 3);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test
+    public void testSetLength() {
+        V8Array array = new V8Array(v8).push(1).push(2).push(3);
+
+        array.setLength(1);
+
+        assertEquals(1, array.length());
+        assertEquals(1, array.getInteger(0));
+        array.release();
+    }
+
+    @Test
+    public void testClearAndReuse() {
+        v8.executeVoidScript("function add(x, y) { return x + y; }");
+        V8Array parameters = new V8Array(v8);
+        int result = 0;
+
+        for (int i = 0; i < 5; i++) {
+            parameters.clear().push(result).push(i);
+            result = v8.executeIntegerFunction("add", parameters);
+        }
+
+        assertEquals(10, result);
+        assertEquals(2, parameters.length());
+        parameters.release();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUndefinedClear() {
+        new V8Array.Undefined().clear();
+    }
+
     @Test
     public void testUndefinedNotReleased() {
         com.eclipsesource.v8.V8Array.Undefined undefined = new V8Array.Undefined();
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8ExternalStringTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testLatin1StringIsOneByte() {
+        V8ExternalString string = V8ExternalString.fromString("café");
+
+        assertTrue(string.isOneByte());
+        assertEquals(4, string.length());
+        assertEquals("café", string.toString());
+    }
+
+    @Test
+    public void testUnicodeStringIsTwoByte() {
+        V8ExternalString string = V8ExternalString.fromString("€100");
+
+        assertFalse(string.isOneByte());
+        assertEquals(4, string.length());
+        assertEquals("€100", string.toString());
+    }
+
+    @Test
+    public void testExecuteExternalScript() {
+        V8ExternalString script = V8ExternalString.fromString("1 + 2");
+
+        Object result = v8.executeExternalScript(script);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    public void testExecuteExternalScriptRepeatedly() {
+        V8ExternalString script = V8ExternalString.fromString("var counter = (typeof counter === 'undefined') ? 1 : counter + 1; counter");
+
+        v8.executeExternalScript(script);
+        Object result = v8.executeExternalScript(script);
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    public void testExecuteTwoByteScript() {
+        V8ExternalString script = V8ExternalString.fromString("'€' + 'x'");
+
+        Object result = v8.executeExternalScript(script);
+
+        assertEquals("€x", result);
+    }
+
+    @Test
+    public void testExecuteLatin1ByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put("xx'été'".getBytes(Charset.forName("ISO-8859-1")));
+        buffer.flip();
+        buffer.position(2);
+
+        Object result = v8.executeExternalScript(V8ExternalString.fromLatin1(buffer));
+
+        assertEquals("été", result);
+    }
+
+    @Test
+    public void testExecuteExternalScriptWithName() {
+        V8ExternalString script = V8ExternalString.fromString("\nfoo();");
+
+        try {
+            v8.executeExternalScript(script, "bundle.js", 0);
+        } catch (V8ScriptExecutionException e) {
+            assertEquals("bundle.js", e.getFileName());
+            assertEquals(2, e.getLineNumber());
+            return;
+        }
+        throw new AssertionError("Expected V8ScriptExecutionException");
+    }
+
+    @Test(expected = V8ScriptCompilationException.class)
+    public void testExecuteInvalidExternalScript() {
+        v8.executeExternalScript(V8ExternalString.fromString("("));
+    }
+
+    @Test
+    public void testExecuteEmptyExternalScript() {
+        Object result = v8.executeExternalScript(V8ExternalString.fromString(""));
+
+        assertEquals(V8.getUndefined(), result);
+    }
+
+    @Test
+    public void testAddExternalString() {
+        v8.add("payload", V8ExternalString.fromString("hello"));
+
+        assertEquals("hello", v8.getString("payload"));
+        assertEquals(5, v8.executeIntegerScript("payload.length"));
+    }
+
+    @Test
+    public void testAddTwoByteExternalString() {
+        V8Object object = new V8Object(v8);
+
+        object.add("payload", V8ExternalString.fromString("中文"));
+
+        assertEquals("中文", object.getString("payload"));
+        object.release();
+    }
+
+    @Test
+    public void testPushExternalString() {
+        V8Array array = new V8Array(v8);
+
+        array.push(V8ExternalString.fromString("a")).push(V8ExternalString.fromString("€"));
+
+        assertEquals("a", array.getString(0));
+        assertEquals("€", array.getString(1));
+        array.release();
+    }
+
+    @Test
+    public void testExternalStringSurvivesGC() {
+        v8.add("payload", V8ExternalString.fromString("abc"));
+
+        v8.lowMemoryNotification();
+
+        assertEquals("abcabc", v8.executeStringScript("payload + payload"));
+    }
+
+    @Test
+    public void testExternalStringReleasedWithRuntime() {
+        V8 other = V8.createV8Runtime();
+        other.add("payload", V8ExternalString.fromString("abc"));
+
+        other.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromLatin1RequiresDirectBuffer() {
+        V8ExternalString.fromLatin1(ByteBuffer.allocate(1));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testExecuteNullExternalScript() {
+        v8.executeExternalScript(null);
+    }
+
+
+    @Test
+    public void testFromUtf8AsciiDirectBufferIsNotCopied() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+        buffer.put(new byte[] { 'a', 'b', 'c' }).flip();
+
+        V8ExternalString string = V8ExternalString.fromUtf8(buffer);
+        buffer.put(0, (byte) 'x');
+
+        assertTrue(string.isOneByte());
+        assertEquals("xbc", string.toString());
+    }
+
+    @Test
+    public void testFromUtf8NonAscii() {
+        ByteBuffer buffer = ByteBuffer.wrap("Grüße €".getBytes(Charset.forName("UTF-8")));
+
+        V8ExternalString string = V8ExternalString.fromUtf8(buffer);
+
+        assertFalse(string.isOneByte());
+        assertEquals(7, string.length());
+        assertEquals("Grüße €", string.toString());
+    }
+
+    @Test
+    public void testFromUtf8HeapBuffer() {
+        V8ExternalString string = V8ExternalString.fromUtf8(ByteBuffer.wrap("abc".getBytes(Charset.forName("UTF-8"))));
+
+        assertTrue(string.isOneByte());
+        assertEquals("abc", string.toString());
+    }
+
+    @Test
+    public void testFromUtf8MalformedInput() {
+        V8ExternalString string = V8ExternalString.fromUtf8(ByteBuffer.wrap(new byte[] { 'a', (byte) 0xFF }));
+
+        assertEquals("a\uFFFD", string.toString());
+    }
+
+    @Test
+    public void testExecuteUtf8ExternalScript() {
+        ByteBuffer buffer = ByteBuffer.wrap("'\u00fc' + 1".getBytes(Charset.forName("UTF-8")));
+
+        Object result = v8.executeExternalScript(V8ExternalString.fromUtf8(buffer));
+
+        assertEquals("ü1", result);
+    }
+
+}
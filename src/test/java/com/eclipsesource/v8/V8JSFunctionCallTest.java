@@ -15,6 +15,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -1043,4 +1046,191 @@ public class V8JSFunctionCallTest {
         assertEquals("passed", result);
     }
 
+    @Test
+    public void testGetFunctionCallInt() {
+        v8.executeVoidScript("function add(a, b) { return a + b; }");
+        V8Function function = v8.getFunction("add");
+        V8Array parameters = new V8Array(v8).push(3).push(4);
+
+        int result = function.callInt(null, parameters);
+
+        assertEquals(7, result);
+        parameters.release();
+        function.release();
+    }
+
+    @Test
+    public void testGetFunctionCallRepeatedly() {
+        v8.executeVoidScript("var count = 0; function next() { return ++count; }");
+        V8Function function = v8.getFunction("next");
+
+        for (int i = 0; i < 10; i++) {
+            function.callInt(null, null);
+        }
+
+        assertEquals(10, v8.getInteger("count"));
+        function.release();
+    }
+
+    @Test
+    public void testGetFunctionCallDoubleStringBoolean() {
+        V8Object object = v8.executeObjectScript("({half: function(x) { return x / 2; }, name: function() { return this.id; },"
+                + " id: 'o', positive: function(x) { return x > 0; }})");
+        V8Array parameters = new V8Array(v8).push(3);
+        V8Function half = object.getFunction("half");
+        V8Function name = object.getFunction("name");
+        V8Function positive = object.getFunction("positive");
+
+        assertEquals(1.5, half.callDouble(object, parameters), 0.000001);
+        assertEquals("o", name.callString(object, null));
+        assertTrue(positive.callBoolean(object, parameters));
+        half.release();
+        name.release();
+        positive.release();
+        parameters.release();
+        object.release();
+    }
+
+    @Test
+    public void testGetFunctionCallVoid() {
+        v8.executeVoidScript("var called = false; function run() { called = true; }");
+        V8Function function = v8.getFunction("run");
+
+        function.callVoid(null, null);
+
+        assertTrue(v8.getBoolean("called"));
+        function.release();
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testGetFunctionNotAFunction() {
+        v8.executeVoidScript("var foo = 7;");
+
+        v8.getFunction("foo");
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testGetFunctionUndefined() {
+        v8.getFunction("foo");
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testCallIntNotANumber() {
+        v8.executeVoidScript("function foo() { return 'bar'; }");
+        V8Function function = v8.getFunction("foo");
+
+        try {
+            function.callInt(null, null);
+        } finally {
+            function.release();
+        }
+    }
+
+    @Test
+    public void testInvokeWithArguments() {
+        v8.executeVoidScript("function describe(a, b, c, d, e, f) { return [typeof a, typeof b, typeof c, typeof d, e, f].join(); }");
+        V8Function function = v8.getFunction("describe");
+        V8Arguments arguments = new V8Arguments(1).add(1).add(2.5).add(true).add("foo").addNull().addUndefined();
+
+        Object result = function.invoke(null, arguments);
+
+        assertEquals("number,number,boolean,string,,", result);
+        function.release();
+    }
+
+    @Test
+    public void testInvokeIntWithArguments() {
+        v8.executeVoidScript("function add(x, y) { return x + y; }");
+        V8Function function = v8.getFunction("add");
+        V8Arguments arguments = new V8Arguments();
+
+        int first = function.invokeInt(null, arguments.add(3).add(4));
+        int second = function.invokeInt(null, arguments.clear().add(5).add(6));
+
+        assertEquals(7, first);
+        assertEquals(11, second);
+        assertEquals(2, arguments.size());
+        function.release();
+    }
+
+    @Test
+    public void testInvokeTypedWithArguments() {
+        V8Object object = v8.executeObjectScript("({half: function(x) { return x / 2; }, name: function(x) { return this.id + x; },"
+                + " id: 'o', positive: function(x) { return x > 0; }})");
+        V8Function half = object.getFunction("half");
+        V8Function name = object.getFunction("name");
+        V8Function positive = object.getFunction("positive");
+
+        assertEquals(1.5, half.invokeDouble(object, new V8Arguments().add(3)), 0.000001);
+        assertEquals("o!", name.invokeString(object, new V8Arguments().add("!")));
+        assertTrue(positive.invokeBoolean(object, new V8Arguments().add(0.5)));
+        half.release();
+        name.release();
+        positive.release();
+        object.release();
+    }
+
+    @Test
+    public void testInvokeVoidWithObjectArgument() {
+        v8.executeVoidScript("var result; function run(o) { result = o.x; }");
+        V8Function function = v8.getFunction("run");
+        V8Object object = new V8Object(v8).add("x", 7);
+
+        function.invokeVoid(null, new V8Arguments().add(object));
+
+        assertEquals(7, v8.getInteger("result"));
+        object.release();
+        function.release();
+    }
+
+    @Test
+    public void testInvokeWithNullArguments() {
+        v8.executeVoidScript("function count() { return arguments.length; }");
+        V8Function function = v8.getFunction("count");
+
+        assertEquals(0, function.invokeInt(null, null));
+        function.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInvokeWithReleasedArgument() {
+        v8.executeVoidScript("function run(o) {}");
+        V8Function function = v8.getFunction("run");
+        V8Object object = new V8Object(v8);
+        V8Arguments arguments = new V8Arguments().add(object);
+        object.release();
+
+        try {
+            function.invokeVoid(null, arguments);
+        } finally {
+            function.release();
+        }
+    }
+
+    @Test
+    public void testInvokeAll() {
+        v8.executeVoidScript("function check(x) { if (x < 0) { throw 'negative'; } return x * 2; }");
+        V8Function function = v8.getFunction("check");
+
+        List<Object> results = function.invokeAll(null, Arrays.asList(new V8Arguments().add(1), new V8Arguments().add(-1),
+                new V8Arguments().add(2.5)));
+
+        assertEquals(2, results.get(0));
+        assertTrue(results.get(1) instanceof V8ScriptExecutionException);
+        assertEquals(5.0, results.get(2));
+        function.release();
+    }
+
+    @Test
+    public void testInvokeAllWithReceiverAndNullArguments() {
+        V8Object object = v8.executeObjectScript("({count: 0, next: function() { return ++this.count; }})");
+        V8Function function = object.getFunction("next");
+
+        List<Object> results = function.invokeAll(object, Arrays.<V8Arguments> asList(null, null, null));
+
+        assertEquals(Arrays.<Object> asList(1, 2, 3), results);
+        function.release();
+        object.release();
+    }
+
 }
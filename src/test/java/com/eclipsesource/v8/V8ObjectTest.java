@@ -30,6 +30,9 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -1592,4 +1595,94 @@ public class V8ObjectTest {
         v8Object.release();
     }
 
+
+    @Test
+    public void testExecuteUtf8Function() {
+        v8.executeVoidScript("function render(name) { return '<b>' + name + '</b>'; }");
+        V8Array parameters = new V8Array(v8).push("J\u00fcrg");
+        ByteBuffer output = ByteBuffer.allocateDirect(100);
+
+        v8.executeUtf8Function("render", parameters, output);
+
+        output.flip();
+        assertEquals("<b>Jürg</b>", Charset.forName("UTF-8").decode(output).toString());
+        parameters.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExecuteUtf8FunctionRequiresWritableBuffer() {
+        v8.executeVoidScript("function foo() { return 'a'; }");
+
+        v8.executeUtf8Function("foo", null, ByteBuffer.allocateDirect(1).asReadOnlyBuffer());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testExecuteUtf8FunctionOnUndefined() {
+        new Undefined().executeUtf8Function("foo", null, null);
+    }
+
+    @Test
+    public void testToJSON() {
+        V8Object object = v8.executeObjectScript("({a: 1, b: [true, 'x'], c: undefined})");
+
+        assertEquals("{\"a\":1,\"b\":[true,\"x\"]}", object.toJSON());
+        object.release();
+    }
+
+    @Test
+    public void testToJSONUsesOriginalStringify() {
+        V8Object object = v8.executeObjectScript("JSON = {stringify: function() { return 'replaced'; }}; ({a: 1})");
+
+        assertEquals("{\"a\":1}", object.toJSON());
+        object.release();
+    }
+
+    @Test
+    public void testToJSONFunction() {
+        V8Object function = v8.executeObjectScript("(function() {})");
+
+        assertNull(function.toJSON());
+        function.release();
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testToJSONCircular() {
+        V8Object object = v8.executeObjectScript("var o = {}; o.self = o; o");
+
+        try {
+            object.toJSON();
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test
+    public void testToJSONUtf8() {
+        V8Object object = new V8Object(v8).add("name", "J\u00fcrg");
+        ByteBuffer output = ByteBuffer.allocateDirect(100);
+
+        ByteBuffer result = object.toJSON(output);
+
+        assertSame(output, result);
+        output.flip();
+        assertEquals("{\"name\":\"J\u00fcrg\"}", Charset.forName("UTF-8").decode(output).toString());
+        object.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testToJSONUtf8RequiresWritableBuffer() {
+        V8Object object = new V8Object(v8).add("name", "foo");
+
+        try {
+            object.toJSON(ByteBuffer.allocateDirect(100).asReadOnlyBuffer());
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test
+    public void testToJSONOnUndefined() {
+        assertNull(new Undefined().toJSON());
+    }
+
 }
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class V8ResourceConstraintsTest {
+
+    private V8 v8;
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.release();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDefaultConstraints() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints();
+
+        assertEquals(0, constraints.getMaxSemiSpaceSize());
+        assertEquals(0, constraints.getMaxOldSpaceSize());
+        assertEquals(0, constraints.getMaxExecutableSize());
+        assertEquals(0, constraints.getCodeRangeSize());
+        assertEquals(0, constraints.getStackSize());
+        assertEquals(0, constraints.getMaxArrayBufferMemory());
+    }
+
+    @Test
+    public void testSetConstraints() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints()
+                .setMaxSemiSpaceSize(1)
+                .setMaxOldSpaceSize(2)
+                .setMaxExecutableSize(3)
+                .setCodeRangeSize(4)
+                .setStackSize(5)
+                .setMaxArrayBufferMemory(6);
+
+        assertEquals(1, constraints.getMaxSemiSpaceSize());
+        assertEquals(2, constraints.getMaxOldSpaceSize());
+        assertEquals(3, constraints.getMaxExecutableSize());
+        assertEquals(4, constraints.getCodeRangeSize());
+        assertEquals(5, constraints.getStackSize());
+        assertEquals(6, constraints.getMaxArrayBufferMemory());
+    }
+
+    @Test
+    public void testSetConstraintsReturnsReceiver() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints();
+
+        assertSame(constraints, constraints.setMaxOldSpaceSize(16));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSizeNotAllowed() {
+        new V8ResourceConstraints().setMaxOldSpaceSize(-1);
+    }
+
+    @Test
+    public void testCreateRuntimeWithNullConstraints() {
+        v8 = V8.createV8Runtime(null, null, null);
+
+        assertEquals(7, v8.executeIntegerScript("3 + 4"));
+    }
+
+    @Test
+    public void testCreateRuntimeWithConstraints() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxOldSpaceSize(32).setMaxSemiSpaceSize(1);
+
+        v8 = V8.createV8Runtime(null, null, constraints);
+
+        assertEquals(7, v8.executeIntegerScript("3 + 4"));
+    }
+
+    @Test
+    public void testCreateRuntimeWithConstraintsAndGlobalAlias() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxOldSpaceSize(32);
+
+        v8 = V8.createV8Runtime("window", null, constraints);
+
+        assertTrue(v8.executeBooleanScript("window === this"));
+    }
+
+    @Test
+    public void testStackSizeLimitsRecursion() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setStackSize(64);
+        v8 = V8.createV8Runtime(null, null, constraints);
+
+        int depth = v8.executeIntegerScript("var depth = 0; function f() { depth++; f(); }; try { f(); } catch (e) {}; depth;");
+
+        assertTrue(depth > 0);
+        assertTrue(depth < 100000);
+    }
+
+    @Test
+    public void testNearHeapLimitHandlerTerminatesScript() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxOldSpaceSize(32);
+        v8 = V8.createV8Runtime(null, null, constraints);
+        final boolean[] notified = new boolean[] { false };
+        v8.setNearHeapLimitHandler(new NearHeapLimitHandler() {
+
+            @Override
+            public void nearHeapLimit(final V8 runtime, final long usedHeapSize, final long heapSizeLimit) {
+                notified[0] = true;
+                runtime.terminateExecution();
+            }
+        }, 0.5);
+
+        try {
+            v8.executeVoidScript("var data = []; while (true) { data.push(new Array(1000).join('x') + Math.random()); }");
+        } catch (V8RuntimeException e) {
+            assertTrue(notified[0]);
+            return;
+        }
+        fail("Execution should have been terminated.");
+    }
+
+    @Test
+    public void testNearHeapLimitHandlerReceivesRuntime() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxOldSpaceSize(32);
+        v8 = V8.createV8Runtime(null, null, constraints);
+        NearHeapLimitHandler handler = mock(NearHeapLimitHandler.class);
+        v8.setNearHeapLimitHandler(handler, 0.01);
+
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 10000; i++) { data.push({index : i}); }");
+        v8.lowMemoryNotification();
+
+        verify(handler).nearHeapLimit(eq(v8), anyLong(), anyLong());
+    }
+
+    @Test
+    public void testNearHeapLimitHandlerNotCalledBelowThreshold() {
+        v8 = V8.createV8Runtime();
+        NearHeapLimitHandler handler = mock(NearHeapLimitHandler.class);
+        v8.setNearHeapLimitHandler(handler, 1);
+
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100; i++) { data.push({index : i}); }");
+        v8.lowMemoryNotification();
+
+        verify(handler, never()).nearHeapLimit(eq(v8), anyLong(), anyLong());
+    }
+
+    @Test
+    public void testRemoveNearHeapLimitHandler() {
+        v8 = V8.createV8Runtime();
+        NearHeapLimitHandler handler = mock(NearHeapLimitHandler.class);
+        v8.setNearHeapLimitHandler(handler, 0.01);
+
+        v8.setNearHeapLimitHandler(null, 0);
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 10000; i++) { data.push({index : i}); }");
+        v8.lowMemoryNotification();
+
+        verify(handler, never()).nearHeapLimit(eq(v8), anyLong(), anyLong());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNearHeapLimitThresholdMustBePositive() {
+        v8 = V8.createV8Runtime();
+
+        v8.setNearHeapLimitHandler(mock(NearHeapLimitHandler.class), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNearHeapLimitThresholdMustNotExceedOne() {
+        v8 = V8.createV8Runtime();
+
+        v8.setNearHeapLimitHandler(mock(NearHeapLimitHandler.class), 1.5);
+    }
+
+    @Test
+    public void testRuntimeUsableAfterSettingHandler() {
+        v8 = V8.createV8Runtime();
+
+        v8.setNearHeapLimitHandler(mock(NearHeapLimitHandler.class), 0.9);
+
+        assertNotNull(v8.executeStringScript("'foo'"));
+        assertFalse(v8.isReleased());
+    }
+
+    @Test
+    public void testArrayBufferMemoryLimit() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxArrayBufferMemory(1);
+        v8 = V8.createV8Runtime(null, null, constraints);
+
+        try {
+            v8.executeVoidScript("new ArrayBuffer(2 * 1024 * 1024);");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals(1, v8.getArrayBufferAllocatorStatistics().getFailedAllocationCount());
+            assertEquals(1024 * 1024, v8.getArrayBufferAllocatorStatistics().getLimit());
+            return;
+        }
+        fail("RangeError expected.");
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testArrayBufferMemoryLimitFromJava() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxArrayBufferMemory(1);
+        v8 = V8.createV8Runtime(null, null, constraints);
+
+        new V8ArrayBuffer(v8, 2 * 1024 * 1024);
+    }
+
+    @Test
+    public void testArrayBufferMemoryLimitWhenDeserializing() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxArrayBufferMemory(1);
+        v8 = V8.createV8Runtime(null, null, constraints);
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 768 * 1024);
+        ByteBuffer data = v8.serialize(buffer);
+
+        try {
+            v8.deserialize(data);
+            fail("V8RuntimeException expected.");
+        } catch (V8RuntimeException e) {
+            assertEquals(1, v8.getArrayBufferAllocatorStatistics().getFailedAllocationCount());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testArrayBufferMemoryBelowLimit() {
+        V8ResourceConstraints constraints = new V8ResourceConstraints().setMaxArrayBufferMemory(1);
+        v8 = V8.createV8Runtime(null, null, constraints);
+
+        int length = v8.executeIntegerScript("new ArrayBuffer(512 * 1024).byteLength");
+
+        assertEquals(512 * 1024, length);
+    }
+
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8SharedArrayBufferTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        V8.setFlags("--harmony-sharedarraybuffer --harmony-atomics");
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCreateSharedArrayBuffer() {
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, 100);
+
+        assertEquals(100, buffer.getBackingStore().capacity());
+        buffer.release();
+    }
+
+    @Test
+    public void testSharedArrayBufferType() {
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, 8);
+        v8.add("buffer", buffer);
+
+        assertEquals(V8Value.V8_SHARED_ARRAY_BUFFER, v8.getType("buffer"));
+        buffer.release();
+    }
+
+    @Test
+    public void testSharedArrayBufferReturnedFromScript() {
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, 8);
+        v8.add("buffer", buffer);
+
+        V8Value result = (V8Value) v8.executeScript("buffer");
+
+        assertTrue(result instanceof V8SharedArrayBuffer);
+        assertEquals(8, ((V8SharedArrayBuffer) result).getBackingStore().capacity());
+        result.release();
+        buffer.release();
+    }
+
+    @Test
+    public void testSharedArrayBufferBackedByByteBuffer() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, byteBuffer);
+        v8.add("buffer", buffer);
+
+        v8.executeVoidScript("new Int32Array(buffer)[0] = 7;");
+
+        assertSame(byteBuffer, buffer.getBackingStore());
+        assertEquals(7, byteBuffer.getInt(0));
+        buffer.release();
+    }
+
+    @Test
+    public void testTypedArrayOnSharedArrayBuffer() {
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, 8);
+        V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.INT_32_ARRAY, 0, 2);
+        v8.add("array", array);
+
+        v8.executeVoidScript("array[1] = 42;");
+
+        assertEquals(42, buffer.getBackingStore().getInt(4));
+        array.release();
+        buffer.release();
+    }
+
+    @Test
+    public void testShareMemoryBetweenRuntimes() {
+        V8 other = V8.createV8Runtime();
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(16);
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, byteBuffer);
+        V8SharedArrayBuffer otherBuffer = new V8SharedArrayBuffer(other, byteBuffer);
+        v8.add("buffer", buffer);
+        other.add("buffer", otherBuffer);
+
+        v8.executeVoidScript("new Float64Array(buffer)[1] = 3.5;");
+        double result = other.executeDoubleScript("new Float64Array(buffer)[1]");
+
+        assertEquals(3.5, result, 0.000001);
+        otherBuffer.release();
+        buffer.release();
+        other.release();
+    }
+
+    @Test
+    public void testTwinIsSharedArrayBuffer() {
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, 8);
+
+        V8SharedArrayBuffer twin = buffer.twin();
+        v8.add("twin", twin);
+
+        assertEquals(8, twin.getBackingStore().capacity());
+        assertEquals(V8Value.V8_SHARED_ARRAY_BUFFER, v8.getType("twin"));
+        twin.release();
+        buffer.release();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedArrayBufferCannotBeTransferred() {
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, 8);
+
+        try {
+            buffer.transferTo(v8);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateSharedArrayBufferFromHeapByteBuffer() {
+        new V8SharedArrayBuffer(v8, ByteBuffer.allocate(8));
+    }
+
+    @Test
+    public void testSharedArrayBufferEnabled() {
+        assertTrue(V8.isSharedArrayBufferEnabled());
+    }
+
+    @Test
+    public void testSharedArrayBufferFlag() {
+        assertTrue(V8.isFlagEnabled("--harmony-sharedarraybuffer", "harmony-sharedarraybuffer", false));
+        assertTrue(V8.isFlagEnabled("--foo --harmony_sharedarraybuffer", "harmony-sharedarraybuffer", false));
+        assertFalse(V8.isFlagEnabled("--harmony-atomics", "harmony-sharedarraybuffer", false));
+        assertFalse(V8.isFlagEnabled("--no-harmony-sharedarraybuffer", "harmony-sharedarraybuffer", true));
+        assertTrue(V8.isFlagEnabled(null, "harmony-sharedarraybuffer", true));
+    }
+
+    @Test
+    public void testAtomicsFromTwoRuntimes() throws InterruptedException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8);
+        final int[] results = new int[2];
+        Thread[] threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    V8 runtime = V8.createV8Runtime();
+                    V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(runtime, byteBuffer);
+                    runtime.add("buffer", buffer);
+                    results[index] = runtime.executeIntegerScript(""
+                            + "var array = new Int32Array(buffer);\n"
+                            + "for (var i = 0; i < 10000; i++) {\n"
+                            + "  Atomics.add(array, 0, 1);\n"
+                            + "}\n"
+                            + "Atomics.load(array, 0);\n");
+                    buffer.release();
+                    runtime.release();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        V8SharedArrayBuffer buffer = new V8SharedArrayBuffer(v8, byteBuffer);
+        v8.add("buffer", buffer);
+
+        assertEquals(20000, v8.executeIntegerScript("Atomics.load(new Int32Array(buffer), 0)"));
+        assertTrue(results[0] >= 10000);
+        assertTrue(results[1] >= 10000);
+        buffer.release();
+    }
+
+}
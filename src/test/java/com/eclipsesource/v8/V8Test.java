@@ -13,16 +13,25 @@ package com.eclipsesource.v8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.List;
 
@@ -1418,6 +1427,33 @@ public class V8Test {
         object.release();
     }
 
+    @Test
+    public void testV8ReferenceHandlerRemovedWhileNotified() {
+        final ReferenceHandler referenceHandler1 = mock(ReferenceHandler.class);
+        ReferenceHandler referenceHandler2 = new ReferenceHandler() {
+
+            @Override
+            public void v8HandleCreated(final V8Value object) {
+                v8.removeReferenceHandler(referenceHandler1);
+                v8.removeReferenceHandler(this);
+            }
+
+            @Override
+            public void v8HandleDisposed(final V8Value object) {
+            }
+        };
+        v8.addReferenceHandler(referenceHandler1);
+        v8.addReferenceHandler(referenceHandler2);
+
+        V8Object object = new V8Object(v8);
+        V8Object other = new V8Object(v8);
+
+        verify(referenceHandler1, times(1)).v8HandleCreated(object);
+        verify(referenceHandler1, never()).v8HandleCreated(other);
+        object.release();
+        other.release();
+    }
+
     @Test
     public void testV8MultipleReferenceHandlers() {
         ReferenceHandler referenceHandler1 = mock(ReferenceHandler.class);
@@ -1538,4 +1574,586 @@ public class V8Test {
         fail("Exception should have been caught.");
     }
 
+    @Test
+    public void testIdleNotification() {
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100000; i++) { data.push({index : i}); }");
+        long before = v8.getHeapStatistics().getUsedHeapSize();
+        v8.executeVoidScript("data = null;");
+
+        boolean done = false;
+        for (int i = 0; (i < 100) && !done; i++) {
+            done = v8.idleNotification(100);
+        }
+
+        assertTrue(v8.getHeapStatistics().getUsedHeapSize() < before);
+    }
+
+    @Test
+    public void testLowMemoryNotification() {
+        GCHandler handler = mock(GCHandler.class);
+        v8.addGCHandler(handler);
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100000; i++) { data.push({index : i}); }");
+        long before = v8.getHeapStatistics().getUsedHeapSize();
+        v8.executeVoidScript("data = null;");
+
+        v8.lowMemoryNotification();
+
+        verify(handler, atLeastOnce()).gcCompleted(eq(v8), eq(GCHandler.MARK_SWEEP_COMPACT), anyLong());
+        assertTrue(v8.getHeapStatistics().getUsedHeapSize() < before);
+    }
+
+    @Test
+    public void testLowMemoryNotificationCollectsUnreachableFunctions() {
+        for (int i = 0; i < 100; i++) {
+            V8Function function = new V8Function(v8, mock(JavaCallback.class));
+            function.release();
+        }
+
+        v8.lowMemoryNotification();
+
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test(expected = Error.class)
+    public void testCannotIdleNotifyDisposedIsolate() {
+        v8.release();
+        v8.idleNotification(100);
+    }
+
+    @Test(expected = Error.class)
+    public void testCannotLowMemoryNotifyDisposedIsolate() {
+        v8.release();
+        v8.lowMemoryNotification();
+    }
+
+    @Test
+    public void testGetHeapStatistics() {
+        V8HeapStatistics statistics = v8.getHeapStatistics();
+
+        assertTrue(statistics.getTotalHeapSize() > 0);
+        assertTrue(statistics.getUsedHeapSize() > 0);
+        assertTrue(statistics.getHeapSizeLimit() >= statistics.getTotalHeapSize());
+        assertTrue(statistics.getTotalPhysicalSize() > 0);
+    }
+
+    @Test
+    public void testGetHeapStatistics_UsedHeapGrows() {
+        long before = v8.getHeapStatistics().getUsedHeapSize();
+
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 10000; i++) { data.push({index : i}); }");
+
+        assertTrue(v8.getHeapStatistics().getUsedHeapSize() > before);
+    }
+
+    @Test
+    public void testGetHeapStatistics_HeapSizeLimitFromConstraints() {
+        V8 runtime = V8.createV8Runtime(null, null, new V8ResourceConstraints().setMaxOldSpaceSize(64));
+        try {
+            long limit = runtime.getHeapStatistics().getHeapSizeLimit();
+
+            assertTrue(limit < (v8.getHeapStatistics().getHeapSizeLimit()));
+        } finally {
+            runtime.release();
+        }
+    }
+
+    @Test
+    public void testGetHeapSpaceStatistics() {
+        V8HeapSpaceStatistics[] statistics = v8.getHeapSpaceStatistics();
+
+        assertTrue(statistics.length > 0);
+        for (V8HeapSpaceStatistics space : statistics) {
+            assertNotNull(space.getSpaceName());
+            assertTrue(space.getSpaceUsedSize() <= space.getSpaceSize());
+        }
+    }
+
+    @Test
+    public void testGetHeapSpaceStatistics_ContainsNewSpace() {
+        V8HeapSpaceStatistics[] statistics = v8.getHeapSpaceStatistics();
+
+        boolean found = false;
+        for (V8HeapSpaceStatistics space : statistics) {
+            found = found || "new_space".equals(space.getSpaceName());
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    public void testGetHeapSpaceStatistics_Twice() {
+        V8HeapSpaceStatistics[] first = v8.getHeapSpaceStatistics();
+        V8HeapSpaceStatistics[] second = v8.getHeapSpaceStatistics();
+
+        assertEquals(first.length, second.length);
+        assertEquals(first[0].getSpaceName(), second[0].getSpaceName());
+    }
+
+    @Test(expected = Error.class)
+    public void testCannotGetHeapStatisticsDisposedIsolate() {
+        v8.release();
+        v8.getHeapStatistics();
+    }
+
+    @Test
+    public void testGCHandlerNotified() {
+        GCHandler handler = mock(GCHandler.class);
+        v8.addGCHandler(handler);
+
+        v8.lowMemoryNotification();
+
+        verify(handler, atLeastOnce()).gcCompleted(eq(v8), eq(GCHandler.MARK_SWEEP_COMPACT), anyLong());
+    }
+
+    @Test
+    public void testMultipleGCHandlersNotified() {
+        GCHandler handler1 = mock(GCHandler.class);
+        GCHandler handler2 = mock(GCHandler.class);
+        v8.addGCHandler(handler1);
+        v8.addGCHandler(handler2);
+
+        v8.lowMemoryNotification();
+
+        verify(handler1, atLeastOnce()).gcCompleted(eq(v8), anyInt(), anyLong());
+        verify(handler2, atLeastOnce()).gcCompleted(eq(v8), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testRemovedGCHandlerNotNotified() {
+        GCHandler handler = mock(GCHandler.class);
+        v8.addGCHandler(handler);
+        v8.removeGCHandler(handler);
+
+        v8.lowMemoryNotification();
+
+        verify(handler, never()).gcCompleted(any(V8.class), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testRemoveOneOfTwoGCHandlers() {
+        GCHandler handler1 = mock(GCHandler.class);
+        GCHandler handler2 = mock(GCHandler.class);
+        v8.addGCHandler(handler1);
+        v8.addGCHandler(handler2);
+        v8.removeGCHandler(handler1);
+
+        v8.lowMemoryNotification();
+
+        verify(handler1, never()).gcCompleted(any(V8.class), anyInt(), anyLong());
+        verify(handler2, atLeastOnce()).gcCompleted(eq(v8), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testRemoveUnknownGCHandler() {
+        v8.removeGCHandler(mock(GCHandler.class));
+    }
+
+    @Test
+    public void testGCHandlerAddedAgainAfterRemoval() {
+        GCHandler handler = mock(GCHandler.class);
+        v8.addGCHandler(handler);
+        v8.removeGCHandler(handler);
+        v8.lowMemoryNotification();
+        v8.addGCHandler(handler);
+
+        v8.lowMemoryNotification();
+
+        verify(handler, atLeastOnce()).gcCompleted(eq(v8), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testGCHandlerRemovesItselfWhenNotified() {
+        final int[] notifications = new int[1];
+        GCHandler handler1 = new GCHandler() {
+
+            @Override
+            public void gcCompleted(final V8 runtime, final int gcType, final long pauseTime) {
+                notifications[0]++;
+                runtime.removeGCHandler(this);
+            }
+        };
+        GCHandler handler2 = mock(GCHandler.class);
+        v8.addGCHandler(handler1);
+        v8.addGCHandler(handler2);
+
+        v8.lowMemoryNotification();
+
+        assertEquals(1, notifications[0]);
+        verify(handler2, atLeastOnce()).gcCompleted(eq(v8), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testAdjustExternalMemory() {
+        long before = v8.getExternalMemory();
+
+        long result = v8.adjustExternalMemory(1024 * 1024);
+
+        assertEquals(before + (1024 * 1024), result);
+        assertEquals(before + (1024 * 1024), v8.getExternalMemory());
+        v8.adjustExternalMemory(-1024 * 1024);
+    }
+
+    @Test
+    public void testAdjustExternalMemory_Negative() {
+        long before = v8.getExternalMemory();
+        v8.adjustExternalMemory(1024);
+
+        v8.adjustExternalMemory(-1024);
+
+        assertEquals(before, v8.getExternalMemory());
+    }
+
+    @Test
+    public void testExternalMemoryInHeapStatistics() {
+        v8.adjustExternalMemory(4096);
+
+        assertEquals(v8.getExternalMemory(), v8.getHeapStatistics().getExternalMemory());
+        v8.adjustExternalMemory(-4096);
+    }
+
+    @Test
+    public void testV8ArrayBufferReportsExternalMemory() {
+        long before = v8.getExternalMemory();
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 1024 * 1024);
+
+        assertTrue(v8.getExternalMemory() >= (before + (1024 * 1024)));
+        buffer.release();
+    }
+
+    @Test(expected = Error.class)
+    public void testCannotAdjustExternalMemoryDisposedIsolate() {
+        v8.release();
+        v8.adjustExternalMemory(1024);
+    }
+
+
+    @Test
+    public void testExecuteUtf8Script() {
+        ByteBuffer output = ByteBuffer.allocateDirect(100);
+
+        ByteBuffer result = v8.executeUtf8Script("'<p>' + 'caf\u00e9' + '</p>'", output);
+
+        assertSame(output, result);
+        assertEquals(12, result.position());
+        result.flip();
+        assertEquals("<p>café</p>", Charset.forName("UTF-8").decode(result).toString());
+    }
+
+    @Test
+    public void testExecuteUtf8ScriptAppendsAtPosition() {
+        ByteBuffer output = ByteBuffer.allocateDirect(10);
+        output.put((byte) 'x');
+
+        v8.executeUtf8Script("'yz'", output);
+
+        output.flip();
+        assertEquals("xyz", Charset.forName("UTF-8").decode(output).toString());
+    }
+
+    @Test
+    public void testExecuteUtf8ScriptGrowsBuffer() {
+        ByteBuffer output = ByteBuffer.allocateDirect(2);
+
+        ByteBuffer result = v8.executeUtf8Script("'\u20ac\u20ac'", output);
+
+        assertNotSame(output, result);
+        assertEquals(6, result.position());
+        result.flip();
+        assertEquals("€€", Charset.forName("UTF-8").decode(result).toString());
+    }
+
+    @Test
+    public void testExecuteUtf8ScriptWithoutBuffer() {
+        ByteBuffer result = v8.executeUtf8Script("'abc'", null);
+
+        assertEquals(3, result.position());
+        assertTrue(result.isDirect());
+    }
+
+    @Test
+    public void testExecuteUtf8ScriptNullResult() {
+        assertNull(v8.executeUtf8Script("null", ByteBuffer.allocateDirect(1)));
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testExecuteUtf8ScriptNotString() {
+        v8.executeUtf8Script("1", ByteBuffer.allocateDirect(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExecuteUtf8ScriptRequiresDirectBuffer() {
+        v8.executeUtf8Script("'a'", ByteBuffer.allocate(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExecuteUtf8ScriptRequiresWritableBuffer() {
+        v8.executeUtf8Script("'a'", ByteBuffer.allocateDirect(1).asReadOnlyBuffer());
+    }
+
+    @Test
+    public void testParseJSONObject() {
+        V8Object result = (V8Object) v8.parseJSON("{\"a\": 1, \"b\": [true, \"x\"]}");
+        V8Array b = result.getArray("b");
+
+        assertEquals(1, result.getInteger("a"));
+        assertTrue(b.getBoolean(0));
+        assertEquals("x", b.getString(1));
+        b.release();
+        result.release();
+    }
+
+    @Test
+    public void testParseJSONPrimitives() {
+        assertEquals(7, v8.parseJSON("7"));
+        assertEquals(1.5, v8.parseJSON("1.5"));
+        assertEquals("abc", v8.parseJSON("\"abc\""));
+        assertNull(v8.parseJSON("null"));
+    }
+
+    @Test
+    public void testParseJSONIsNotExecuted() {
+        v8.executeVoidScript("var x = 0;");
+
+        try {
+            v8.parseJSON("x = 1");
+            fail("Exception expected");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals(0, v8.getInteger("x"));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testParseJSONNull() {
+        v8.parseJSON((String) null);
+    }
+
+    @Test
+    public void testParseUtf8JSON() {
+        ByteBuffer json = ByteBuffer.allocateDirect(32);
+        json.put("{\"name\": \"J\u00fcrg\"}".getBytes(Charset.forName("UTF-8")));
+        json.flip();
+
+        V8Object result = (V8Object) v8.parseJSON(json);
+
+        assertEquals("J\u00fcrg", result.getString("name"));
+        assertEquals(0, json.position());
+        result.release();
+    }
+
+    @Test
+    public void testParseUtf8JSONFromHeapBuffer() {
+        ByteBuffer json = ByteBuffer.wrap("[1,\"\u20ac\"]".getBytes(Charset.forName("UTF-8")));
+
+        V8Array result = (V8Array) v8.parseJSON(json);
+
+        assertEquals(1, result.getInteger(0));
+        assertEquals("\u20ac", result.getString(1));
+        result.release();
+    }
+
+    @Test
+    public void testSerializeDeserializeInOtherRuntime() {
+        V8 other = V8.createV8Runtime();
+        V8Object object = v8.executeObjectScript("var o = {a: [1, 'x'], b: new Uint8Array([1, 2])}; o.self = o; o");
+
+        ByteBuffer data = v8.serialize(object);
+        V8Object result = (V8Object) other.deserialize(data);
+        other.add("result", result);
+
+        assertEquals("x", other.executeStringScript("result.a[1]"));
+        assertEquals(3, other.executeIntegerScript("result.b[0] + result.b[1]"));
+        assertTrue(other.executeBooleanScript("result.self === result"));
+        result.release();
+        object.release();
+        other.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSerializeFunction() {
+        V8Object object = v8.executeObjectScript("({f: function() {}})");
+
+        try {
+            v8.serialize(object);
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testSerializeThrowingGetter() {
+        V8Object object = v8.executeObjectScript("({get a() { throw new Error('no'); }})");
+
+        try {
+            v8.serialize(object);
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test
+    public void testSerializeUndefined() {
+        assertEquals(V8.getUndefined(), v8.deserialize(v8.serialize(V8.getUndefined())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeserializeInvalidData() {
+        v8.deserialize(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+    }
+
+    @Test
+    public void testCloneInto() {
+        V8 other = V8.createV8Runtime();
+        V8Object object = v8.executeObjectScript("var o = {name: 'x', values: new Float64Array([1.5, 2.5])}; o.self = o; o");
+
+        V8Object result = (V8Object) v8.cloneInto(object, other);
+        other.add("result", result);
+
+        assertEquals(other, result.getRuntime());
+        assertEquals("x", other.executeStringScript("result.name"));
+        assertEquals(4, other.executeDoubleScript("result.values[0] + result.values[1]"), 0.000001);
+        assertTrue(other.executeBooleanScript("result.self === result"));
+        result.release();
+        object.release();
+        other.release();
+    }
+
+    @Test
+    public void testCloneIntoIsACopy() {
+        V8 other = V8.createV8Runtime();
+        V8Array array = v8.executeArrayScript("var a = [1]; a");
+
+        V8Array result = (V8Array) v8.cloneInto(array, other);
+        v8.executeVoidScript("a[0] = 2");
+
+        assertEquals(1, result.getInteger(0));
+        result.release();
+        array.release();
+        other.release();
+    }
+
+    @Test
+    public void testCloneIntoUndefined() {
+        V8 other = V8.createV8Runtime();
+
+        assertEquals(V8.getUndefined(), v8.cloneInto(V8.getUndefined(), other));
+        other.release();
+    }
+
+    @Test
+    public void testExecuteScripts() {
+        List<Object> results = v8.executeScripts(Arrays.asList(new ScriptSource("var x = 7;"), new ScriptSource("x + 1"),
+                new ScriptSource("'foo'"), new ScriptSource("[x]")));
+
+        assertEquals(4, results.size());
+        assertEquals(V8.getUndefined(), results.get(0));
+        assertEquals(8, results.get(1));
+        assertEquals("foo", results.get(2));
+        assertEquals(7, ((V8Array) results.get(3)).getInteger(0));
+        ((V8Array) results.get(3)).release();
+    }
+
+    @Test
+    public void testExecuteScriptsCollectsErrors() {
+        List<Object> results = v8.executeScripts(Arrays.asList(new ScriptSource("throw 'oops';", "first.js", 5),
+                new ScriptSource("var x = ;"), new ScriptSource("1 + 1")));
+
+        V8ScriptExecutionException exception = (V8ScriptExecutionException) results.get(0);
+        assertEquals("first.js", exception.getFileName());
+        assertEquals(6, exception.getLineNumber());
+        assertTrue(results.get(1) instanceof V8ScriptCompilationException);
+        assertEquals(2, results.get(2));
+    }
+
+    @Test
+    public void testExecuteScriptsEmpty() {
+        assertTrue(v8.executeScripts(Arrays.<ScriptSource> asList()).isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testScriptSourceNullScript() {
+        new ScriptSource(null);
+    }
+
+    @Test
+    public void testAutoReleaseDisabledByDefault() {
+        assertFalse(v8.isAutoReleaseEnabled());
+        assertEquals(0, v8.releaseUnreachableValues());
+    }
+
+    @Test
+    public void testAutoReleaseUnreachableValues() throws InterruptedException {
+        v8.setAutoReleaseEnabled(true);
+        for (int i = 0; i < 100; i++) {
+            new V8Object(v8).add("index", i);
+        }
+        // Creating values may already have released some of the earlier ones
+        long tracked = v8.getObjectReferenceCount();
+
+        int released = 0;
+        for (int i = 0; (i < 50) && (released < tracked); i++) {
+            System.gc();
+            Thread.sleep(10);
+            released += v8.releaseUnreachableValues();
+        }
+
+        assertEquals(tracked, released);
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testAutoReleaseWhenValuesAreCreated() throws InterruptedException {
+        v8.setAutoReleaseEnabled(true);
+        new V8Object(v8);
+
+        for (int i = 0; (i < 50) && (v8.getObjectReferenceCount() > 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+            new V8Object(v8).release();
+        }
+
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testAutoReleaseExplicitRelease() throws InterruptedException {
+        v8.setAutoReleaseEnabled(true);
+        V8Object object = new V8Object(v8);
+
+        object.release();
+        object = null;
+        System.gc();
+        Thread.sleep(10);
+
+        assertEquals(0, v8.releaseUnreachableValues());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testAutoReleaseKeepsReachableValues() throws InterruptedException {
+        v8.setAutoReleaseEnabled(true);
+        V8Object object = v8.executeObjectScript("({foo: 'bar'})");
+
+        System.gc();
+        Thread.sleep(10);
+        v8.releaseUnreachableValues();
+
+        assertEquals("bar", object.getString("foo"));
+        object.release();
+    }
+
+    @Test
+    public void testAutoReleaseUnreachableValuesOnRelease() throws InterruptedException {
+        V8 runtime = V8.createV8Runtime();
+        runtime.setAutoReleaseEnabled(true);
+        WeakReference<V8Object> reference = new WeakReference<V8Object>(new V8Object(runtime));
+
+        for (int i = 0; (i < 50) && (reference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+        runtime.release(true);
+    }
+
 }
@@ -400,6 +400,31 @@ public class V8TypedArraysTest {
         }
     }
 
+    @Test
+    public void testCannotClearTypedArray_CheckMessage() {
+        V8Array array = (V8Array) v8.executeScript("var buf = new ArrayBuffer(8); var ints = new Int32Array(buf); ints");
+
+        try {
+            array.clear();
+        } catch (Exception e) {
+            assertEquals("Cannot change the length of a Typed Array.", e.getMessage());
+            return;
+        } finally {
+            array.release();
+        }
+        fail("Expected failure");
+    }
+
+    @Test
+    public void testSetIntInTypedArray() {
+        V8Array array = (V8Array) v8.executeScript("var buf = new ArrayBuffer(8); var ints = new Int32Array(buf); ints");
+
+        array.set(1, 7);
+
+        assertEquals(7, v8.executeIntegerScript("ints[1]"));
+        array.release();
+    }
+
     @Test
     public void testCannotPushIntToTypedArray_CheckMessage() {
         V8Array array = (V8Array) v8.executeScript("var buf = new ArrayBuffer(8); var ints = new Int32Array(buf); ints");
@@ -1445,4 +1470,197 @@ public class V8TypedArraysTest {
         }
     }
 
+
+    @Test
+    public void testGetFloat32() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Float32Array(3); a[2] = 1.5; a");
+
+        assertEquals(1.5f, array.getFloat32(2), 0.000001);
+        array.release();
+    }
+
+    @Test
+    public void testSetFloat64() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Float64Array(3); a");
+
+        array.setFloat64(1, 3.25);
+
+        assertEquals(3.25, v8.executeDoubleScript("a[1]"), 0.000001);
+        array.release();
+    }
+
+    @Test
+    public void testSetUint16() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Uint16Array(2); a");
+
+        array.setUint16(1, 65535);
+
+        assertEquals(65535, v8.executeIntegerScript("a[1]"));
+        assertEquals(65535, array.getUint16(1));
+        assertEquals(-1, array.getInt16(1));
+        array.release();
+    }
+
+    @Test
+    public void testGetUint32() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Uint32Array(1); a[0] = 4294967295; a");
+
+        assertEquals(4294967295L, array.getUint32(0));
+        array.release();
+    }
+
+    @Test
+    public void testSetInt8() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Int8Array(2); a");
+
+        array.setInt8(0, (byte) -5);
+
+        assertEquals(-5, v8.executeIntegerScript("a[0]"));
+        array.release();
+    }
+
+    @Test
+    public void testSetUint8Clamped() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Uint8ClampedArray(2); a");
+
+        array.setUint8(0, 300);
+        array.setUint8(1, -4);
+
+        assertEquals(255, v8.executeIntegerScript("a[0]"));
+        assertEquals(0, v8.executeIntegerScript("a[1]"));
+        array.release();
+    }
+
+    @Test
+    public void testSetUint8Wraps() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Uint8Array(1); a");
+
+        array.setUint8(0, 300);
+
+        assertEquals(44, array.getUint8(0));
+        array.release();
+    }
+
+    @Test
+    public void testGetInt32UsesByteOffset() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var buf = new ArrayBuffer(16); new Int32Array(buf)[2] = 7; new Int32Array(buf, 8, 2)");
+
+        assertEquals(7, array.getInt32(0));
+        array.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTypedAccessorOutOfBounds() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Float32Array(3)");
+
+        try {
+            array.getFloat32(3);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTypedAccessorNegativeIndex() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Int32Array(3)");
+
+        try {
+            array.setInt32(-1, 0);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testTypedAccessorWrongType() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Int32Array(3)");
+
+        try {
+            array.getFloat32(0);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test
+    public void testCopyToFloats() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Float32Array([1, 2, 3, 4]); a");
+        float[] result = new float[3];
+
+        array.copyTo(result);
+
+        assertEquals(1f, result[0], 0.000001);
+        assertEquals(3f, result[2], 0.000001);
+        array.release();
+    }
+
+    @Test
+    public void testCopyFromDoubles() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Float64Array(4); a");
+
+        array.copyFrom(new double[] { 1.5, 2.5 });
+
+        assertEquals(2.5, v8.executeDoubleScript("a[1]"), 0.000001);
+        assertEquals(0, v8.executeIntegerScript("a[2]"));
+        array.release();
+    }
+
+    @Test
+    public void testCopyFromIntsToSubarray() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Int32Array(4); a.subarray(2)");
+
+        array.copyFrom(new int[] { 8, 9 });
+
+        assertEquals(8, v8.executeIntegerScript("a[2]"));
+        assertEquals(9, v8.executeIntegerScript("a[3]"));
+        array.release();
+    }
+
+    @Test
+    public void testCopyToShortsAndBytes() {
+        V8TypedArray shorts = (V8TypedArray) v8.executeScript("new Int16Array([-1, 2])");
+        V8TypedArray bytes = (V8TypedArray) v8.executeScript("new Uint8Array([200, 1])");
+        short[] shortResult = new short[2];
+        byte[] byteResult = new byte[2];
+
+        shorts.copyTo(shortResult);
+        bytes.copyTo(byteResult);
+
+        assertEquals(-1, shortResult[0]);
+        assertEquals((byte) 200, byteResult[0]);
+        shorts.release();
+        bytes.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCopyToTooLarge() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Float32Array(2)");
+
+        try {
+            array.copyTo(new float[3]);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test
+    public void testTypedAccessorAfterTransfer() {
+        V8 other = V8.createV8Runtime();
+        V8TypedArray array = (V8TypedArray) v8.executeScript("var a = new Int32Array(4); a");
+        array.setInt32(0, 1);
+        V8ArrayBuffer buffer = array.getBuffer();
+
+        buffer.transferTo(other).release();
+
+        try {
+            array.getInt32(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // the array is detached
+        } finally {
+            array.release();
+            other.release();
+        }
+    }
+
 }
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Value;
+
+public class ColumnarBatchTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testNumericColumnsAreTypedArrays() {
+        ColumnarBatch batch = new ColumnarBatch(3)
+                .addInt32Column("id", new int[] { 1, 2, 3 })
+                .addFloat64Column("price", new double[] { 1.5, 2.5, 3.5 })
+                .addFloat32Column("weight", new float[] { 0.5f, 1f, 2f });
+
+        V8Object object = batch.toV8Object(v8);
+        v8.add("batch", object);
+
+        assertEquals("Int32Array", v8.executeStringScript("batch.id.constructor.name"));
+        assertEquals("Float64Array", v8.executeStringScript("batch.price.constructor.name"));
+        assertEquals("Float32Array", v8.executeStringScript("batch.weight.constructor.name"));
+        assertEquals(3.5, v8.executeDoubleScript("batch.price[2]"), 0.000001);
+        assertEquals(6, v8.executeIntegerScript("batch.id[0] + batch.id[1] + batch.id[2]"));
+        object.release();
+    }
+
+    @Test
+    public void testColumnsShareOneBuffer() {
+        ColumnarBatch batch = new ColumnarBatch(1)
+                .addInt32Column("a", new int[] { 1 })
+                .addFloat64Column("b", new double[] { 2 });
+
+        V8Object object = batch.toV8Object(v8);
+        v8.add("batch", object);
+
+        assertEquals(true, v8.executeBooleanScript("batch.a.buffer === batch.b.buffer"));
+        assertEquals(0, v8.executeIntegerScript("batch.b.byteOffset % 8"));
+        object.release();
+    }
+
+    @Test
+    public void testStringColumnIsDictionaryEncoded() {
+        ColumnarBatch batch = new ColumnarBatch(4).addStringColumn("city", new String[] { "Zurich", "Berlin", "Zurich", null });
+
+        V8Object object = batch.toV8Object(v8);
+        v8.add("batch", object);
+
+        assertEquals(2, v8.executeIntegerScript("batch.city.dictionary.length"));
+        assertEquals("Zurich", v8.executeStringScript("batch.city.dictionary[batch.city.codes[2]]"));
+        assertEquals(-1, v8.executeIntegerScript("batch.city.codes[3]"));
+        object.release();
+    }
+
+    @Test
+    public void testRoundTrip() {
+        ColumnarBatch batch = new ColumnarBatch(2)
+                .addInt32Column("id", new int[] { 7, 8 })
+                .addFloat32Column("x", new float[] { 1.25f, 2.5f })
+                .addStringColumn("name", new String[] { "a", null });
+
+        V8Object object = batch.toV8Object(v8);
+        ColumnarBatch result = ColumnarBatch.fromV8Object(object);
+
+        assertEquals(2, result.getRowCount());
+        assertArrayEquals(new String[] { "id", "x", "name" }, result.getColumnNames());
+        assertArrayEquals(new int[] { 7, 8 }, result.getInt32Column("id"));
+        assertEquals(2.5f, result.getFloat32Column("x")[1], 0.000001);
+        assertArrayEquals(new String[] { "a", null }, result.getStringColumn("name"));
+        object.release();
+    }
+
+    @Test
+    public void testResultFromScript() {
+        ColumnarBatch batch = new ColumnarBatch(3).addFloat64Column("x", new double[] { 1, 2, 3 });
+        V8Object input = batch.toV8Object(v8);
+        v8.add("input", input);
+
+        V8Object output = (V8Object) v8.executeScript("var y = new Float64Array(input.x.length);\n"
+                + "for (var i = 0; i < y.length; i++) { y[i] = input.x[i] * 2; }\n"
+                + "({ y : y, label : ['a', 'b', 'c'] });");
+        ColumnarBatch result = ColumnarBatch.fromV8Object(output);
+
+        assertEquals(V8Value.FLOAT_64_ARRAY, result.getColumnType("y"));
+        assertEquals(6, result.getFloat64Column("y")[2], 0.000001);
+        assertArrayEquals(new String[] { "a", "b", "c" }, result.getStringColumn("label"));
+        input.release();
+        output.release();
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        ColumnarBatch batch = new ColumnarBatch(0).addInt32Column("id", new int[0]);
+
+        V8Object object = batch.toV8Object(v8);
+        ColumnarBatch result = ColumnarBatch.fromV8Object(object);
+
+        assertEquals(0, result.getRowCount());
+        assertEquals(0, result.getInt32Column("id").length);
+        object.release();
+    }
+
+    @Test
+    public void testStringColumnWithNullOnly() {
+        ColumnarBatch batch = new ColumnarBatch(1).addStringColumn("s", new String[] { null });
+
+        V8Object object = batch.toV8Object(v8);
+
+        assertNull(ColumnarBatch.fromV8Object(object).getStringColumn("s")[0]);
+        object.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnLengthMismatch() {
+        new ColumnarBatch(2).addInt32Column("id", new int[] { 1 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateColumn() {
+        new ColumnarBatch(1).addInt32Column("id", new int[] { 1 }).addFloat64Column("id", new double[] { 1 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongColumnType() {
+        new ColumnarBatch(1).addInt32Column("id", new int[] { 1 }).getFloat64Column("id");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnequalColumnsFromScript() {
+        V8Object object = v8.executeObjectScript("({ a : new Int32Array(2), b : new Int32Array(3) })");
+
+        try {
+            ColumnarBatch.fromV8Object(object);
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnsupportedColumnFromScript() {
+        V8Object object = v8.executeObjectScript("({ a : 1 })");
+
+        try {
+            ColumnarBatch.fromV8Object(object);
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInvalidStringCodeFromScript() {
+        V8Object object = v8.executeObjectScript("({ a : { codes : new Int32Array([0, 2]), dictionary : ['x', 'y'] } })");
+
+        try {
+            ColumnarBatch.fromV8Object(object);
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStringCodesNotInt32FromScript() {
+        V8Object object = v8.executeObjectScript("({ a : { codes : new Float64Array([0.5]), dictionary : ['x'] } })");
+
+        try {
+            ColumnarBatch.fromV8Object(object);
+        } finally {
+            object.release();
+        }
+    }
+
+}
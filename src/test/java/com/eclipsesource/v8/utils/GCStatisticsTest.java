@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.GCHandler;
+import com.eclipsesource.v8.V8;
+
+public class GCStatisticsTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testAggregatesByType() {
+        GCStatistics statistics = new GCStatistics();
+
+        statistics.gcCompleted(v8, GCHandler.SCAVENGE, 100);
+        statistics.gcCompleted(v8, GCHandler.SCAVENGE, 300);
+        statistics.gcCompleted(v8, GCHandler.MARK_SWEEP_COMPACT, 1000);
+
+        assertEquals(2, statistics.getCount(GCHandler.SCAVENGE));
+        assertEquals(400, statistics.getTotalPauseTime(GCHandler.SCAVENGE));
+        assertEquals(300, statistics.getMaxPauseTime(GCHandler.SCAVENGE));
+        assertEquals(1, statistics.getCount(GCHandler.MARK_SWEEP_COMPACT));
+        assertEquals(0, statistics.getCount(GCHandler.INCREMENTAL_MARKING));
+    }
+
+    @Test
+    public void testPauseTimeHistogram() {
+        GCStatistics statistics = new GCStatistics();
+
+        statistics.gcCompleted(v8, GCHandler.SCAVENGE, 10);
+        statistics.gcCompleted(v8, GCHandler.MARK_SWEEP_COMPACT, 20);
+
+        assertEquals(1, statistics.getPauseTimeHistogram(GCHandler.SCAVENGE).getTotalCount());
+        assertEquals(2, statistics.getPauseTimeHistogram().getTotalCount());
+        assertEquals(20, statistics.getPauseTimeHistogram().getMaxValue());
+    }
+
+    @Test
+    public void testReset() {
+        GCStatistics statistics = new GCStatistics();
+        statistics.gcCompleted(v8, GCHandler.SCAVENGE, 10);
+
+        statistics.reset();
+
+        assertEquals(0, statistics.getCount(GCHandler.SCAVENGE));
+        assertEquals(0, statistics.getMaxPauseTime(GCHandler.SCAVENGE));
+        assertEquals(0, statistics.getPauseTimeHistogram().getTotalCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownGCType() {
+        new GCStatistics().getCount(3);
+    }
+
+    @Test
+    public void testRecordsRuntimeCollections() {
+        GCStatistics statistics = new GCStatistics();
+        v8.addGCHandler(statistics);
+
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 10000; i++) { data.push({index : i}); } data = null;");
+        v8.lowMemoryNotification();
+
+        assertTrue(statistics.getCount(GCHandler.MARK_SWEEP_COMPACT) > 0);
+        assertTrue(statistics.getTotalPauseTime(GCHandler.MARK_SWEEP_COMPACT) > 0);
+    }
+
+    @Test
+    public void testNoCollectionsRecordedAfterRemove() {
+        GCStatistics statistics = new GCStatistics();
+        v8.addGCHandler(statistics);
+        v8.removeGCHandler(statistics);
+
+        v8.lowMemoryNotification();
+
+        assertEquals(0, statistics.getPauseTimeHistogram().getTotalCount());
+    }
+
+}
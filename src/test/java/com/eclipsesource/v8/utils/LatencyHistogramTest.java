@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMinValue());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0, histogram.getMean(), 0.0001);
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testRecordValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.recordValue(10);
+        histogram.recordValue(20);
+
+        assertEquals(2, histogram.getTotalCount());
+        assertEquals(30, histogram.getTotalValue());
+        assertEquals(10, histogram.getMinValue());
+        assertEquals(20, histogram.getMaxValue());
+        assertEquals(15, histogram.getMean(), 0.0001);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeValueNotAllowed() {
+        new LatencyHistogram().recordValue(-1);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram.recordValue(i);
+        }
+
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(50, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testLargeValuesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.recordValue(i * 1000000);
+        }
+
+        long median = histogram.getValueAtPercentile(50);
+
+        assertTrue(median >= 500000000L);
+        assertTrue(median <= (500000000L + (500000000L / 32)));
+    }
+
+    @Test
+    public void testPercentileNeverExceedsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.recordValue(1000001);
+
+        assertEquals(1000001, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testMaxLongValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.recordValue(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testIndexIsMonotonic() {
+        int previous = 0;
+        for (long value = 0; value < 100000; value++) {
+            int index = LatencyHistogram.getIndex(value);
+            assertTrue(index >= previous);
+            assertTrue(LatencyHistogram.getHighestEquivalentValue(index) >= value);
+            previous = index;
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().getValueAtPercentile(101);
+    }
+
+    @Test
+    public void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.recordValue(5);
+        second.recordValue(100);
+
+        first.add(second);
+
+        assertEquals(2, first.getTotalCount());
+        assertEquals(5, first.getMinValue());
+        assertEquals(100, first.getMaxValue());
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(5);
+
+        LatencyHistogram copy = histogram.copy();
+        histogram.recordValue(10);
+
+        assertEquals(1, copy.getTotalCount());
+        assertEquals(5, copy.getMaxValue());
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(5);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+}
@@ -228,6 +228,40 @@ public class MemoryManagerTest {
         object.release();
     }
 
+    @Test
+    public void testPersistKeepsTwinManaged() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        V8Object object = new V8Object(v8);
+        V8Object twin = object.twin();
+
+        memoryManager.persist(object);
+        memoryManager.release();
+
+        assertFalse(object.isReleased());
+        assertTrue(twin.isReleased());
+        object.release();
+    }
+
+    @Test
+    public void testPersistManyObjects() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        V8Object[] objects = new V8Object[10000];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = new V8Object(v8);
+        }
+
+        for (int i = 0; i < objects.length; i += 2) {
+            memoryManager.persist(objects[i]);
+        }
+
+        assertEquals(5000, memoryManager.getObjectReferenceCount());
+        memoryManager.release();
+        for (int i = 0; i < objects.length; i++) {
+            assertEquals(i % 2 == 1, objects[i].isReleased());
+            objects[i].release();
+        }
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testCannotCallPersistOnReleasedManager() {
         MemoryManager memoryManager = new MemoryManager(v8);
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
+import com.eclipsesource.v8.V8TypedArray;
+import com.eclipsesource.v8.V8Value;
+
+public class MemoryMappedFilesTest {
+
+    private V8   v8;
+    private File file;
+
+    @Before
+    public void setup() throws IOException {
+        v8 = V8.createV8Runtime();
+        file = File.createTempFile("j2v8", ".bin");
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            for (int i = 0; i < 100; i++) {
+                outputStream.write(i);
+            }
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            file.delete();
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMapFile() throws IOException {
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file);
+        v8.add("buf", buffer);
+
+        assertEquals(100, v8.executeIntegerScript("buf.byteLength"));
+        assertEquals(42, v8.executeIntegerScript("new Uint8Array(buf)[42]"));
+        buffer.release();
+    }
+
+    @Test
+    public void testMapFile_BackingStore() throws IOException {
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file);
+
+        assertEquals(99, buffer.getBackingStore().get(99));
+        buffer.release();
+    }
+
+    @Test
+    public void testMapRegion() throws IOException {
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file, 10, 20);
+        v8.add("buf", buffer);
+
+        assertEquals(20, v8.executeIntegerScript("buf.byteLength"));
+        assertEquals(10, v8.executeIntegerScript("new Uint8Array(buf)[0]"));
+        buffer.release();
+    }
+
+    @Test
+    public void testMapFile_TypedArrayView() throws IOException {
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file);
+
+        V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.UNSIGNED_INT_8_ARRAY, 50, 10);
+
+        assertEquals(55, array.getInteger(5));
+        array.release();
+        buffer.release();
+    }
+
+    @Test
+    public void testWritesAreNotWrittenToFile() throws IOException {
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file);
+        v8.add("buf", buffer);
+
+        v8.executeVoidScript("new Uint8Array(buf)[0] = 255;");
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            assertEquals(0, randomAccessFile.read());
+        } finally {
+            randomAccessFile.close();
+        }
+        buffer.release();
+    }
+
+    @Test
+    public void testMapRegions() throws IOException {
+        V8Array regions = MemoryMappedFiles.mapRegions(v8, file, 40);
+        v8.add("regions", regions);
+
+        assertEquals(3, regions.length());
+        assertEquals(20, v8.executeIntegerScript("regions[2].byteLength"));
+        assertEquals(80, v8.executeIntegerScript("new Uint8Array(regions[2])[0]"));
+        regions.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapRegions_InvalidRegionSize() throws IOException {
+        MemoryMappedFiles.mapRegions(v8, file, 7);
+    }
+
+    @Test
+    public void testMapEmptyFile() throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(0);
+        randomAccessFile.close();
+
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file);
+
+        assertEquals(0, buffer.getBackingStore().capacity());
+        buffer.release();
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void testMapMissingFile() throws IOException {
+        File missingFile = new File(file.getParentFile(), file.getName() + ".missing");
+
+        try {
+            MemoryMappedFiles.map(v8, missingFile);
+        } finally {
+            assertFalse(missingFile.exists());
+        }
+    }
+
+    @Test
+    public void testMapReadOnlyFile() throws IOException {
+        file.setReadOnly();
+        V8ArrayBuffer buffer = MemoryMappedFiles.map(v8, file, 10, 20);
+        v8.add("buf", buffer);
+
+        v8.executeVoidScript("new Uint8Array(buf)[1] = 255;");
+
+        assertEquals(20, v8.executeIntegerScript("buf.byteLength"));
+        assertEquals(10, v8.executeIntegerScript("new Uint8Array(buf)[0]"));
+        assertEquals(255, v8.executeIntegerScript("new Uint8Array(buf)[1]"));
+        buffer.release();
+    }
+
+    @Test
+    public void testMapRegionsOfReadOnlyFile() throws IOException {
+        file.setReadOnly();
+        V8Array regions = MemoryMappedFiles.mapRegions(v8, file, 40);
+        v8.add("regions", regions);
+
+        assertEquals(3, regions.length());
+        assertEquals(80, v8.executeIntegerScript("new Uint8Array(regions[2])[0]"));
+        regions.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapRegionBeyondEndOfFile() throws IOException {
+        MemoryMappedFiles.map(v8, file, 90, 20);
+    }
+
+    @Test
+    public void testMapSameFileInTwoRuntimes() throws IOException {
+        V8 other = V8.createV8Runtime();
+        try {
+            V8ArrayBuffer buffer1 = MemoryMappedFiles.map(v8, file);
+            V8ArrayBuffer buffer2 = MemoryMappedFiles.map(other, file);
+
+            assertEquals(buffer1.getBackingStore().get(7), buffer2.getBackingStore().get(7));
+            buffer1.release();
+            buffer2.release();
+        } finally {
+            other.release();
+        }
+    }
+
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+
+public class V8BeanMapperTest {
+
+    private V8           v8;
+    private V8BeanMapper mapper;
+
+    enum Color {
+        RED, GREEN
+    }
+
+    static class Point {
+        int    x;
+        double y;
+    }
+
+    static class Shape {
+        String               name;
+        long                 id;
+        boolean              visible;
+        char                 kind;
+        Color                color;
+        int[]                weights;
+        List<Point>          points = new ArrayList<Point>();
+        Shape                parent;
+        transient String     ignored;
+        static String        constant = "constant";
+    }
+
+    static class Base {
+        String label = "base";
+    }
+
+    static class Derived extends Base {
+        String label = "derived";
+    }
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+        mapper = new V8BeanMapper();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testToV8Object() {
+        Shape shape = createShape();
+
+        V8Object object = mapper.toV8Object(v8, shape);
+        v8.add("shape", object);
+
+        assertEquals("triangle", v8.executeStringScript("shape.name"));
+        assertEquals(3, v8.executeIntegerScript("shape.points.length"));
+        assertEquals(2.5, v8.executeDoubleScript("shape.points[1].y"), 0.000001);
+        assertEquals("GREEN", v8.executeStringScript("shape.color"));
+        assertEquals("t", v8.executeStringScript("shape.kind"));
+        assertEquals(6, v8.executeIntegerScript("shape.weights[0] + shape.weights[1] + shape.weights[2]"));
+        assertTrue(v8.executeBooleanScript("shape.parent === shape"));
+        assertTrue(v8.executeBooleanScript("shape.ignored === undefined && shape.constant === undefined"));
+        object.release();
+    }
+
+    @Test
+    public void testFromV8Object() {
+        V8Object object = v8.executeObjectScript("var s = {name: 'square', id: 5000000000, visible: true, kind: 's', color: 'RED', weights: [4, 5],"
+                + " points: [{x: 1, y: 0.5}, {x: 2, y: 1.5}]}; s.parent = s; s");
+
+        Shape shape = mapper.fromV8Object(object, Shape.class);
+
+        assertEquals("square", shape.name);
+        assertEquals(5000000000L, shape.id);
+        assertTrue(shape.visible);
+        assertEquals('s', shape.kind);
+        assertEquals(Color.RED, shape.color);
+        assertArrayEquals(new int[] { 4, 5 }, shape.weights);
+        assertEquals(2, shape.points.size());
+        assertEquals(2, shape.points.get(1).x);
+        assertEquals(1.5, shape.points.get(1).y, 0.000001);
+        assertSame(shape, shape.parent);
+        object.release();
+    }
+
+    @Test
+    public void testRoundTrip() {
+        V8Object object = mapper.toV8Object(v8, createShape());
+
+        Shape result = mapper.fromV8Object(object, Shape.class);
+
+        assertEquals("triangle", result.name);
+        assertEquals(42, result.id);
+        assertEquals(3, result.points.size());
+        assertNull(result.ignored);
+        object.release();
+    }
+
+    @Test
+    public void testToV8ArrayAndBack() {
+        Point first = new Point();
+        first.x = 1;
+        Point second = new Point();
+        second.x = 2;
+
+        V8Array array = mapper.toV8Array(v8, Arrays.asList(first, second));
+        List<Point> result = mapper.fromV8Array(array, Point.class);
+
+        assertEquals(2, array.length());
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(1).x);
+        array.release();
+    }
+
+    @Test
+    public void testMissingPropertiesKeepDefaults() {
+        V8Object object = v8.executeObjectScript("({x: 7})");
+
+        Point point = mapper.fromV8Object(object, Point.class);
+
+        assertEquals(7, point.x);
+        assertEquals(0, point.y, 0);
+        object.release();
+    }
+
+    @Test
+    public void testSubclassFieldHidesSuperclassField() {
+        V8Object object = mapper.toV8Object(v8, new Derived());
+        v8.add("derived", object);
+
+        assertEquals("derived", v8.executeStringScript("derived.label"));
+        object.release();
+    }
+
+    @Test
+    public void testSubclassFieldHidesSuperclassFieldFromV8Object() {
+        V8Object object = v8.executeObjectScript("({label: 'js'})");
+
+        Derived derived = mapper.fromV8Object(object, Derived.class);
+
+        assertEquals("js", derived.label);
+        assertEquals("base", ((Base) derived).label);
+        object.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedFieldValue() {
+        mapper.toV8Object(v8, new Object() {
+            @SuppressWarnings("unused")
+            Thread thread = Thread.currentThread();
+        });
+    }
+
+    private Shape createShape() {
+        Shape shape = new Shape();
+        shape.name = "triangle";
+        shape.id = 42;
+        shape.visible = true;
+        shape.kind = 't';
+        shape.color = Color.GREEN;
+        shape.weights = new int[] { 1, 2, 3 };
+        shape.ignored = "ignored";
+        for (int i = 0; i < 3; i++) {
+            Point point = new Point();
+            point.x = i;
+            point.y = i + 1.5;
+            shape.points.add(point);
+        }
+        shape.parent = shape;
+        return shape;
+    }
+
+}
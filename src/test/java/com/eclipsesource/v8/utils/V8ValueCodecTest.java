@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Value;
+import com.eclipsesource.v8.utils.V8ValueCodec.TypedArray;
+
+public class V8ValueCodecTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testEncodeDecodePrimitives() {
+        assertNull(V8ValueCodec.decode(V8ValueCodec.encode(null)));
+        assertEquals(V8.getUndefined(), V8ValueCodec.decode(V8ValueCodec.encode(V8.getUndefined())));
+        assertEquals(true, V8ValueCodec.decode(V8ValueCodec.encode(true)));
+        assertEquals(7, V8ValueCodec.decode(V8ValueCodec.encode(7)));
+        assertEquals(7, V8ValueCodec.decode(V8ValueCodec.encode(7L)));
+        assertEquals(1.5, V8ValueCodec.decode(V8ValueCodec.encode(1.5f)));
+        assertEquals("café", V8ValueCodec.decode(V8ValueCodec.encode("café")));
+        assertEquals("€", V8ValueCodec.decode(V8ValueCodec.encode("€")));
+        assertEquals(new Date(1000), V8ValueCodec.decode(V8ValueCodec.encode(new Date(1000))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testEncodeDecodeCycle() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("self", map);
+
+        Map<String, Object> result = (Map<String, Object>) V8ValueCodec.decode(V8ValueCodec.encode(map));
+
+        assertSame(result, result.get("self"));
+    }
+
+    @Test
+    public void testEncodeDecodeSharedBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        List<Object> list = Arrays.<Object> asList(new TypedArray(V8Value.INT_32_ARRAY, buffer), new TypedArray(V8Value.FLOAT_64_ARRAY, buffer, 8, 1));
+
+        List<?> result = (List<?>) V8ValueCodec.decode(V8ValueCodec.encode(list));
+
+        TypedArray first = (TypedArray) result.get(0);
+        TypedArray second = (TypedArray) result.get(1);
+        assertSame(first.getBuffer(), second.getBuffer());
+        assertEquals(V8Value.FLOAT_64_ARRAY, second.getType());
+        assertEquals(8, second.getByteOffset());
+        assertEquals(1, second.getLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEncodeUnsupportedType() {
+        V8ValueCodec.encode(new Object());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeInvalidData() {
+        V8ValueCodec.decode(ByteBuffer.wrap(new byte[] { (byte) 0xFF, 1, 'o', 100, 0, 0, 0 }));
+    }
+
+    @Test
+    public void testSerializeAndDecode() {
+        V8Object object = v8.executeObjectScript("var o = {name: 'x', list: [1, 2.5, null, true], when: new Date(5)}; o.list.push(o); o");
+
+        Map<?, ?> result = (Map<?, ?>) V8ValueCodec.decode(v8.serialize(object));
+
+        List<?> list = (List<?>) result.get("list");
+        assertEquals("x", result.get("name"));
+        assertEquals(Arrays.asList(1, 2.5, null, true), list.subList(0, 4));
+        assertSame(result, list.get(4));
+        assertEquals(new Date(5), result.get("when"));
+        object.release();
+    }
+
+    @Test
+    public void testSerializeTypedArray() {
+        V8Object object = v8.executeObjectScript("var b = new ArrayBuffer(16); new Float64Array(b)[1] = 2.5; ({a: new Int8Array(b), b: new Float64Array(b, 8, 1)})");
+
+        Map<?, ?> result = (Map<?, ?>) V8ValueCodec.decode(v8.serialize(object));
+
+        TypedArray a = (TypedArray) result.get("a");
+        TypedArray b = (TypedArray) result.get("b");
+        assertEquals(V8Value.INT_8_ARRAY, a.getType());
+        assertSame(a.getBuffer(), b.getBuffer());
+        assertEquals(2.5, b.getByteBuffer().getDouble(0), 0);
+        object.release();
+    }
+
+    @Test
+    public void testEncodeAndDeserialize() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, 42);
+        map.put("values", new TypedArray(V8Value.INT_32_ARRAY, buffer));
+        map.put("buffer", buffer);
+        map.put("self", map);
+
+        V8Object result = (V8Object) v8.deserialize(V8ValueCodec.encode(map));
+        v8.add("result", result);
+
+        assertEquals(42, v8.executeIntegerScript("result.values[0]"));
+        assertTrue(v8.executeBooleanScript("result.values.buffer === result.buffer"));
+        assertTrue(v8.executeBooleanScript("result.self === result"));
+        result.release();
+    }
+
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8ScriptCompilationException;
+import com.eclipsesource.v8.V8ScriptExecutionException;
+import com.eclipsesource.v8.V8TypedArray;
+
+public class VectorizedEvaluatorTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testEvaluateDoubleColumns() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "price * quantity", "price", "quantity");
+        double[] output = new double[3];
+
+        evaluator.evaluate(new double[][] { { 1, 2, 3 }, { 4, 5, 6 } }, output);
+
+        assertArrayEquals(new double[] { 4, 10, 18 }, output, 0.000001);
+        evaluator.release();
+    }
+
+    @Test
+    public void testEvaluateRepeatedly() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "Math.max(a, 0)", "a");
+        double[] output = new double[2];
+
+        evaluator.evaluate(new double[][] { { -1, 1 } }, output);
+        evaluator.evaluate(new double[][] { { 3, -3 } }, output);
+
+        assertArrayEquals(new double[] { 3, 0 }, output, 0.000001);
+        evaluator.release();
+    }
+
+    @Test
+    public void testEvaluateDifferentRowCounts() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "a + 1", "a");
+        double[] small = new double[1];
+        double[] large = new double[4];
+
+        evaluator.evaluate(new double[][] { { 1 } }, small);
+        evaluator.evaluate(new double[][] { { 1, 2, 3, 4 } }, large);
+
+        assertEquals(2, small[0], 0.000001);
+        assertArrayEquals(new double[] { 2, 3, 4, 5 }, large, 0.000001);
+        evaluator.release();
+    }
+
+    @Test
+    public void testEvaluateWithoutVariables() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "row * 2");
+        double[] output = new double[3];
+
+        evaluator.evaluate(new double[0][], output);
+
+        assertArrayEquals(new double[] { 0, 2, 4 }, output, 0.000001);
+        evaluator.release();
+    }
+
+    @Test
+    public void testEvaluateEmptyColumns() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "a", "a");
+        double[] output = new double[0];
+
+        evaluator.evaluate(new double[][] { {} }, output);
+
+        evaluator.release();
+    }
+
+    @Test
+    public void testEvaluateTypedArrays() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "x > 1 ? y : -y", "x", "y");
+        V8TypedArray x = (V8TypedArray) v8.executeScript("new Int32Array([0, 2])");
+        V8TypedArray y = (V8TypedArray) v8.executeScript("new Float32Array([1.5, 2.5])");
+        V8TypedArray output = (V8TypedArray) v8.executeScript("new Float64Array(2)");
+
+        evaluator.evaluate(new V8TypedArray[] { x, y }, output);
+
+        assertEquals(-1.5, output.getFloat64(0), 0.000001);
+        assertEquals(2.5, output.getFloat64(1), 0.000001);
+        x.release();
+        y.release();
+        output.release();
+        evaluator.release();
+    }
+
+    @Test
+    public void testExpressionEndingWithComment() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "a // comment", "a");
+        double[] output = new double[1];
+
+        evaluator.evaluate(new double[][] { { 5 } }, output);
+
+        assertEquals(5, output[0], 0.000001);
+        evaluator.release();
+    }
+
+    @Test(expected = V8ScriptCompilationException.class)
+    public void testInvalidExpression() {
+        new VectorizedEvaluator(v8, "a +", "a");
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testExpressionThrows() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "undefinedFunction(a)", "a");
+
+        try {
+            evaluator.evaluate(new double[][] { { 1 } }, new double[1]);
+        } finally {
+            evaluator.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidVariableName() {
+        new VectorizedEvaluator(v8, "1", "a-b");
+    }
+
+    @Test
+    public void testVariablesNamedLikeInternals() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "rows * 2 + output + row", "rows", "output", "row");
+        double[] output = new double[5];
+        double[] ones = new double[] { 1, 1, 1, 1, 1 };
+
+        evaluator.evaluate(new double[][] { { 1, 2, 3, 4, 5 }, ones, ones }, output);
+
+        assertArrayEquals(new double[] { 4, 6, 8, 10, 12 }, output, 0.000001);
+        evaluator.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReservedVariableName() {
+        new VectorizedEvaluator(v8, "1", "$$row");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongNumberOfColumns() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "a", "a");
+
+        try {
+            evaluator.evaluate(new double[][] { { 1 }, { 2 } }, new double[1]);
+        } finally {
+            evaluator.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnTooShort() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "a", "a");
+
+        try {
+            evaluator.evaluate(new double[][] { { 1 } }, new double[2]);
+        } finally {
+            evaluator.release();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEvaluateAfterRelease() {
+        VectorizedEvaluator evaluator = new VectorizedEvaluator(v8, "a", "a");
+        evaluator.release();
+
+        evaluator.evaluate(new double[][] { { 1 } }, new double[1]);
+    }
+
+}